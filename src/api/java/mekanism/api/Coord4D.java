@@ -141,10 +141,10 @@ public class Coord4D {//TODO: Replace this with GlobalPos
      * @param data - the TileNetworkList to add the data to
      */
     public void write(TileNetworkList data) {
-        data.add(x);
-        data.add(y);
-        data.add(z);
-        data.add(dimension.getRegistryName());
+        data.addInt(x);
+        data.addInt(y);
+        data.addInt(z);
+        data.addResourceLocation(dimension.getRegistryName());
     }
 
     /**
@@ -1,14 +1,36 @@
 package mekanism.api;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.UUID;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import net.minecraft.item.ItemStack;
+import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.NonNullList;
+import net.minecraft.util.ResourceLocation;
 import org.apache.commons.lang3.Validate;
 
+/**
+ * List of data to sync. Besides adding boxed values to it, the typed add methods can be used to write values directly into an encoded segment of the list, which avoids
+ * boxing and looking up how to encode the values. Consecutive typed values are written to the same segment, which is stored in the list as a single {@link Segment}
+ * entry; adding any other entry ends the segment so that the order of the data is kept.
+ *
+ * All the segments of a list are written to one buffer, which gets reused along with the segments when the list is cleared, so a list that gets reused does not
+ * allocate anything for its typed values once the buffer is big enough. This means segments are only valid until the list they are from gets cleared.
+ */
 public class TileNetworkList extends NonNullList<Object> {
 
+    private final List<Segment> segmentPool = new ArrayList<>();
+    private int usedSegments;
+    @Nullable
+    private Segment segment;
+    @Nullable
+    private PacketBuffer buffer;
+
     public TileNetworkList() {
         super(new ArrayList<>(), null);
     }
@@ -21,4 +43,138 @@ public class TileNetworkList extends NonNullList<Object> {
     public static TileNetworkList withContents(@Nonnull Object... contents) {
         return new TileNetworkList(Arrays.asList(contents));
     }
-}
\ No newline at end of file
+
+    @Override
+    public void add(int index, @Nonnull Object element) {
+        //Anything that gets added needs to come after what was written to the current segment
+        segment = null;
+        super.add(index, element);
+    }
+
+    /**
+     * Clears the list, and allows the buffer and segments to be reused for the next data.
+     */
+    @Override
+    public void clear() {
+        segment = null;
+        usedSegments = 0;
+        if (buffer != null) {
+            buffer.clear();
+        }
+        super.clear();
+    }
+
+    /**
+     * Ends the current segment, so that any typed values added after this are kept as a separate entry. This allows syncing only parts of the data that changed.
+     */
+    public void endSegment() {
+        segment = null;
+    }
+
+    private PacketBuffer getSegment() {
+        if (buffer == null) {
+            buffer = new PacketBuffer(Unpooled.buffer());
+        }
+        if (segment == null) {
+            if (usedSegments == segmentPool.size()) {
+                segmentPool.add(new Segment(buffer));
+            }
+            Segment newSegment = segmentPool.get(usedSegments++);
+            newSegment.start = newSegment.end = buffer.writerIndex();
+            add(newSegment);
+            segment = newSegment;
+        }
+        return buffer;
+    }
+
+    private TileNetworkList endWrite() {
+        segment.end = buffer.writerIndex();
+        return this;
+    }
+
+    public TileNetworkList addByte(byte value) {
+        getSegment().writeByte(value);
+        return endWrite();
+    }
+
+    public TileNetworkList addShort(short value) {
+        getSegment().writeShort(value);
+        return endWrite();
+    }
+
+    public TileNetworkList addInt(int value) {
+        getSegment().writeInt(value);
+        return endWrite();
+    }
+
+    public TileNetworkList addLong(long value) {
+        getSegment().writeLong(value);
+        return endWrite();
+    }
+
+    public TileNetworkList addBoolean(boolean value) {
+        getSegment().writeBoolean(value);
+        return endWrite();
+    }
+
+    public TileNetworkList addFloat(float value) {
+        getSegment().writeFloat(value);
+        return endWrite();
+    }
+
+    public TileNetworkList addDouble(double value) {
+        getSegment().writeDouble(value);
+        return endWrite();
+    }
+
+    /**
+     * Writes the given enum value by its ordinal, to be read with {@link PacketBuffer#readEnumValue(Class)}.
+     *
+     * @apiNote Unlike adding a boxed {@link net.minecraft.util.Direction}, this does not write directions as an int.
+     */
+    public TileNetworkList addEnum(@Nonnull Enum<?> value) {
+        getSegment().writeEnumValue(value);
+        return endWrite();
+    }
+
+    public TileNetworkList addString(@Nonnull String value) {
+        getSegment().writeString(value);
+        return endWrite();
+    }
+
+    public TileNetworkList addUniqueId(@Nonnull UUID value) {
+        getSegment().writeUniqueId(value);
+        return endWrite();
+    }
+
+    public TileNetworkList addResourceLocation(@Nonnull ResourceLocation value) {
+        getSegment().writeResourceLocation(value);
+        return endWrite();
+    }
+
+    public TileNetworkList addItemStack(@Nonnull ItemStack value) {
+        getSegment().writeItemStack(value);
+        return endWrite();
+    }
+
+    /**
+     * Typed values written to a {@link TileNetworkList}, already encoded.
+     */
+    public static final class Segment {
+
+        private final ByteBuf buffer;
+        private int start;
+        private int end;
+
+        private Segment(ByteBuf buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * Writes the encoded values of this segment to the given buffer.
+         */
+        public void writeTo(ByteBuf output) {
+            output.writeBytes(buffer, start, end - start);
+        }
+    }
+}
@@ -5,9 +5,9 @@ package mekanism.api.energy;
  */
 public class EnergyStack {
 
-    public double amount;
+    public final FixedEnergy amount;
 
     public EnergyStack(double newAmount) {
-        amount = newAmount;
+        amount = FixedEnergy.of(newAmount);
     }
 }
\ No newline at end of file
@@ -0,0 +1,244 @@
+package mekanism.api.energy;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Mutable fixed-point amount of energy, made up of a whole number of Joules and a fraction in steps of 1/{@link #SCALE} Joules. Unlike doubles, adding, subtracting
+ * and splitting amounts is exact as long as the whole part stays in the range of a long, so buffers that see a lot of small transfers don't drift. Adding or
+ * subtracting past that range saturates at {@link Long#MAX_VALUE} or {@link Long#MIN_VALUE} Joules instead of wrapping around.
+ *
+ * Amounts can be negative, in which case the whole part is rounded down and the fraction is still positive. Doubles that get converted are rounded to the nearest step,
+ * and clamped to the range of a long as well. All the operations that take a double work on it directly, and apart from {@link #of(double)}, {@link #copy()} and {@link
+ * #divide(int)} nothing allocates a new amount, so amounts can be kept and reused in code that runs every tick.
+ */
+public final class FixedEnergy implements Comparable<FixedEnergy> {
+
+    /**
+     * Number of steps in a Joule.
+     */
+    public static final int SCALE = 10_000;
+
+    private long whole;
+    private int fraction;
+
+    public FixedEnergy() {
+    }
+
+    private FixedEnergy(long whole, int fraction) {
+        this.whole = whole;
+        this.fraction = fraction;
+    }
+
+    public static FixedEnergy of(double energy) {
+        return new FixedEnergy().set(energy);
+    }
+
+    public FixedEnergy copy() {
+        return new FixedEnergy(whole, fraction);
+    }
+
+    public FixedEnergy set(FixedEnergy energy) {
+        whole = energy.whole;
+        fraction = energy.fraction;
+        return this;
+    }
+
+    public FixedEnergy set(double energy) {
+        if (energy >= Long.MAX_VALUE) {
+            whole = Long.MAX_VALUE;
+            fraction = 0;
+        } else if (energy <= Long.MIN_VALUE) {
+            whole = Long.MIN_VALUE;
+            fraction = 0;
+        } else {
+            whole = wholeOf(energy);
+            fraction = fractionOf(energy);
+            if (fraction == SCALE) {
+                whole++;
+                fraction = 0;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @return The whole part of the given amount, which must be in the range of a long.
+     */
+    private static long wholeOf(double energy) {
+        return (long) Math.floor(energy);
+    }
+
+    /**
+     * @return The fraction of the given amount in steps, which must be in the range of a long. This can be {@link #SCALE} when it gets rounded up.
+     */
+    private static int fractionOf(double energy) {
+        return (int) Math.round((energy - Math.floor(energy)) * SCALE);
+    }
+
+    private static boolean inRange(double energy) {
+        return energy < Long.MAX_VALUE && energy > Long.MIN_VALUE;
+    }
+
+    public FixedEnergy add(FixedEnergy energy) {
+        return add(energy.whole, energy.fraction);
+    }
+
+    public FixedEnergy add(double energy) {
+        return inRange(energy) ? add(wholeOf(energy), fractionOf(energy)) : add(of(energy));
+    }
+
+    /**
+     * @param fraction - fraction in steps, at most {@link #SCALE}
+     */
+    private FixedEnergy add(long whole, int fraction) {
+        long sum = this.whole + whole;
+        if (((this.whole ^ sum) & (whole ^ sum)) < 0) {
+            //Overflowed
+            return saturate(whole > 0);
+        }
+        this.whole = sum;
+        this.fraction += fraction;
+        if (this.fraction >= SCALE) {
+            if (this.whole == Long.MAX_VALUE) {
+                return saturate(true);
+            }
+            this.whole++;
+            this.fraction -= SCALE;
+        }
+        return this;
+    }
+
+    public FixedEnergy subtract(FixedEnergy energy) {
+        return subtract(energy.whole, energy.fraction);
+    }
+
+    public FixedEnergy subtract(double energy) {
+        return inRange(energy) ? subtract(wholeOf(energy), fractionOf(energy)) : subtract(of(energy));
+    }
+
+    /**
+     * @param fraction - fraction in steps, at most {@link #SCALE}
+     */
+    private FixedEnergy subtract(long whole, int fraction) {
+        long difference = this.whole - whole;
+        if (((this.whole ^ whole) & (this.whole ^ difference)) < 0) {
+            //Overflowed
+            return saturate(whole < 0);
+        }
+        this.whole = difference;
+        this.fraction -= fraction;
+        if (this.fraction < 0) {
+            if (this.whole == Long.MIN_VALUE) {
+                return saturate(false);
+            }
+            this.whole--;
+            this.fraction += SCALE;
+        }
+        return this;
+    }
+
+    private FixedEnergy saturate(boolean positive) {
+        whole = positive ? Long.MAX_VALUE : Long.MIN_VALUE;
+        fraction = 0;
+        return this;
+    }
+
+    /**
+     * Clamps this amount between zero and the given maximum.
+     */
+    public FixedEnergy clamp(FixedEnergy max) {
+        if (whole < 0) {
+            whole = 0;
+            fraction = 0;
+        } else if (compareTo(max) > 0) {
+            set(max);
+        }
+        return this;
+    }
+
+    /**
+     * Clamps this amount between zero and the given maximum.
+     */
+    public FixedEnergy clamp(double max) {
+        if (whole < 0) {
+            whole = 0;
+            fraction = 0;
+        } else if (compareTo(max) > 0) {
+            set(max);
+        }
+        return this;
+    }
+
+    /**
+     * Splits this amount into the given number of parts, rounded down to the nearest step. Whatever is left after giving every part the result is less than a step for
+     * each part.
+     *
+     * @param parts - number of parts, must be positive
+     *
+     * @return A new amount containing the size of a part.
+     */
+    public FixedEnergy divide(int parts) {
+        return new FixedEnergy().setDivided(this, parts);
+    }
+
+    /**
+     * Sets this amount to the size of a part of the given amount, the same as {@link #divide(int)} without allocating a new amount.
+     *
+     * @param energy - amount to split, may be this amount
+     * @param parts  - number of parts, must be positive
+     */
+    public FixedEnergy setDivided(FixedEnergy energy, int parts) {
+        long remainder = Math.floorMod(energy.whole, (long) parts);
+        long newWhole = Math.floorDiv(energy.whole, parts);
+        fraction = (int) ((remainder * SCALE + energy.fraction) / parts);
+        whole = newWhole;
+        return this;
+    }
+
+    public boolean isZero() {
+        return whole == 0 && fraction == 0;
+    }
+
+    public boolean isPositive() {
+        return whole > 0 || whole == 0 && fraction > 0;
+    }
+
+    public double toDouble() {
+        return whole + fraction / (double) SCALE;
+    }
+
+    @Override
+    public int compareTo(@Nonnull FixedEnergy other) {
+        int compare = Long.compare(whole, other.whole);
+        return compare == 0 ? Integer.compare(fraction, other.fraction) : compare;
+    }
+
+    public int compareTo(double other) {
+        if (!inRange(other)) {
+            return compareTo(of(other));
+        }
+        long otherWhole = wholeOf(other);
+        int otherFraction = fractionOf(other);
+        if (otherFraction == SCALE) {
+            otherWhole++;
+            otherFraction = 0;
+        }
+        int compare = Long.compare(whole, otherWhole);
+        return compare == 0 ? Integer.compare(fraction, otherFraction) : compare;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj == this || obj instanceof FixedEnergy && whole == ((FixedEnergy) obj).whole && fraction == ((FixedEnergy) obj).fraction;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(whole) + fraction;
+    }
+
+    @Override
+    public String toString() {
+        return Double.toString(toDouble());
+    }
+}
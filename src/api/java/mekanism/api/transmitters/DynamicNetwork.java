@@ -1,14 +1,19 @@
 package mekanism.api.transmitters;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
 import mekanism.api.IClientTicker;
@@ -17,6 +22,8 @@ import mekanism.api.text.IHasTextComponent;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.eventbus.api.Event;
@@ -28,6 +35,7 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
      * Cached value of {@link Direction#values()}. DO NOT MODIFY THIS LIST.
      */
     private static final Direction[] DIRECTIONS = Direction.values();
+    private static final AtomicInteger nextShareVersion = new AtomicInteger();
 
     protected Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> transmitters = new HashSet<>();
     protected Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> transmittersToAdd = new HashSet<>();
@@ -42,6 +50,11 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     protected boolean needsUpdate = false;
     protected int updateDelay = 0;
     protected boolean firstUpdate = true;
+    private double lastShareAmount = -1;
+    private int lastShareSize = -1;
+    private int shareVersion = nextShareVersion.getAndIncrement();
+    //The position of one transmitter in each chunk the network is in, for marking the chunks dirty when the shares change
+    private Collection<BlockPos> shareChunks = new ArrayList<>();
     @Nullable
     protected World world = null;
     private Set<DelayQueue> updateQueue = new LinkedHashSet<>();
@@ -70,6 +83,7 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
 
             updateCapacity();
             clampBuffer();
+            packetRange = null;
             queueClientUpdate(transmittersToAdd);
             transmittersToAdd.clear();
         }
@@ -89,6 +103,7 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     }
 
     public void updateTransmitterOnSide(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter, Direction side) {
+        markAcceptorsDirty();
         ACCEPTOR acceptor = transmitter.getAcceptor(side);
         Coord4D acceptorCoord = transmitter.coord().offset(side);
         EnumSet<Direction> directions = acceptorDirections.get(acceptorCoord);
@@ -113,6 +128,12 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         }
     }
 
+    /**
+     * Called whenever the acceptors of this network may have changed, so that any information cached about them can be invalidated.
+     */
+    protected void markAcceptorsDirty() {
+    }
+
     @Nullable
     public BUFFER getBuffer() {
         return null;
@@ -148,6 +169,120 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         deregister();
     }
 
+    /**
+     * Removes any of the given transmitters that are no longer valid and then splits off the parts of this network that are no longer connected. Instead of orphaning
+     * the entire network and flood filling it again, this only searches outward from the neighbours of the changed transmitters, and stops as soon as at most one of
+     * the searches is still running. The largest component stays in this network along with the buffer and acceptors, and every other component is moved into a new
+     * network.
+     *
+     * @param changed Transmitters of this network that were removed or had their connections changed.
+     */
+    public void split(Collection<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> changed) {
+        List<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> seeds = new ArrayList<>();
+        Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> seeded = new HashSet<>();
+        for (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter : changed) {
+            if (transmitter.isValid() && transmitters.contains(transmitter)) {
+                if (connectsToOtherNetwork(transmitter)) {
+                    //The connections increased rather than decreased, fall back to rebuilding the network
+                    // so that the orphan path finder can merge us with the other network
+                    invalidate();
+                    return;
+                }
+                if (seeded.add(transmitter)) {
+                    seeds.add(transmitter);
+                }
+            } else if (transmitters.remove(transmitter)) {
+                removeAcceptorsFrom(transmitter);
+                changedAcceptors.remove(transmitter);
+            }
+        }
+        for (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter : changed) {
+            //Add the neighbours of all the changed transmitters that are still part of this network
+            World transmitterWorld = transmitter.world();
+            Coord4D coord = transmitter.coord();
+            if (transmitterWorld == null || coord == null) {
+                continue;
+            }
+            for (Direction side : DIRECTIONS) {
+                Coord4D sideCoord = coord.offset(side);
+                if (side.getAxis().isHorizontal() && !transmitterWorld.isBlockLoaded(sideCoord.getPos())) {
+                    continue;
+                }
+                IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> neighbour = transmitter.getExternalTransmitter(sideCoord);
+                if (neighbour != null && transmitters.contains(neighbour) && seeded.add(neighbour)) {
+                    seeds.add(neighbour);
+                }
+            }
+        }
+
+        if (transmitters.isEmpty()) {
+            deregister();
+            return;
+        }
+        if (seeds.size() > 1) {
+            ComponentSearch search = new ComponentSearch(seeds);
+            search.run();
+            for (Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> component : search.getDetachedComponents()) {
+                moveToNewNetwork(component);
+            }
+        }
+        updateCapacity();
+        clampBuffer();
+        //The bounds of the network may have shrunk
+        packetRange = null;
+    }
+
+    private boolean connectsToOtherNetwork(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter) {
+        for (Direction side : DIRECTIONS) {
+            if (side.getAxis().isHorizontal() && !transmitter.world().isBlockLoaded(transmitter.coord().getPos().offset(side))) {
+                continue;
+            }
+            Coord4D sideCoord = transmitter.getAdjacentConnectableTransmitterCoord(side);
+            if (sideCoord != null) {
+                NETWORK other = transmitter.getExternalNetwork(sideCoord);
+                if (other != null && other != this && isCompatibleWith(other)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void moveToNewNetwork(Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> component) {
+        //Update all the shares first so that they are calculated based on the same buffer
+        for (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter : component) {
+            transmitter.updateShare();
+        }
+        for (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter : component) {
+            transmitter.takeShare();
+            transmitters.remove(transmitter);
+            transmittersAdded.remove(transmitter);
+            changedAcceptors.remove(transmitter);
+            removeAcceptorsFrom(transmitter);
+        }
+        NETWORK network = component.iterator().next().createEmptyNetwork();
+        network.addNewTransmitters(component);
+        network.register();
+        TransmitterNetworkRegistry.registerChangedNetwork(network);
+    }
+
+    private void removeAcceptorsFrom(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter) {
+        Coord4D coord = transmitter.coord();
+        if (coord == null) {
+            return;
+        }
+        markAcceptorsDirty();
+        for (Direction side : DIRECTIONS) {
+            Coord4D acceptorCoord = coord.offset(side);
+            EnumSet<Direction> directions = acceptorDirections.get(acceptorCoord);
+            //Each side of an acceptor can only be touched by a single transmitter, so we can safely remove the side
+            if (directions != null && directions.remove(side.getOpposite()) && directions.isEmpty()) {
+                possibleAcceptors.remove(acceptorCoord);
+                acceptorDirections.remove(acceptorCoord);
+            }
+        }
+    }
+
     public void invalidateTransmitter(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter) {
         if (!isRemote() && transmitter.isValid()) {
             transmitter.takeShare();
@@ -174,7 +309,9 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         }
 
         transmittersToAdd.addAll(net.transmittersToAdd);
+        packetRange = null;
         possibleAcceptors.addAll(net.possibleAcceptors);
+        markAcceptorsDirty();
 
         for (Entry<Coord4D, EnumSet<Direction>> entry : net.acceptorDirections.entrySet()) {
             Coord4D coord = entry.getKey();
@@ -187,7 +324,10 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     }
 
     public Range4D getPacketRange() {
-        return packetRange == null ? genPacketRange() : packetRange;
+        if (packetRange == null) {
+            packetRange = genPacketRange();
+        }
+        return packetRange;
     }
 
     protected Range4D genPacketRange() {
@@ -220,7 +360,7 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
             }
             if (coord.z < minZ) {
                 minZ = coord.z;
-            } else if (coord.x > maxZ) {
+            } else if (coord.z > maxZ) {
                 maxZ = coord.z;
             }
         }
@@ -307,6 +447,44 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         }
     }
 
+    /**
+     * Invalidates the shares of the buffer the transmitters of this network save, if the amount stored in the network or the number of transmitters in it changed since
+     * the last time this was called. Transmitters only work their share out again when they get saved or leave the network, and instead of every transmitter marking
+     * itself as dirty only the chunks the network is in get marked as dirty.
+     *
+     * @param amount - amount currently stored in the network's buffer
+     */
+    protected void updateShares(double amount) {
+        int size = transmittersSize();
+        if (amount != lastShareAmount || size != lastShareSize) {
+            if (size != lastShareSize) {
+                Map<Long, BlockPos> chunks = new HashMap<>();
+                for (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter : transmitters) {
+                    Coord4D coord = transmitter.coord();
+                    if (coord != null) {
+                        chunks.putIfAbsent(ChunkPos.asLong(coord.x >> 4, coord.z >> 4), coord.getPos());
+                    }
+                }
+                shareChunks = chunks.values();
+            }
+            lastShareAmount = amount;
+            lastShareSize = size;
+            shareVersion = nextShareVersion.getAndIncrement();
+            if (world != null) {
+                for (BlockPos pos : shareChunks) {
+                    world.markChunkDirty(pos, null);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return A number that changes whenever the shares of the transmitters in this network need to be worked out again, and that is never the same for two networks.
+     */
+    public int getShareVersion() {
+        return shareVersion;
+    }
+
     @Override
     public boolean needsTicks() {
         return getSize() > 0;
@@ -338,10 +516,12 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     }
 
     public boolean addTransmitter(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter) {
+        packetRange = null;
         return transmitters.add(transmitter);
     }
 
     public boolean removeTransmitter(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter) {
+        packetRange = null;
         boolean removed = transmitters.remove(transmitter);
         if (transmitters.isEmpty()) {
             deregister();
@@ -377,6 +557,131 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         return changedAcceptors;
     }
 
+    /**
+     * Breadth first searches that run interleaved from each seed transmitter, joining together whenever two of them reach each other. Once at most one search still has
+     * nodes left to visit, every search that ran out of nodes has found a complete component that got detached from the rest of the network.
+     */
+    private class ComponentSearch {
+
+        private final Map<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>, Integer> visited = new HashMap<>();
+        private final List<Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>>> members = new ArrayList<>();
+        private final List<Deque<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>>> frontiers = new ArrayList<>();
+        private final int[] parent;
+
+        private ComponentSearch(List<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> seeds) {
+            parent = new int[seeds.size()];
+            for (int i = 0; i < parent.length; i++) {
+                IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> seed = seeds.get(i);
+                parent[i] = i;
+                visited.put(seed, i);
+                Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> component = new HashSet<>();
+                component.add(seed);
+                members.add(component);
+                Deque<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> frontier = new ArrayDeque<>();
+                frontier.add(seed);
+                frontiers.add(frontier);
+            }
+        }
+
+        private int find(int search) {
+            while (parent[search] != search) {
+                parent[search] = parent[parent[search]];
+                search = parent[search];
+            }
+            return search;
+        }
+
+        private int union(int a, int b) {
+            int rootA = find(a);
+            int rootB = find(b);
+            if (rootA == rootB) {
+                return rootA;
+            }
+            if (members.get(rootA).size() < members.get(rootB).size()) {
+                int temp = rootA;
+                rootA = rootB;
+                rootB = temp;
+            }
+            parent[rootB] = rootA;
+            members.get(rootA).addAll(members.get(rootB));
+            frontiers.get(rootA).addAll(frontiers.get(rootB));
+            members.set(rootB, null);
+            frontiers.set(rootB, null);
+            return rootA;
+        }
+
+        private int countRunning() {
+            int running = 0;
+            for (int i = 0; i < parent.length; i++) {
+                if (parent[i] == i && !frontiers.get(i).isEmpty()) {
+                    running++;
+                }
+            }
+            return running;
+        }
+
+        private void run() {
+            while (countRunning() > 1) {
+                for (int i = 0; i < parent.length; i++) {
+                    if (parent[i] == i && !frontiers.get(i).isEmpty()) {
+                        step(i);
+                    }
+                }
+            }
+        }
+
+        private void step(int search) {
+            IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter = frontiers.get(search).poll();
+            BlockPos pos = transmitter.coord().getPos();
+            for (Direction side : DIRECTIONS) {
+                if (side.getAxis().isHorizontal() && !transmitter.world().isBlockLoaded(pos.offset(side))) {
+                    continue;
+                }
+                Coord4D sideCoord = transmitter.getAdjacentConnectableTransmitterCoord(side);
+                if (sideCoord == null) {
+                    continue;
+                }
+                IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> neighbour = transmitter.getExternalTransmitter(sideCoord);
+                if (neighbour == null || !transmitters.contains(neighbour)) {
+                    continue;
+                }
+                Integer other = visited.get(neighbour);
+                if (other == null) {
+                    visited.put(neighbour, search);
+                    members.get(search).add(neighbour);
+                    frontiers.get(search).add(neighbour);
+                } else {
+                    //Our search may have been merged into another one
+                    search = union(search, other);
+                }
+            }
+        }
+
+        /**
+         * @return All the components that should be moved out of this network, this excludes the component that is still being searched if there is one, or otherwise
+         * the largest component.
+         */
+        private List<Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>>> getDetachedComponents() {
+            List<Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>>> components = new ArrayList<>();
+            int kept = -1;
+            for (int i = 0; i < parent.length; i++) {
+                if (parent[i] == i) {
+                    if (!frontiers.get(i).isEmpty()) {
+                        kept = i;
+                    } else if (kept == -1 || frontiers.get(kept).isEmpty() && members.get(i).size() > members.get(kept).size()) {
+                        kept = i;
+                    }
+                }
+            }
+            for (int i = 0; i < parent.length; i++) {
+                if (parent[i] == i && i != kept) {
+                    components.add(members.get(i));
+                }
+            }
+            return components;
+        }
+    }
+
     public static class TransmittersAddedEvent extends Event {
 
         public DynamicNetwork<?, ?, ?> network;
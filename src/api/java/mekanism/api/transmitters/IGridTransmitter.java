@@ -61,6 +61,16 @@ public interface IGridTransmitter<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEP
 
     NETWORK getExternalNetwork(Coord4D from);
 
+    /**
+     * Gets the transmitter at the given location if it is of the same transmission type as this transmitter.
+     *
+     * @param from - location of the transmitter
+     *
+     * @return the transmitter at the given location, or null if there is no compatible transmitter there
+     */
+    @Nullable
+    IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> getExternalTransmitter(Coord4D from);
+
     void takeShare();
 
     void updateShare();
@@ -98,15 +98,21 @@ public class TransmitterNetworkRegistry {
             logger.info("Dealing with " + invalidTransmitters.size() + " invalid Transmitters");
         }
 
+        //Group the invalid transmitters by network so that each network only has to be split once
+        Map<DynamicNetwork<?, ?, ?>, Set<IGridTransmitter<?, ?, ?>>> changedNetworks = new HashMap<>();
         for (IGridTransmitter<?, ?, ?> invalid : invalidTransmitters) {
             if (!(invalid.isOrphan() && invalid.isValid())) {
                 DynamicNetwork<?, ?, ?> n = invalid.getTransmitterNetwork();
                 if (n != null) {
-                    n.invalidate();
+                    changedNetworks.computeIfAbsent(n, network -> new HashSet<>()).add(invalid);
                 }
             }
         }
 
+        for (Map.Entry<DynamicNetwork<?, ?, ?>, Set<IGridTransmitter<?, ?, ?>>> entry : changedNetworks.entrySet()) {
+            ((DynamicNetwork) entry.getKey()).split(entry.getValue());
+        }
+
         invalidTransmitters.clear();
     }
 
@@ -9,6 +9,7 @@ import mekanism.common.config.MekanismConfig;
 import mekanism.common.multiblock.MultiblockManager;
 import mekanism.common.registries.MekanismGases;
 import mekanism.generators.common.config.MekanismGeneratorsConfig;
+import mekanism.generators.common.content.solar.SolarExposureCache;
 import mekanism.generators.common.content.turbine.SynchronizedTurbineData;
 import mekanism.generators.common.network.PacketGeneratorsGuiButtonPress;
 import mekanism.generators.common.registries.GeneratorsBlocks;
@@ -44,6 +45,9 @@ public class MekanismGenerators implements IModule {
         MekanismGeneratorsConfig.registerConfigs(ModLoadingContext.get());
         IEventBus modEventBus = FMLJavaModLoadingContext.get().getModEventBus();
         MinecraftForge.EVENT_BUS.addListener(this::onBlacklistUpdate);
+        MinecraftForge.EVENT_BUS.addListener(SolarExposureCache::onBlockChange);
+        MinecraftForge.EVENT_BUS.addListener(SolarExposureCache::onChunkUnload);
+        MinecraftForge.EVENT_BUS.addListener(SolarExposureCache::onWorldUnload);
         modEventBus.addListener(this::commonSetup);
         modEventBus.addListener(this::onConfigReload);
 
@@ -0,0 +1,178 @@
+package mekanism.generators.common.content.solar;
+
+import it.unimi.dsi.fastutil.longs.Long2BooleanMap;
+import it.unimi.dsi.fastutil.longs.Long2BooleanOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.HashMap;
+import java.util.Map;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.BlockEvent.NeighborNotifyEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+
+/**
+ * Caches what solar generators need to know about the world they are in, so that big arrays of them don't all work it out again every tick. Whether a position can see
+ * the sky is cached per chunk until a block in that chunk changes or for at most {@link #RECHECK_TICKS} ticks, and the time of day, brightness of the sun and weather
+ * get snapshotted once per tick.
+ *
+ * Only the exposures of server worlds are cached, client worlds get a new one every time, such as for the GUI.
+ */
+public class SolarExposureCache {
+
+    /**
+     * Sky light gets updated a while after a block changes, so sky checks in a chunk are not cached for this many ticks after a block in it changed.
+     */
+    private static final int LIGHT_UPDATE_TICKS = 10;
+    /**
+     * Sky checks are done again after this many ticks anyway, in case the sky got blocked or unblocked without a block change we got told about.
+     */
+    private static final int RECHECK_TICKS = 5 * 20;
+
+    private static final Map<IWorld, WorldExposure> worlds = new HashMap<>();
+
+    /**
+     * @return The exposure of the given world, with its daylight snapshot up to date.
+     */
+    public static WorldExposure get(World world) {
+        WorldExposure exposure = world.isRemote() ? new WorldExposure(world) : worlds.computeIfAbsent(world, w -> new WorldExposure(world));
+        exposure.updateSnapshot();
+        return exposure;
+    }
+
+    public static void onBlockChange(NeighborNotifyEvent event) {
+        WorldExposure exposure = getExisting(event.getWorld());
+        if (exposure != null) {
+            exposure.blockChanged(event.getPos());
+        }
+    }
+
+    public static void onChunkUnload(ChunkEvent.Unload event) {
+        WorldExposure exposure = getExisting(event.getWorld());
+        if (exposure != null) {
+            exposure.chunks.remove(event.getChunk().getPos().asLong());
+        }
+    }
+
+    public static void onWorldUnload(WorldEvent.Unload event) {
+        if (!event.getWorld().isRemote()) {
+            worlds.remove(event.getWorld());
+        }
+    }
+
+    private static WorldExposure getExisting(IWorld world) {
+        //Client worlds never have an exposure, and shouldn't touch the map from the client thread
+        return world == null || world.isRemote() ? null : worlds.get(world);
+    }
+
+    public static class WorldExposure {
+
+        private final World world;
+        private final Long2ObjectMap<ChunkExposure> chunks = new Long2ObjectOpenHashMap<>();
+        private long snapshotTime = Long.MIN_VALUE;
+        private boolean daytime;
+        private boolean nether;
+        private boolean raining;
+        private float sunBrightness;
+
+        private WorldExposure(World world) {
+            this.world = world;
+        }
+
+        private void updateSnapshot() {
+            long time = world.getGameTime();
+            if (time != snapshotTime) {
+                snapshotTime = time;
+                daytime = world.isDaytime();
+                nether = world.getDimension().isNether();
+                raining = world.isRaining() || world.isThundering();
+                sunBrightness = getSunBrightness(world, 1.0F);
+            }
+        }
+
+        //TODO: re-evaluate
+        //Vanilla copy of ClientWorld#getSunBrightness used to be World#getSunBrightness
+        private static float getSunBrightness(World world, float partialTicks) {
+            float f = world.getCelestialAngle(partialTicks);
+            float f1 = 1.0F - (MathHelper.cos(f * ((float) Math.PI * 2F)) * 2.0F + 0.2F);
+            f1 = MathHelper.clamp(f1, 0.0F, 1.0F);
+            f1 = 1.0F - f1;
+            f1 = (float) ((double) f1 * (1.0D - (double) (world.getRainStrength(partialTicks) * 5.0F) / 16.0D));
+            f1 = (float) ((double) f1 * (1.0D - (double) (world.getThunderStrength(partialTicks) * 5.0F) / 16.0D));
+            return f1 * 0.8F + 0.2F;
+        }
+
+        private void blockChanged(BlockPos pos) {
+            //Only chunks that have been checked have anything to clear, block changes elsewhere shouldn't create entries
+            ChunkExposure chunk = chunks.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+            if (chunk != null) {
+                chunk.canSeeSky.clear();
+                chunk.cacheFrom = world.getGameTime() + LIGHT_UPDATE_TICKS;
+            }
+        }
+
+        /**
+         * Same as {@link World#canBlockSeeSky(BlockPos)}, but only checked again once a block in the chunk changes or the cached checks of the chunk expire.
+         */
+        public boolean canSeeSky(BlockPos pos) {
+            long time = world.getGameTime();
+            //As block changes in unchecked chunks aren't tracked, a new chunk waits for the sky light to catch up the same as if a block had just changed in it
+            ChunkExposure chunk = chunks.computeIfAbsent(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4), key -> new ChunkExposure(time + LIGHT_UPDATE_TICKS));
+            if (time >= chunk.cachedUntil) {
+                chunk.canSeeSky.clear();
+            }
+            long key = pos.toLong();
+            if (chunk.canSeeSky.containsKey(key)) {
+                return chunk.canSeeSky.get(key);
+            }
+            boolean canSeeSky = world.canBlockSeeSky(pos);
+            if (time >= chunk.cacheFrom) {
+                if (chunk.canSeeSky.isEmpty()) {
+                    chunk.cachedUntil = time + RECHECK_TICKS;
+                }
+                chunk.canSeeSky.put(key, canSeeSky);
+            }
+            return canSeeSky;
+        }
+
+        public boolean isDaytime() {
+            return daytime;
+        }
+
+        public boolean isNether() {
+            return nether;
+        }
+
+        /**
+         * @return {@code true} if it is raining or thundering.
+         */
+        public boolean isRaining() {
+            return raining;
+        }
+
+        /**
+         * Note that there are some implementations that depend on the base brightness function which doesn't take into account the fact that rain can't occur in some
+         * biomes.
+         */
+        public float getSunBrightness() {
+            return sunBrightness;
+        }
+    }
+
+    private static class ChunkExposure {
+
+        private final Long2BooleanMap canSeeSky = new Long2BooleanOpenHashMap();
+        //Game time from which sky checks can be cached again
+        private long cacheFrom;
+        //Game time at which the cached sky checks expire
+        private long cachedUntil = Long.MIN_VALUE;
+
+        private ChunkExposure(long cacheFrom) {
+            this.cacheFrom = cacheFrom;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import mekanism.common.base.IBoundingBlock;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.util.MekanismUtils;
 import mekanism.generators.common.config.MekanismGeneratorsConfig;
+import mekanism.generators.common.content.solar.SolarExposureCache.WorldExposure;
 import mekanism.generators.common.registries.GeneratorsBlocks;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
@@ -71,9 +72,8 @@ public class TileEntityAdvancedSolarGenerator extends TileEntitySolarGenerator i
     }
 
     @Override
-    protected boolean canSeeSky() {
+    protected boolean canSeeSky(WorldExposure exposure) {
         //TODO: Verify this is correct at 2, I for some reason had it at 3 before
-        World world = getWorld();
-        return world != null && world.canBlockSeeSky(getPos().up(2));
+        return exposure.canSeeSky(getPos().up(2));
     }
 }
\ No newline at end of file
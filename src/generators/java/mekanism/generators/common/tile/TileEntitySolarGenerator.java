@@ -8,10 +8,11 @@ import mekanism.common.inventory.slot.holder.IInventorySlotHolder;
 import mekanism.common.inventory.slot.holder.InventorySlotHelper;
 import mekanism.common.util.MekanismUtils;
 import mekanism.generators.common.config.MekanismGeneratorsConfig;
+import mekanism.generators.common.content.solar.SolarExposureCache;
+import mekanism.generators.common.content.solar.SolarExposureCache.WorldExposure;
 import mekanism.generators.common.registries.GeneratorsBlocks;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.Direction;
-import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.Biome;
 import net.minecraft.world.biome.Biome.RainType;
@@ -84,7 +85,8 @@ public class TileEntitySolarGenerator extends TileEntityGenerator {
             // significant penalty.
             World world = getWorld();
             if (world != null) {
-                seesSun = world.isDaytime() && canSeeSky() && !world.getDimension().isNether();
+                WorldExposure exposure = SolarExposureCache.get(world);
+                seesSun = exposure.isDaytime() && !exposure.isNether() && canSeeSky(exposure);
             }
 
             if (canOperate()) {
@@ -96,9 +98,8 @@ public class TileEntitySolarGenerator extends TileEntityGenerator {
         }
     }
 
-    protected boolean canSeeSky() {
-        World world = getWorld();
-        return world != null && world.canBlockSeeSky(getPos());
+    protected boolean canSeeSky(WorldExposure exposure) {
+        return exposure.canSeeSky(getPos());
     }
 
     @Override
@@ -111,9 +112,10 @@ public class TileEntitySolarGenerator extends TileEntityGenerator {
         if (world == null) {
             return 0;
         }
+        WorldExposure exposure = SolarExposureCache.get(world);
         // Get the brightness of the sun; note that there are some implementations that depend on the base
         // brightness function which doesn't take into account the fact that rain can't occur in some biomes.
-        float brightness = getSunBrightness(world, 1.0F);
+        float brightness = exposure.getSunBrightness();
         //TODO: Galacticraft
         /*if (MekanismUtils.existsAndInstance(world.provider, "micdoodle8.mods.galacticraft.api.world.ISolarLevel")) {
             brightness *= ((ISolarLevel) world.provider).getSolarEnergyMultiplier();
@@ -123,24 +125,12 @@ public class TileEntitySolarGenerator extends TileEntityGenerator {
         double production = peakOutput * brightness;
 
         // If the generator is in a biome where it can rain and it's raining penalize production by 80%
-        if (needsRainCheck && (world.isRaining() || world.isThundering())) {
+        if (needsRainCheck && exposure.isRaining()) {
             production *= 0.2;
         }
         return production;
     }
 
-    //TODO: re-evaluate
-    //Vanilla copy of ClientWorld#getSunBrightness used to be World#getSunBrightness
-    private float getSunBrightness(World world, float partialTicks) {
-        float f = world.getCelestialAngle(partialTicks);
-        float f1 = 1.0F - (MathHelper.cos(f * ((float) Math.PI * 2F)) * 2.0F + 0.2F);
-        f1 = MathHelper.clamp(f1, 0.0F, 1.0F);
-        f1 = 1.0F - f1;
-        f1 = (float) ((double) f1 * (1.0D - (double) (world.getRainStrength(partialTicks) * 5.0F) / 16.0D));
-        f1 = (float) ((double) f1 * (1.0D - (double) (world.getThunderStrength(partialTicks) * 5.0F) / 16.0D));
-        return f1 * 0.8F + 0.2F;
-    }
-
     @Override
     public String[] getMethods() {
         return methods;
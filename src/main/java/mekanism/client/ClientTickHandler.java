@@ -28,6 +28,7 @@ import mekanism.common.network.PacketFreeRunnerData;
 import mekanism.common.network.PacketItemStack;
 import mekanism.common.network.PacketPortableTeleporter;
 import mekanism.common.network.PacketPortableTeleporter.PortableTeleporterPacketType;
+import mekanism.common.transmitters.TransmitterTickManager;
 import mekanism.common.util.EnumUtils;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.client.Minecraft;
@@ -154,6 +155,9 @@ public class ClientTickHandler {
                     iter.remove();
                 }
             }
+            if (minecraft.world != null) {
+                TransmitterTickManager.tickClient(minecraft.world);
+            }
         }
 
         if (minecraft.world != null) {
@@ -18,7 +18,7 @@ import mekanism.client.gui.element.tab.GuiVisualsTab;
 import mekanism.common.Mekanism;
 import mekanism.common.MekanismLang;
 import mekanism.common.base.ILangEntry;
-import mekanism.common.content.miner.ThreadMinerSearch.State;
+import mekanism.common.content.miner.MinerSearch.State;
 import mekanism.common.inventory.container.tile.DigitalMinerContainer;
 import mekanism.common.network.PacketGuiButtonPress;
 import mekanism.common.network.PacketGuiButtonPress.ClickedTileButton;
@@ -9,6 +9,7 @@ import mekanism.client.gui.button.SeismicReaderButton;
 import mekanism.client.render.MekanismRenderer;
 import mekanism.common.MekanismLang;
 import mekanism.common.inventory.container.item.SeismicReaderContainer;
+import mekanism.common.util.ChunkSectionScanner;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.MekanismUtils.ResourceType;
 import net.minecraft.block.BlockState;
@@ -156,9 +157,11 @@ public class GuiSeismicReader extends GuiMekanism<SeismicReaderContainer> {
     }
 
     public void calculate() {
-        for (BlockPos p = new BlockPos(pos.x, 0, pos.z); p.getY() < pos.y; p = p.up()) {
-            blockList.add(worldObj.getBlockState(p));
-        }
+        //Every block is shown, but this saves looking up the blocks of empty sections
+        new ChunkSectionScanner(state -> true).scan(worldObj, pos.x, 0, pos.z, pos.x, pos.y - 1, pos.z, (p, state) -> {
+            blockList.add(state);
+            return true;
+        });
     }
 
     @Override
@@ -6,8 +6,10 @@ import java.util.Map;
 import java.util.Queue;
 import java.util.Random;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.content.transporter.TransporterSyncManager;
 import mekanism.common.frequency.FrequencyManager;
 import mekanism.common.multiblock.MultiblockManager;
+import mekanism.common.transmitters.TransmitterTickManager;
 import mekanism.common.world.GenHandler;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.math.ChunkPos;
@@ -68,6 +70,8 @@ public class CommonWorldTickHandler {
         if (!world.isRemote) {
             MultiblockManager.tick(world);
             FrequencyManager.tick(world);
+            TransmitterTickManager.tick(world);
+            TransporterSyncManager.tick(world);
             if (chunkRegenMap == null || !MekanismConfig.world.enableRegeneration.get()) {
                 return;
             }
@@ -1,27 +1,61 @@
 package mekanism.common;
 
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import javax.annotation.Nonnull;
 
+/**
+ * Ordered list of unique elements. Besides the list, the elements are kept in a hash map of how often they are in the list (only padding nulls can be in it more than
+ * once), so that {@link #contains(Object)} and {@link #add(Object)} don't have to scan the list. Elements should not be changed in a way that changes their hash code
+ * while they are in the list.
+ */
 public class HashList<T> implements Iterable<T> {
 
     private List<T> list = new ArrayList<>(256);
+    private Object2IntMap<T> counts = new Object2IntOpenHashMap<>();
+    private int modCount;
 
     private HashList(ArrayList<T> newList) {
         list = newList;
+        for (T obj : newList) {
+            increment(obj);
+        }
     }
 
     public HashList() {
     }
 
     public boolean contains(T obj) {
-        return list.contains(obj);
+        return counts.containsKey(obj);
     }
 
     public void clear() {
         list.clear();
+        counts.clear();
+        modCount++;
+    }
+
+    /**
+     * @return A counter that changes every time elements get added, removed or moved, so that things derived from the list can tell when they are outdated.
+     */
+    public int getModCount() {
+        return modCount;
+    }
+
+    private void increment(T obj) {
+        counts.put(obj, counts.getInt(obj) + 1);
+    }
+
+    private void decrement(T obj) {
+        int count = counts.getInt(obj);
+        if (count <= 1) {
+            counts.removeInt(obj);
+        } else {
+            counts.put(obj, count - 1);
+        }
     }
 
     public T get(int index) {
@@ -32,19 +66,24 @@ public class HashList<T> implements Iterable<T> {
     }
 
     public void add(T obj) {
-        if (!list.contains(obj)) {
+        if (!contains(obj)) {
             list.add(obj);
+            increment(obj);
+            modCount++;
         }
     }
 
     public void add(int index, T obj) {
-        if (!list.contains(obj)) {
+        if (!contains(obj)) {
             if (index > size()) {
                 for (int i = size(); i <= index - 1; i++) {
                     list.add(i, null);
+                    increment(null);
                 }
             }
             list.add(index, obj);
+            increment(obj);
+            modCount++;
         }
     }
 
@@ -56,7 +95,8 @@ public class HashList<T> implements Iterable<T> {
         if (isEmpty() || index > size() - 1) {
             return;
         }
-        list.remove(index);
+        decrement(list.remove(index));
+        modCount++;
     }
 
     public void replace(int index, T obj) {
@@ -67,7 +107,10 @@ public class HashList<T> implements Iterable<T> {
     }
 
     public void remove(T obj) {
-        list.remove(obj);
+        if (list.remove(obj)) {
+            decrement(obj);
+            modCount++;
+        }
     }
 
     public int indexOf(T obj) {
@@ -98,6 +141,7 @@ public class HashList<T> implements Iterable<T> {
         T temp = list.get(source);
         list.set(source, list.get(target));
         list.set(target, temp);
+        modCount++;
     }
 
     @Override
@@ -113,6 +157,26 @@ public class HashList<T> implements Iterable<T> {
     @Nonnull
     @Override
     public Iterator<T> iterator() {
-        return list.iterator();
+        Iterator<T> iterator = list.iterator();
+        return new Iterator<T>() {
+            private T last;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return last = iterator.next();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                decrement(last);
+                modCount++;
+            }
+        };
     }
 }
\ No newline at end of file
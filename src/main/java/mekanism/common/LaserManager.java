@@ -1,6 +1,14 @@
 package mekanism.common;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import mekanism.api.Coord4D;
 import mekanism.api.Pos3D;
 import mekanism.common.capabilities.Capabilities;
@@ -13,6 +21,7 @@ import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.DamageSource;
@@ -20,27 +29,78 @@ import net.minecraft.util.Direction;
 import net.minecraft.util.NonNullList;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.BlockRayTraceResult;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.RayTraceContext;
 import net.minecraft.util.math.RayTraceContext.BlockMode;
 import net.minecraft.util.math.RayTraceContext.FluidMode;
 import net.minecraft.util.math.RayTraceResult.Type;
+import net.minecraft.world.IWorld;
 import net.minecraft.world.World;
+import net.minecraft.world.dimension.DimensionType;
 import net.minecraft.world.server.ServerWorld;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.util.Constants.WorldEvents;
+import net.minecraftforge.event.TickEvent.Phase;
+import net.minecraftforge.event.TickEvent.WorldTickEvent;
 import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.BlockEvent.NeighborNotifyEvent;
 
 //TODO: Make the laser "shrink" the further distance it goes
 // If above a certain energy level and in water makes it bubble
 public class LaserManager {
 
+    /**
+     * Block changes that don't notify neighbors don't invalidate beams, so beams get traced again after this many ticks even if nothing changed along them.
+     */
+    private static final int MAX_BEAM_AGE = 100;
+
+    private static final Map<DimensionType, LaserBeams> beams = new HashMap<>();
+
+    public static void reset() {
+        beams.clear();
+    }
+
+    public static void onNeighborNotify(NeighborNotifyEvent event) {
+        IWorld world = event.getWorld();
+        if (!world.isRemote()) {
+            LaserBeams dimensionBeams = beams.get(world.getDimension().getType());
+            if (dimensionBeams != null) {
+                dimensionBeams.invalidate(event.getPos());
+            }
+        }
+    }
+
+    /**
+     * Removes the expired beams of lasers that are gone or have stopped firing, every {@link #MAX_BEAM_AGE} ticks. Beams that are still fired get removed when they
+     * are fired after expiring anyway.
+     */
+    public static void onWorldTick(WorldTickEvent event) {
+        if (event.side.isServer() && event.phase == Phase.END) {
+            long gameTime = event.world.getGameTime();
+            if (gameTime % MAX_BEAM_AGE == 0) {
+                LaserBeams dimensionBeams = beams.get(event.world.getDimension().getType());
+                if (dimensionBeams != null) {
+                    dimensionBeams.removeExpired(gameTime);
+                }
+            }
+        }
+    }
+
     public static LaserInfo fireLaser(TileEntity source, Direction direction, double energy, World world) {
         Pos3D from = new Pos3D(source).centre().translate(direction, 0.501);
         ServerWorld serverWorld = (ServerWorld) world;
-        Pos3D to = from.translate(direction, MekanismConfig.general.laserRange.get() - 0.002);
-        PlayerEntity dummy = Mekanism.proxy.getDummyPlayer(serverWorld, new BlockPos(from)).get();
-        //TODO: Verify this is correct
-        BlockRayTraceResult mop = world.rayTraceBlocks(new RayTraceContext(from, to, BlockMode.COLLIDER, FluidMode.NONE, dummy));
+        double range = MekanismConfig.general.laserRange.get();
+        Pos3D to = from.translate(direction, range - 0.002);
+        LaserBeams dimensionBeams = beams.computeIfAbsent(world.getDimension().getType(), dimension -> new LaserBeams());
+        LaserBeam beam = dimensionBeams.get(source.getPos(), direction, range, world.getGameTime());
+        if (beam == null) {
+            PlayerEntity dummy = Mekanism.proxy.getDummyPlayer(serverWorld, new BlockPos(from)).get();
+            //TODO: Verify this is correct
+            BlockRayTraceResult result = world.rayTraceBlocks(new RayTraceContext(from, to, BlockMode.COLLIDER, FluidMode.NONE, dummy));
+            beam = new LaserBeam(source.getPos(), direction, range, result, world.getGameTime() + MAX_BEAM_AGE);
+            dimensionBeams.add(beam);
+        }
+        BlockRayTraceResult mop = beam.result;
         if (mop.getType() != Type.MISS) {
             to = new Pos3D(mop.getHitVec());
             TileEntity tile = MekanismUtils.getTileEntity(world, mop.getPos());
@@ -64,10 +124,15 @@ public class LaserManager {
             }
         }
 
-        //Tell the clients to render the laser
+        //Tell the clients that can see the laser to render it
         LaserParticleData data = new LaserParticleData(direction, to.distance(from), energy);
-        serverWorld.getPlayers().forEach(player ->
-              serverWorld.spawnParticle(player, data, true, from.x, from.y, from.z, 1, 0.0D, 0.0D, 0.0D, 0));
+        Set<ServerPlayerEntity> players = new LinkedHashSet<>();
+        for (long chunk : beam.chunks) {
+            serverWorld.getChunkProvider().chunkManager.getTrackingPlayers(new ChunkPos(chunk), false).forEach(players::add);
+        }
+        for (ServerPlayerEntity player : players) {
+            serverWorld.spawnParticle(player, data, true, from.x, from.y, from.z, 1, 0.0D, 0.0D, 0.0D, 0);
+        }
         return new LaserInfo(mop, foundEntity);
     }
 
@@ -104,6 +169,128 @@ public class LaserManager {
         return tile != null && tile.getCapability(Capabilities.LASER_RECEPTOR_CAPABILITY, side).isPresent();
     }
 
+    /**
+     * The beams fired in a dimension, by the position of the block firing them and by the chunks they pass through.
+     */
+    private static class LaserBeams {
+
+        private final Long2ObjectMap<LaserBeam> bySource = new Long2ObjectOpenHashMap<>();
+        private final Long2ObjectMap<List<LaserBeam>> byChunk = new Long2ObjectOpenHashMap<>();
+
+        /**
+         * @return The beam fired from the given position, or null if there is no beam for it or it is outdated.
+         */
+        private LaserBeam get(BlockPos source, Direction direction, double range, long gameTime) {
+            LaserBeam beam = bySource.get(source.toLong());
+            if (beam == null) {
+                return null;
+            } else if (beam.direction != direction || beam.range != range || gameTime >= beam.expires) {
+                remove(beam);
+                return null;
+            }
+            return beam;
+        }
+
+        private void add(LaserBeam beam) {
+            bySource.put(beam.source.toLong(), beam);
+            for (long chunk : beam.chunks) {
+                byChunk.computeIfAbsent(chunk, c -> new ArrayList<>()).add(beam);
+            }
+        }
+
+        private void remove(LaserBeam beam) {
+            bySource.remove(beam.source.toLong(), beam);
+            removeFromChunks(beam);
+        }
+
+        private void removeFromChunks(LaserBeam beam) {
+            for (long chunk : beam.chunks) {
+                List<LaserBeam> chunkBeams = byChunk.get(chunk);
+                if (chunkBeams != null) {
+                    chunkBeams.remove(beam);
+                    if (chunkBeams.isEmpty()) {
+                        byChunk.remove(chunk);
+                    }
+                }
+            }
+        }
+
+        private void removeExpired(long gameTime) {
+            for (ObjectIterator<LaserBeam> iter = bySource.values().iterator(); iter.hasNext(); ) {
+                LaserBeam beam = iter.next();
+                if (gameTime >= beam.expires) {
+                    iter.remove();
+                    removeFromChunks(beam);
+                }
+            }
+        }
+
+        /**
+         * Removes all beams that pass through the given position, so that they get traced again the next time they are fired.
+         */
+        private void invalidate(BlockPos pos) {
+            List<LaserBeam> chunkBeams = byChunk.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+            if (chunkBeams != null) {
+                for (LaserBeam beam : chunkBeams.toArray(new LaserBeam[0])) {
+                    if (beam.contains(pos)) {
+                        remove(beam);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Result of tracing a beam, which stays valid until a block along the beam (including the block firing it, and the block it hit) changes.
+     */
+    private static class LaserBeam {
+
+        private final BlockPos source;
+        private final Direction direction;
+        private final double range;
+        private final BlockRayTraceResult result;
+        private final long expires;
+        private final int length;
+        private final long[] chunks;
+
+        private LaserBeam(BlockPos source, Direction direction, double range, BlockRayTraceResult result, long expires) {
+            this.source = source.toImmutable();
+            this.direction = direction;
+            this.range = range;
+            this.result = result;
+            this.expires = expires;
+            if (result.getType() == Type.MISS) {
+                length = (int) Math.ceil(range);
+            } else {
+                BlockPos hit = result.getPos();
+                length = Math.abs(hit.getX() - source.getX()) + Math.abs(hit.getY() - source.getY()) + Math.abs(hit.getZ() - source.getZ());
+            }
+            BlockPos end = source.offset(direction, length);
+            int minChunkX = Math.min(source.getX(), end.getX()) >> 4;
+            int maxChunkX = Math.max(source.getX(), end.getX()) >> 4;
+            int minChunkZ = Math.min(source.getZ(), end.getZ()) >> 4;
+            int maxChunkZ = Math.max(source.getZ(), end.getZ()) >> 4;
+            //The beam is along a single axis, so at most one of these ranges is larger than one chunk
+            chunks = new long[(maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1)];
+            int index = 0;
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                    chunks[index++] = ChunkPos.asLong(chunkX, chunkZ);
+                }
+            }
+        }
+
+        private boolean contains(BlockPos pos) {
+            int dx = pos.getX() - source.getX();
+            int dy = pos.getY() - source.getY();
+            int dz = pos.getZ() - source.getZ();
+            int distance = dx * direction.getXOffset() + dy * direction.getYOffset() + dz * direction.getZOffset();
+            //Check the position is on the line the beam is on, and between the source and where it ends
+            return dx == distance * direction.getXOffset() && dy == distance * direction.getYOffset() && dz == distance * direction.getZOffset() &&
+                   distance >= 0 && distance <= length;
+        }
+    }
+
     public static class LaserInfo {
 
         public BlockRayTraceResult movingPos;
@@ -25,9 +25,11 @@ import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.boiler.SynchronizedBoilerData;
 import mekanism.common.content.entangloporter.InventoryFrequency;
 import mekanism.common.content.matrix.SynchronizedMatrixData;
+import mekanism.common.content.miner.MinerSearch;
 import mekanism.common.content.tank.SynchronizedTankData;
 import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.content.transporter.TransporterManager;
+import mekanism.common.content.transporter.TransporterSyncManager;
 import mekanism.common.frequency.Frequency;
 import mekanism.common.frequency.FrequencyManager;
 import mekanism.common.integration.MekanismHooks;
@@ -51,6 +53,7 @@ import mekanism.common.registries.MekanismSounds;
 import mekanism.common.registries.MekanismTileEntityTypes;
 import mekanism.common.security.SecurityFrequency;
 import mekanism.common.tags.MekanismTagManager;
+import mekanism.common.transmitters.TransmitterTickManager;
 import mekanism.common.transmitters.grid.EnergyNetwork.EnergyTransferEvent;
 import mekanism.common.transmitters.grid.FluidNetwork.FluidTransferEvent;
 import mekanism.common.transmitters.grid.GasNetwork.GasTransferEvent;
@@ -180,6 +183,9 @@ public class Mekanism {
         MinecraftForge.EVENT_BUS.addListener(this::onBlacklistUpdate);
         MinecraftForge.EVENT_BUS.addListener(this::chunkSave);
         MinecraftForge.EVENT_BUS.addListener(this::onChunkDataLoad);
+        MinecraftForge.EVENT_BUS.addListener(MultiblockManager::onChunkLoad);
+        MinecraftForge.EVENT_BUS.addListener(LaserManager::onNeighborNotify);
+        MinecraftForge.EVENT_BUS.addListener(LaserManager::onWorldTick);
         MinecraftForge.EVENT_BUS.addListener(this::onWorldLoad);
         MinecraftForge.EVENT_BUS.addListener(this::onWorldUnload);
         modEventBus.addListener(this::commonSetup);
@@ -286,7 +292,11 @@ public class Mekanism {
         MultiblockManager.reset();
         FrequencyManager.reset();
         TransporterManager.reset();
+        TransporterSyncManager.reset();
+        TransmitterTickManager.reset();
         PathfinderCache.reset();
+        LaserManager.reset();
+        MinerSearch.reset();
         TransmitterNetworkRegistry.reset();
     }
 
@@ -518,5 +528,6 @@ public class Mekanism {
         if (event.getWorld() instanceof ServerWorld) {
             MekFakePlayer.releaseInstance(event.getWorld());
         }
+        TransmitterTickManager.onWorldUnload(event.getWorld());
     }
 }
\ No newline at end of file
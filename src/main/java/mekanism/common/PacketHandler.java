@@ -7,6 +7,7 @@ import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import mekanism.api.Range4D;
+import mekanism.api.TileNetworkList;
 import mekanism.common.base.ITileNetwork;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.network.PacketBoxBlacklist;
@@ -34,7 +35,9 @@ import mekanism.common.network.PacketScubaTankData;
 import mekanism.common.network.PacketSecurityMode;
 import mekanism.common.network.PacketSecurityUpdate;
 import mekanism.common.network.PacketTileEntity;
+import mekanism.common.network.PacketTileEntityDelta;
 import mekanism.common.network.PacketTransmitterUpdate;
+import mekanism.common.network.PacketTransporterBatch;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.item.ItemStack;
@@ -82,7 +85,10 @@ public class PacketHandler {
      */
     public static void encode(Object[] dataValues, PacketBuffer output) {
         for (Object data : dataValues) {
-            if (data instanceof Byte) {
+            if (data instanceof TileNetworkList.Segment) {
+                //Already encoded typed values of a TileNetworkList
+                ((TileNetworkList.Segment) data).writeTo(output);
+            } else if (data instanceof Byte) {
                 output.writeByte((Byte) data);
             } else if (data instanceof Integer) {
                 output.writeInt((Integer) data);
@@ -172,6 +178,8 @@ public class PacketHandler {
 
         registerMessage(PacketMekanismTags.class, PacketMekanismTags::encode, PacketMekanismTags::decode, PacketMekanismTags::handle);
         registerMessage(PacketClearRecipeCache.class, PacketClearRecipeCache::encode, PacketClearRecipeCache::decode, PacketClearRecipeCache::handle);
+        registerMessage(PacketTileEntityDelta.class, PacketTileEntityDelta::encode, PacketTileEntityDelta::decode, PacketTileEntityDelta::handle);
+        registerMessage(PacketTransporterBatch.class, PacketTransporterBatch::encode, PacketTransporterBatch::decode, PacketTransporterBatch::handle);
     }
 
     private <MSG> void registerMessage(Class<MSG> type, BiConsumer<MSG, PacketBuffer> encoder, Function<PacketBuffer, MSG> decoder, BiConsumer<MSG, Supplier<Context>> consumer) {
@@ -1,14 +1,17 @@
 package mekanism.common.base;
 
 import java.util.Optional;
+import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
 import mekanism.api.energy.IStrictEnergyAcceptor;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.integration.forgeenergy.ForgeEnergyIntegration;
+import mekanism.common.transmitters.grid.AcceptorCache;
 import mekanism.common.util.CapabilityUtils;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
+import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.energy.CapabilityEnergy;
 import net.minecraftforge.energy.IEnergyStorage;
 
@@ -17,23 +20,30 @@ public abstract class EnergyAcceptorWrapper implements IStrictEnergyAcceptor {
     public Coord4D coord;
 
     public static EnergyAcceptorWrapper get(TileEntity tile, Direction side) {
-        EnergyAcceptorWrapper wrapper = getNoCoord(tile, side);
+        return get(tile, side, null);
+    }
+
+    /**
+     * Gets the acceptor wrapper for the given side, and lets the given cache track the capabilities that got looked up.
+     */
+    public static EnergyAcceptorWrapper get(TileEntity tile, Direction side, @Nullable AcceptorCache<?, ?, ?> cache) {
+        EnergyAcceptorWrapper wrapper = getNoCoord(tile, side, cache);
         if (wrapper != null) {
             wrapper.coord = Coord4D.get(tile);
         }
         return wrapper;
     }
 
-    private static EnergyAcceptorWrapper getNoCoord(TileEntity tile, Direction side) {
+    private static EnergyAcceptorWrapper getNoCoord(TileEntity tile, Direction side, @Nullable AcceptorCache<?, ?, ?> cache) {
         if (tile == null || tile.getWorld() == null) {
             return null;
         }
-        Optional<IStrictEnergyAcceptor> energyAcceptorCap = MekanismUtils.toOptional(CapabilityUtils.getCapability(tile, Capabilities.ENERGY_ACCEPTOR_CAPABILITY, side));
+        Optional<IStrictEnergyAcceptor> energyAcceptorCap = MekanismUtils.toOptional(track(cache, CapabilityUtils.getCapability(tile, Capabilities.ENERGY_ACCEPTOR_CAPABILITY, side)));
         if (energyAcceptorCap.isPresent()) {
             return new MekanismAcceptor(energyAcceptorCap.get());
         }
         if (MekanismUtils.useForge()) {
-            Optional<IEnergyStorage> forgeEnergyCap = MekanismUtils.toOptional(CapabilityUtils.getCapability(tile, CapabilityEnergy.ENERGY, side));
+            Optional<IEnergyStorage> forgeEnergyCap = MekanismUtils.toOptional(track(cache, CapabilityUtils.getCapability(tile, CapabilityEnergy.ENERGY, side)));
             if (forgeEnergyCap.isPresent()) {
                 return new ForgeAcceptor(forgeEnergyCap.get());
             }
@@ -41,6 +51,10 @@ public abstract class EnergyAcceptorWrapper implements IStrictEnergyAcceptor {
         return null;
     }
 
+    private static <T> LazyOptional<T> track(@Nullable AcceptorCache<?, ?, ?> cache, LazyOptional<T> capability) {
+        return cache == null ? capability : cache.track(capability);
+    }
+
     public abstract boolean needsEnergy(Direction side);
 
     public static class MekanismAcceptor extends EnergyAcceptorWrapper {
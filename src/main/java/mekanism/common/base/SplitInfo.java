@@ -1,5 +1,7 @@
 package mekanism.common.base;
 
+import mekanism.api.energy.FixedEnergy;
+
 public abstract class SplitInfo<TYPE extends Number & Comparable<TYPE>> {
 
     protected int toSplitAmong;
@@ -58,44 +60,70 @@ public abstract class SplitInfo<TYPE extends Number & Comparable<TYPE>> {
         }
     }
 
+    /**
+     * Keeps track of the amounts as {@link FixedEnergy}, so that what gets sent always adds up to exactly what was split and no energy is lost or created by rounding.
+     */
     public static class DoubleSplitInfo extends SplitInfo<Double> {
 
-        private double amountToSplit;
-        private double amountPerTarget;
-        private double sentSoFar;
+        private final FixedEnergy amountToSplit;
+        private final FixedEnergy amountPerTarget = new FixedEnergy();
+        private final FixedEnergy amountPerLast = new FixedEnergy();
+        private final FixedEnergy sentSoFar = new FixedEnergy();
+        //Boxed copy of amountPerTarget, only updated when it changes as the targets query it for each handler
+        private Double amountPerTargetValue;
 
         public DoubleSplitInfo(double amountToSplit, int totalTargets) {
+            this(FixedEnergy.of(amountToSplit), totalTargets);
+        }
+
+        /**
+         * @param amountToSplit - amount to split, gets copied so the caller's amount is left as it is
+         */
+        public DoubleSplitInfo(FixedEnergy amountToSplit, int totalTargets) {
             super(totalTargets);
-            this.amountToSplit = amountToSplit;
-            amountPerTarget = toSplitAmong == 0 ? 0 : amountToSplit / toSplitAmong;
-            sentSoFar = 0;
+            this.amountToSplit = amountToSplit.copy();
+            if (toSplitAmong != 0) {
+                amountPerTarget.setDivided(this.amountToSplit, toSplitAmong);
+            }
+            amountPerTargetValue = amountPerTarget.toDouble();
         }
 
         @Override
         public void send(Double amountNeeded) {
+            double needed = amountNeeded;
             //If we are giving it, then lower the amount we are checking/splitting
-            amountToSplit -= amountNeeded;
-            sentSoFar += amountNeeded;
+            amountToSplit.subtract(needed);
+            sentSoFar.add(needed);
             toSplitAmong--;
             //Only recalculate it if it is not willing to accept/doesn't want the
             // full per side split
-            if (amountNeeded != amountPerTarget && toSplitAmong != 0) {
-                double amountPerLast = amountPerTarget;
-                amountPerTarget = amountToSplit / toSplitAmong;
-                if (!amountPerChanged && amountPerTarget != amountPerLast) {
-                    amountPerChanged = true;
+            if (amountPerTarget.compareTo(needed) != 0 && toSplitAmong != 0) {
+                amountPerLast.set(amountPerTarget);
+                amountPerTarget.setDivided(amountToSplit, toSplitAmong);
+                if (!amountPerTarget.equals(amountPerLast)) {
+                    amountPerTargetValue = amountPerTarget.toDouble();
+                    if (!amountPerChanged) {
+                        amountPerChanged = true;
+                    }
                 }
             }
         }
 
         @Override
         public Double getAmountPerTarget() {
-            return amountPerTarget;
+            return amountPerTargetValue;
         }
 
         @Override
         public Double getTotalSent() {
+            return sentSoFar.toDouble();
+        }
+
+        /**
+         * @return The exact amount sent so far. This is the live amount and should be copied if it is kept after more is sent.
+         */
+        public FixedEnergy getSentEnergy() {
             return sentSoFar;
         }
     }
-}
\ No newline at end of file
+}
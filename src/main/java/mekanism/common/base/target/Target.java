@@ -35,6 +35,17 @@ public abstract class Target<HANDLER, TYPE extends Number & Comparable<TYPE>, EX
         return handlers;
     }
 
+    /**
+     * Clears the handlers and needed amounts of this target so that it can be reused.
+     *
+     * @param extra The new extra information for this target.
+     */
+    public void reset(EXTRA extra) {
+        handlers.clear();
+        needed.clear();
+        this.extra = extra;
+    }
+
     /**
      * Sends the remaining amount to each handler we still have not settled on an amount for. We increment the amount sent in splitInfo as well as adjust the split as
      * needed if one ends up accepting less than it originally wanted. (The most likely case this would change is with multi-blocks where it may return the same desire to
@@ -0,0 +1,87 @@
+package mekanism.common.capabilities;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.Map;
+import javax.annotation.Nullable;
+import mekanism.common.util.EnumUtils;
+import net.minecraft.util.Direction;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.util.LazyOptional;
+
+/**
+ * Per side cache of the {@link LazyOptional}s a tile hands out, so that looking up a capability doesn't create a new optional every time. As the same optional gets
+ * handed out until it is invalidated, anything holding onto it gets told when the tile stops exposing the capability on that side. Sides that have been checked and
+ * don't expose the capability can be cached as well, so that the check doesn't have to be done again on every lookup.
+ */
+public class CapabilityCache {
+
+    //The last index is for the null side
+    private static final int SIDES = EnumUtils.DIRECTIONS.length + 1;
+    //Marks a side that doesn't expose the capability, it never gets invalidated as invalidating it would invalidate the shared empty optional
+    private static final LazyOptional<?> EMPTY = LazyOptional.empty();
+
+    private final Map<Capability<?>, LazyOptional<?>[]> cachedCapabilities = new Reference2ObjectOpenHashMap<>();
+
+    private static int getIndex(@Nullable Direction side) {
+        return side == null ? SIDES - 1 : side.ordinal();
+    }
+
+    /**
+     * @return The cached optional, an empty optional if the side has been cached as not exposing the capability, or null if there is nothing cached.
+     */
+    @Nullable
+    public LazyOptional<?> get(Capability<?> capability, @Nullable Direction side) {
+        LazyOptional<?>[] optionals = cachedCapabilities.get(capability);
+        return optionals == null ? null : optionals[getIndex(side)];
+    }
+
+    /**
+     * Caches the given optional, it must not be empty as empty optionals can't be invalidated. Use {@link #putEmpty(Capability, Direction)} for sides that don't
+     * expose the capability.
+     *
+     * @return The given optional.
+     */
+    public LazyOptional<?> put(Capability<?> capability, @Nullable Direction side, LazyOptional<?> optional) {
+        cachedCapabilities.computeIfAbsent(capability, cap -> new LazyOptional<?>[SIDES])[getIndex(side)] = optional;
+        return optional;
+    }
+
+    /**
+     * Caches that the given side doesn't expose the capability, until the side gets invalidated.
+     *
+     * @return An empty optional.
+     */
+    public LazyOptional<?> putEmpty(Capability<?> capability, @Nullable Direction side) {
+        return put(capability, side, EMPTY);
+    }
+
+    /**
+     * Invalidates and removes the cached optional of the given capability and side, if there is one.
+     */
+    public void invalidate(Capability<?> capability, @Nullable Direction side) {
+        LazyOptional<?>[] optionals = cachedCapabilities.get(capability);
+        if (optionals != null) {
+            int index = getIndex(side);
+            if (optionals[index] != null) {
+                if (optionals[index] != EMPTY) {
+                    optionals[index].invalidate();
+                }
+                optionals[index] = null;
+            }
+        }
+    }
+
+    /**
+     * Invalidates and removes all the cached optionals.
+     */
+    public void invalidateAll() {
+        for (LazyOptional<?>[] optionals : cachedCapabilities.values()) {
+            for (LazyOptional<?> optional : optionals) {
+                if (optional != null && optional != EMPTY) {
+                    optional.invalidate();
+                }
+            }
+        }
+        cachedCapabilities.clear();
+    }
+}
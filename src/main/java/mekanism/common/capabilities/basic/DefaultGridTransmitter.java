@@ -118,6 +118,11 @@ public class DefaultGridTransmitter<A, N extends DynamicNetwork<A, N, BUFFER>, B
         return null;
     }
 
+    @Override
+    public IGridTransmitter<A, N, BUFFER> getExternalTransmitter(Coord4D from) {
+        return null;
+    }
+
     @Override
     public void takeShare() {
     }
@@ -173,6 +173,11 @@ public class DefaultLogisticalTransporter implements ILogisticalTransporter {
         return null;
     }
 
+    @Override
+    public IGridTransmitter<TileEntity, InventoryNetwork, Void> getExternalTransmitter(Coord4D from) {
+        return null;
+    }
+
     @Override
     public void takeShare() {
     }
@@ -57,6 +57,8 @@ public class GeneralConfig implements IMekanismConfig {
     public final ConfigValue<Integer> maxPumpRange;
     public final BooleanValue pumpWaterSources;
     public final ConfigValue<Integer> maxPlenisherNodes;
+    public final ConfigValue<Integer> pathfinderCacheSize;
+    public final ConfigValue<Integer> heatSolverParallelThreshold;
     public final FloatValue evaporationHeatDissipation;
     public final ConfigValue<Double> evaporationTempMultiplier;
     public final ConfigValue<Double> evaporationSolarMultiplier;
@@ -66,6 +68,7 @@ public class GeneralConfig implements IMekanismConfig {
     public final ConfigValue<Double> superheatingHeatTransfer;
     public final ConfigValue<Double> heatPerFuelTick;
     public final BooleanValue allowTransmitterAlloyUpgrade;
+    public final BooleanValue lazyTransmitterTicking;
     public final BooleanValue allowChunkloading;
     public final BooleanValue allowProtection;
     public final ConfigValue<Integer> portableTeleporterDelay;
@@ -78,6 +81,7 @@ public class GeneralConfig implements IMekanismConfig {
     public final ConfigValue<Integer> laserEnergyNeededPerHardness;
     public final BooleanValue voidInvalidGases;
     public final IntValue digitalMinerMaxRadius;
+    public final IntValue minerSearchThreads;
     public final DoubleValue sawdustChanceLog;
     public EnumValue<EnergyType> energyUnit;
     public EnumValue<TempType> tempUnit;
@@ -142,6 +146,10 @@ public class GeneralConfig implements IMekanismConfig {
         maxPumpRange = builder.comment("Maximum block distance to pull fluid from for the Electric Pump.").define("maxPumpRange", 80);
         pumpWaterSources = builder.comment("If enabled makes Water and Heavy Water blocks be removed from the world on pump.").define("pumpWaterSources", false);
         maxPlenisherNodes = builder.comment("Fluidic Plenisher stops after this many blocks.").define("maxPlenisherNodes", 4_000);
+        pathfinderCacheSize = builder.comment("Maximum number of Logistical Transporter paths to cache per transporter network. The least recently used paths get removed first.")
+              .defineInRange("pathfinderCacheSize", 1_024, 0, Integer.MAX_VALUE);
+        heatSolverParallelThreshold = builder.comment("Minimum number of Thermodynamic Conductors a heat network needs to have for the heat exchange between them to be split across multiple threads. Set to 0 to disable.")
+              .defineInRange("heatSolverParallelThreshold", 8_192, 0, Integer.MAX_VALUE);
 
         builder.comment("Thermal Evaporation Plant Settings").push(EVAPORATION_CATEGORY);
         evaporationHeatDissipation = FloatValue.of(builder.comment("Thermal Evaporation Tower heat loss per tick.").define("heatDissipation", 0.02D));
@@ -157,6 +165,8 @@ public class GeneralConfig implements IMekanismConfig {
         heatPerFuelTick = builder.comment("Amount of heat produced per fuel tick of a fuel's burn time in the Fuelwood Heater.").define("heatPerFuelTick", 4D);
         allowTransmitterAlloyUpgrade = builder.comment("Allow right clicking on Cables/Pipes/Tubes with alloys to upgrade the tier.")
               .define("allowTransmitterAlloyUpgrade", true);
+        lazyTransmitterTicking = builder.comment("Only tick Cables/Pipes/Tubes/Transporters while they have something to do. Disable to tick all loaded transmitters every tick.")
+              .define("lazyTransmitterTicking", true);
         allowChunkloading = builder.comment("Disable to make the anchor upgrade not do anything.").define("allowChunkloading", true);
         allowProtection = builder.comment("Enable the security system for players to prevent others from accessing their machines. Does NOT affect Frequencies.")
               .define("allowProtection", true);
@@ -178,6 +188,8 @@ public class GeneralConfig implements IMekanismConfig {
         digitalMinerMaxRadius = builder.comment("Maximum radius in blocks that the Digital Miner can reach. (Increasing this may have negative effects on stability "
                                                 + "and/or performance. We strongly recommend you leave it at the default value.)")
               .defineInRange("digitalMinerMaxRadius", 32, 1, Integer.MAX_VALUE);
+        minerSearchThreads = builder.comment("Number of threads shared by all Digital Miners to search for the blocks they should mine. Changes apply after a server restart.")
+              .defineInRange("minerSearchThreads", 2, 1, 64);
         sawdustChanceLog = builder.comment("Chance of producing sawdust per operation in the precision sawmill when turning logs into planks.").worldRestart()
               .defineInRange("sawdustChanceLog", 1D, 0, 1);
         energyUnit = builder.comment("Displayed energy type in Mekanism GUIs.").defineEnum("energyType", EnergyType.FE);
@@ -0,0 +1,93 @@
+package mekanism.common.content.assemblicator;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import net.minecraft.inventory.CraftingInventory;
+import net.minecraft.item.crafting.ICraftingRecipe;
+import net.minecraft.item.crafting.IRecipeType;
+import net.minecraft.world.World;
+
+/**
+ * Cache of the crafting recipe that matches the contents of a crafting grid, so that crafting the same thing over and over doesn't search through all the crafting
+ * recipes every time. Grids are compared slot by slot by the item, damage and NBT data, ignoring stack sizes. Only the last {@link #MAX_GRIDS} grids that got looked up
+ * are kept, and the cache gets cleared when the recipes get reloaded.
+ *
+ * Only grids looked up on the server are cached, as the client has its own copies of the recipes.
+ */
+public class CraftingGridCache {
+
+    private static final int MAX_GRIDS = 1_024;
+
+    private static final Map<GridKey, Optional<ICraftingRecipe>> recipes = new LinkedHashMap<GridKey, Optional<ICraftingRecipe>>(16, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<GridKey, Optional<ICraftingRecipe>> eldest) {
+            return size() > MAX_GRIDS;
+        }
+    };
+
+    /**
+     * Same as looking the recipe up in the recipe manager of the world.
+     */
+    public static Optional<ICraftingRecipe> getRecipe(World world, CraftingInventory inv) {
+        if (world.isRemote()) {
+            return world.getRecipeManager().getRecipe(IRecipeType.CRAFTING, inv, world);
+        }
+        GridKey key = GridKey.lookup(inv);
+        Optional<ICraftingRecipe> recipe = recipes.get(key);
+        if (recipe == null) {
+            recipe = world.getRecipeManager().getRecipe(IRecipeType.CRAFTING, inv, world);
+            //Only copy the stacks of the grid when the key gets stored
+            recipes.put(key.copy(), recipe);
+        }
+        return recipe;
+    }
+
+    public static void clear() {
+        recipes.clear();
+    }
+
+    private static class GridKey {
+
+        private final StackKey[] slots;
+        private final int hashCode;
+
+        private GridKey(StackKey[] slots, int hashCode) {
+            this.slots = slots;
+            this.hashCode = hashCode;
+        }
+
+        /**
+         * Creates a key that uses the stacks of the grid as they are, only for looking things up as the grid may still change.
+         */
+        private static GridKey lookup(CraftingInventory inv) {
+            StackKey[] slots = new StackKey[inv.getSizeInventory()];
+            for (int i = 0; i < slots.length; i++) {
+                slots[i] = StackKey.lookup(inv.getStackInSlot(i));
+            }
+            return new GridKey(slots, Arrays.hashCode(slots));
+        }
+
+        /**
+         * Creates a key with copies of the stacks of this key, that can be stored.
+         */
+        private GridKey copy() {
+            StackKey[] copies = new StackKey[slots.length];
+            for (int i = 0; i < copies.length; i++) {
+                copies[i] = slots[i].copy();
+            }
+            return new GridKey(copies, hashCode);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj == this || obj instanceof GridKey && Arrays.equals(slots, ((GridKey) obj).slots);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
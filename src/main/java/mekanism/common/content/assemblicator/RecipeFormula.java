@@ -1,5 +1,6 @@
 package mekanism.common.content.assemblicator;
 
+import it.unimi.dsi.fastutil.objects.Object2IntLinkedOpenHashMap;
 import java.util.ArrayList;
 import java.util.List;
 import mekanism.api.inventory.slot.IInventorySlot;
@@ -8,20 +9,29 @@ import mekanism.common.util.StackUtils;
 import net.minecraft.inventory.CraftingInventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.ICraftingRecipe;
-import net.minecraft.item.crafting.IRecipeType;
 import net.minecraft.util.NonNullList;
 import net.minecraft.world.World;
 
+/**
+ * The recipe encoded in a crafting formula. Which slots of the recipe the stacks that get checked can go in is worked out once per kind of stack, so checking if a stack
+ * is an ingredient doesn't have to match the recipe against the grid again every time. Only the last {@link #MAX_CACHED_STACKS} kinds of stacks that got checked are
+ * kept, as anything that gets offered to the assemblicator gets checked.
+ */
 public class RecipeFormula {
 
+    private static final int MAX_CACHED_STACKS = 64;
+
     public NonNullList<ItemStack> input = NonNullList.withSize(9, ItemStack.EMPTY);
     public ICraftingRecipe recipe;
     private CraftingInventory dummy = MekanismUtils.getDummyCraftingInv();
+    //Bit mask of the slots each kind of stack can go in, in the order they were last checked
+    private final Object2IntLinkedOpenHashMap<StackKey> ingredientSlots = new Object2IntLinkedOpenHashMap<>();
 
     public RecipeFormula(World world, NonNullList<ItemStack> inv) {
         for (int i = 0; i < 9; i++) {
             input.set(i, StackUtils.size(inv.get(i), 1));
         }
+        ingredientSlots.defaultReturnValue(-1);
         resetToRecipe();
         recipe = getRecipeFromGrid(dummy, world);
     }
@@ -34,6 +44,7 @@ public class RecipeFormula {
                 input.set(i, StackUtils.size(craftingSlot.getStack(), 1));
             }
         }
+        ingredientSlots.defaultReturnValue(-1);
         resetToRecipe();
         recipe = getRecipeFromGrid(dummy, world);
     }
@@ -47,37 +58,56 @@ public class RecipeFormula {
     public boolean matches(World world, List<IInventorySlot> craftingGridSlots) {
         //Should always be 9 for the size
         for (int i = 0; i < craftingGridSlots.size(); i++) {
-            //TODO: Do we really need to be copying it here
-            dummy.setInventorySlotContents(i, craftingGridSlots.get(i).getStack().copy());
+            //Recipes don't change the stacks they are matched against, so there is no need to copy them
+            dummy.setInventorySlotContents(i, craftingGridSlots.get(i).getStack());
         }
-        return recipe.matches(dummy, world);
-    }
-
-    public boolean isIngredientInPos(World world, ItemStack stack, int i) {
+        boolean matches = recipe.matches(dummy, world);
+        //Don't hold onto the stacks of the grid
         resetToRecipe();
-        dummy.setInventorySlotContents(i, stack);
-        return recipe.matches(dummy, world);
+        return matches;
     }
 
-    public boolean isIngredient(World world, ItemStack stack) {
+    /**
+     * @return A bit mask of the slots of the recipe the given stack can go in.
+     */
+    private int getIngredientSlots(World world, ItemStack stack) {
+        if (recipe == null) {
+            return 0;
+        }
+        int slots = ingredientSlots.getAndMoveToLast(StackKey.lookup(stack));
+        if (slots != -1) {
+            return slots;
+        }
+        slots = 0;
         for (int i = 0; i < 9; i++) {
             dummy.setInventorySlotContents(i, stack);
             if (recipe.matches(dummy, world)) {
-                return true;
+                slots |= 1 << i;
             }
             dummy.setInventorySlotContents(i, input.get(i));
         }
-        return false;
+        if (ingredientSlots.size() >= MAX_CACHED_STACKS) {
+            ingredientSlots.removeFirstInt();
+        }
+        ingredientSlots.put(StackKey.copyOf(stack), slots);
+        return slots;
+    }
+
+    public boolean isIngredientInPos(World world, ItemStack stack, int i) {
+        return (getIngredientSlots(world, stack) & 1 << i) != 0;
+    }
+
+    public boolean isIngredient(World world, ItemStack stack) {
+        return getIngredientSlots(world, stack) != 0;
     }
 
     public List<Integer> getIngredientIndices(World world, ItemStack stack) {
-        List<Integer> ret = new ArrayList<>();
+        int slots = getIngredientSlots(world, stack);
+        List<Integer> ret = new ArrayList<>(Integer.bitCount(slots));
         for (int i = 0; i < 9; i++) {
-            dummy.setInventorySlotContents(i, stack);
-            if (recipe.matches(dummy, world)) {
+            if ((slots & 1 << i) != 0) {
                 ret.add(i);
             }
-            dummy.setInventorySlotContents(i, input.get(i));
         }
         return ret;
     }
@@ -95,6 +125,6 @@ public class RecipeFormula {
     }
 
     private static ICraftingRecipe getRecipeFromGrid(CraftingInventory inv, World world) {
-        return world.getRecipeManager().getRecipe(IRecipeType.CRAFTING, inv, world).get();
+        return CraftingGridCache.getRecipe(world, inv).orElse(null);
     }
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package mekanism.common.content.assemblicator;
+
+import mekanism.common.util.StackUtils;
+import net.minecraft.item.ItemStack;
+
+/**
+ * Key for the stack in a crafting slot, which compares the item, damage and NBT data and ignores the stack size. Unlike {@link
+ * mekanism.common.content.transporter.HashedItem} an empty stack is only equal to other empty stacks.
+ */
+final class StackKey {
+
+    private final ItemStack stack;
+    private final int hashCode;
+
+    private StackKey(ItemStack stack) {
+        this.stack = stack;
+        int code = 1;
+        if (!stack.isEmpty()) {
+            code = 31 * code + stack.getItem().hashCode();
+            code = 31 * code + stack.getDamage();
+            if (stack.hasTag()) {
+                code = 31 * code + stack.getTag().hashCode();
+            }
+        }
+        hashCode = code;
+    }
+
+    /**
+     * Creates a key that uses the given stack as is, only for looking things up as the stack may still change.
+     */
+    static StackKey lookup(ItemStack stack) {
+        return new StackKey(stack);
+    }
+
+    /**
+     * Creates a key with a copy of the given stack, that can be stored.
+     */
+    static StackKey copyOf(ItemStack stack) {
+        return new StackKey(StackUtils.size(stack, 1));
+    }
+
+    /**
+     * Creates a key with a copy of the stack of this key, that can be stored.
+     */
+    StackKey copy() {
+        return copyOf(stack);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof StackKey) {
+            ItemStack other = ((StackKey) obj).stack;
+            if (stack.isEmpty() || other.isEmpty()) {
+                return stack.isEmpty() && other.isEmpty();
+            }
+            return stack.isItemEqual(other) && ItemStack.areItemStackTagsEqual(stack, other);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
@@ -0,0 +1,184 @@
+package mekanism.common.content.fluid;
+
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import java.util.Collection;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.ListNBT;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.common.util.Constants.NBT;
+
+/**
+ * State of a breadth first flood fill through fluid blocks, as used by the Electric Pump and the Fluidic Plenisher. Positions are stored as {@link BlockPos#toLong()
+ * packed longs}, both in memory and when saved, so large fills don't create an object per block.
+ *
+ * The frontier holds the positions that are still to be processed, in the order they were queued in, and never holds the same position twice. Positions that have
+ * been processed can be marked as visited, after which they don't get queued again.
+ */
+public class FluidFloodFill {
+
+    private final LongArrayFIFOQueue frontier = new LongArrayFIFOQueue();
+    private final LongSet queued = new LongOpenHashSet();
+    private final LongSet visited = new LongOpenHashSet();
+
+    /**
+     * Adds the given position to the end of the frontier, unless it is already queued or has been visited.
+     *
+     * @return {@code true} if the position got queued.
+     */
+    public boolean enqueue(BlockPos pos) {
+        long packed = pos.toLong();
+        if (visited.contains(packed) || !queued.add(packed)) {
+            return false;
+        }
+        frontier.enqueue(packed);
+        return true;
+    }
+
+    /**
+     * @return The position at the start of the frontier, without removing it.
+     */
+    public BlockPos peek() {
+        return BlockPos.fromLong(frontier.firstLong());
+    }
+
+    /**
+     * Removes the position at the start of the frontier.
+     *
+     * @return The removed position.
+     */
+    public BlockPos poll() {
+        long packed = frontier.dequeueLong();
+        queued.remove(packed);
+        return BlockPos.fromLong(packed);
+    }
+
+    public boolean hasFrontier() {
+        return !frontier.isEmpty();
+    }
+
+    public void markVisited(BlockPos pos) {
+        visited.add(pos.toLong());
+    }
+
+    public boolean isVisited(BlockPos pos) {
+        return visited.contains(pos.toLong());
+    }
+
+    public int getVisitedCount() {
+        return visited.size();
+    }
+
+    /**
+     * Does a single step of filling the positions of this flood fill. Positions get taken from the frontier until a loaded one is found, which gets filled if it can be
+     * replaced, after which its neighbours in the given directions get queued if the fill can spread to them. Positions that are not loaded are skipped and count as
+     * visited.
+     *
+     * @param target     The blocks being filled.
+     * @param directions The directions the fill spreads in.
+     *
+     * @return {@code false} if there was nothing left in the frontier.
+     */
+    public boolean fillNext(FillTarget target, Collection<Direction> directions) {
+        while (hasFrontier()) {
+            BlockPos pos = poll();
+            if (target.isLoaded(pos)) {
+                if (target.canReplace(pos, false)) {
+                    target.fill(pos);
+                }
+                //Only mark the position as visited after checking it, so that it doesn't get queued again by its neighbours
+                markVisited(pos);
+                for (Direction direction : directions) {
+                    BlockPos sidePos = pos.offset(direction);
+                    if (!isVisited(sidePos) && target.isLoaded(sidePos) && target.canReplace(sidePos, true)) {
+                        enqueue(sidePos);
+                    }
+                }
+                return true;
+            }
+            markVisited(pos);
+        }
+        return false;
+    }
+
+    public void clear() {
+        frontier.clear();
+        queued.clear();
+        visited.clear();
+    }
+
+    public void writeFrontier(CompoundNBT nbtTags, String key) {
+        if (!frontier.isEmpty()) {
+            long[] nodes = new long[frontier.size()];
+            //Cycle through the queue to read it in order, leaving it as it was
+            for (int i = 0; i < nodes.length; i++) {
+                long packed = frontier.dequeueLong();
+                nodes[i] = packed;
+                frontier.enqueue(packed);
+            }
+            nbtTags.putLongArray(key, nodes);
+        }
+    }
+
+    public void writeVisited(CompoundNBT nbtTags, String key) {
+        if (!visited.isEmpty()) {
+            nbtTags.putLongArray(key, visited.toLongArray());
+        }
+    }
+
+    public void readFrontier(CompoundNBT nbtTags, String key) {
+        frontier.clear();
+        queued.clear();
+        if (nbtTags.contains(key, NBT.TAG_LONG_ARRAY)) {
+            for (long packed : nbtTags.getLongArray(key)) {
+                if (queued.add(packed)) {
+                    frontier.enqueue(packed);
+                }
+            }
+        } else if (nbtTags.contains(key, NBT.TAG_LIST)) {
+            //Positions saved before they were stored as longs
+            ListNBT tagList = nbtTags.getList(key, NBT.TAG_COMPOUND);
+            for (int i = 0; i < tagList.size(); i++) {
+                enqueue(readLegacyPos(tagList.getCompound(i)));
+            }
+        }
+    }
+
+    public void readVisited(CompoundNBT nbtTags, String key) {
+        visited.clear();
+        if (nbtTags.contains(key, NBT.TAG_LONG_ARRAY)) {
+            for (long packed : nbtTags.getLongArray(key)) {
+                visited.add(packed);
+            }
+        } else if (nbtTags.contains(key, NBT.TAG_LIST)) {
+            ListNBT tagList = nbtTags.getList(key, NBT.TAG_COMPOUND);
+            for (int i = 0; i < tagList.size(); i++) {
+                markVisited(readLegacyPos(tagList.getCompound(i)));
+            }
+        }
+    }
+
+    private static BlockPos readLegacyPos(CompoundNBT compound) {
+        return new BlockPos(compound.getInt("x"), compound.getInt("y"), compound.getInt("z"));
+    }
+
+    /**
+     * The blocks a {@link FluidFloodFill} fills.
+     */
+    public interface FillTarget {
+
+        boolean isLoaded(BlockPos pos);
+
+        /**
+         * @param isPathfinding {@code true} when checking if the fill can spread through the position rather than fill it, in which case fluids can be passed through.
+         */
+        boolean canReplace(BlockPos pos, boolean isPathfinding);
+
+        /**
+         * Fills the given position, if there is anything left to fill it with.
+         */
+        void fill(BlockPos pos);
+    }
+}
@@ -67,7 +67,8 @@ public class MatrixUpdateProtocol extends UpdateProtocol<SynchronizedMatrixData>
     @Override
     protected void onStructureDestroyed(SynchronizedMatrixData structure) {
         //Save all energy changes before destroying the structure
-        structure.tick(pointer.getWorld());
+        structure.tick();
+        structure.distributeEnergy();
         super.onStructureDestroyed(structure);
     }
 
@@ -76,7 +77,7 @@ public class MatrixUpdateProtocol extends UpdateProtocol<SynchronizedMatrixData>
         for (Coord4D coord : innerNodes) {
             TileEntity tile = MekanismUtils.getTileEntity(pointer.getWorld(), coord.getPos());
             if (tile instanceof TileEntityInductionCell) {
-                structure.addCell(coord, (TileEntityInductionCell) tile);
+                structure.addCell((TileEntityInductionCell) tile);
             } else if (tile instanceof TileEntityInductionProvider) {
                 structure.addProvider(coord, (TileEntityInductionProvider) tile);
             }
@@ -1,5 +1,7 @@
 package mekanism.common.content.matrix;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -7,6 +9,7 @@ import java.util.Set;
 import javax.annotation.Nonnull;
 import mekanism.api.Coord4D;
 import mekanism.api.TileNetworkList;
+import mekanism.api.energy.FixedEnergy;
 import mekanism.api.inventory.slot.IInventorySlot;
 import mekanism.common.inventory.slot.EnergyInventorySlot;
 import mekanism.common.multiblock.SynchronizedData;
@@ -14,19 +17,28 @@ import mekanism.common.tile.TileEntityInductionCell;
 import mekanism.common.tile.TileEntityInductionProvider;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.network.PacketBuffer;
-import net.minecraft.world.World;
-
-//TODO: Do something better for purposes of double precision such as BigInt
+import net.minecraft.util.math.ChunkPos;
+
+/**
+ * The energy of an induction matrix is pooled into a single total instead of being moved in and out of the cells every tick. The cells work out their share of the
+ * total whenever their energy is read, such as when they get saved or broken, and only get the share written back into them when the matrix gets destroyed.
+ *
+ * The total and the queued transfers are {@link FixedEnergy}, so that a lot of small transfers into a huge matrix don't get lost to double rounding.
+ */
 public class SynchronizedMatrixData extends SynchronizedData<SynchronizedMatrixData> {
 
     private Set<Coord4D> providers = new HashSet<>();
-    private Set<Coord4D> cells = new HashSet<>();
-    private double queuedOutput;
-    private double queuedInput;
+    private List<TileEntityInductionCell> cells = new ArrayList<>();
+    //A cell in each chunk that has cells in it, to mark those chunks for saving when the energy changes
+    private Long2ObjectMap<TileEntityInductionCell> cellChunks = new Long2ObjectOpenHashMap<>();
+    private final FixedEnergy queuedOutput = new FixedEnergy();
+    private final FixedEnergy queuedInput = new FixedEnergy();
     private double lastOutput;
     private double lastInput;
 
-    private double cachedTotal;
+    private final FixedEnergy cachedTotal = new FixedEnergy();
+    //Scratch amount for working out the energy after the queue and the cell shares without allocating
+    private final FixedEnergy scratch = new FixedEnergy();
     private double transferCap;
     private double storageCap;
 
@@ -60,11 +72,13 @@ public class SynchronizedMatrixData extends SynchronizedData<SynchronizedMatrixD
         inventorySlots = toCopy;
     }
 
-    public void addCell(Coord4D coord, TileEntityInductionCell cell) {
-        //As we already have the two different variables just pass them instead of accessing world to get tile again
-        cells.add(coord);
+    public void addCell(TileEntityInductionCell cell) {
+        //Read the energy before linking the cell, as it may still be part of the matrix that is being replaced
+        cachedTotal.add(cell.getEnergy());
+        cell.setMatrix(this, storageCap);
+        cells.add(cell);
+        cellChunks.putIfAbsent(ChunkPos.asLong(cell.getPos().getX() >> 4, cell.getPos().getZ() >> 4), cell);
         storageCap += cell.tier.getMaxEnergy();
-        cachedTotal += cell.getEnergy();
     }
 
     public void addProvider(Coord4D coord, TileEntityInductionProvider provider) {
@@ -73,25 +87,23 @@ public class SynchronizedMatrixData extends SynchronizedData<SynchronizedMatrixD
     }
 
     public double getEnergyPostQueue() {
-        return cachedTotal + queuedInput - queuedOutput;
+        return scratch.set(cachedTotal).add(queuedInput).subtract(queuedOutput).toDouble();
     }
 
-    public void tick(World world) {
+    public void tick() {
         //See comment in getEnergyPostQueue for explanation of how lastChange is calculated.
-        double lastChange = queuedInput - queuedOutput;
-        if (lastChange < 0) {
-            //We are removing energy
-            removeEnergy(world, -lastChange);
-        } else if (lastChange > 0) {
-            //we are adding energy
-            addEnergy(world, lastChange);
+        if (!queuedInput.equals(queuedOutput)) {
+            cachedTotal.add(queuedInput).subtract(queuedOutput);
+            //The cells work out their energy when they get saved, so just make sure they do
+            for (TileEntityInductionCell cell : cellChunks.values()) {
+                MekanismUtils.saveChunk(cell);
+            }
         }
-        cachedTotal += lastChange;
 
-        lastInput = queuedInput;
-        queuedInput = 0;
-        lastOutput = queuedOutput;
-        queuedOutput = 0;
+        lastInput = queuedInput.toDouble();
+        queuedInput.set(0);
+        lastOutput = queuedOutput.toDouble();
+        queuedOutput.set(0);
     }
 
     public double queueEnergyAddition(double energy, boolean simulate) {
@@ -114,7 +126,7 @@ public class SynchronizedMatrixData extends SynchronizedData<SynchronizedMatrixD
         }
         if (!simulate) {
             //Increase how much we are inputting
-            queuedInput += energy;
+            queuedInput.add(energy);
         }
         return energy;
     }
@@ -140,7 +152,7 @@ public class SynchronizedMatrixData extends SynchronizedData<SynchronizedMatrixD
         }
         if (!simulate) {
             //Increase how much we are outputting by the amount we accepted
-            queuedOutput += energy;
+            queuedOutput.add(energy);
         }
         return energy;
     }
@@ -163,63 +175,32 @@ public class SynchronizedMatrixData extends SynchronizedData<SynchronizedMatrixD
         }
     }
 
-    private void addEnergy(World world, double energy) {
-        for (Coord4D coord : cells) {
-            TileEntityInductionCell cell = MekanismUtils.getTileEntity(TileEntityInductionCell.class, world, coord.getPos());
-            if (cell != null) {
-                double cellEnergy = cell.getEnergy();
-                double cellMax = cell.getMaxEnergy();
-                if (cellEnergy >= cellMax) {
-                    //Is full
-                    //Should this just be ==
-                    continue;
-                }
-                double cellSpace = cellMax - cellEnergy;
-                if (cellSpace >= energy) {
-                    //All fits
-                    cell.setEnergy(cellEnergy + energy);
-                    //This cells data changed, so mark it for saving
-                    MekanismUtils.saveChunk(cell);
-                    break;
-                } else {
-                    //We have left over so
-                    cell.setEnergy(cellMax);
-                    energy -= cellSpace;
-                    //This cells data changed, so mark it for saving
-                    MekanismUtils.saveChunk(cell);
-                }
+    /**
+     * Gives the cells that are still part of this matrix their share of the energy, called when the matrix is destroyed.
+     */
+    public void distributeEnergy() {
+        for (TileEntityInductionCell cell : cells) {
+            if (cell.getMatrix() == this) {
+                //Read the share before unlinking the cell
+                cell.setEnergy(cell.getEnergy());
+                cell.setMatrix(null, 0);
+                MekanismUtils.saveChunk(cell);
             }
         }
     }
 
-    private void removeEnergy(World world, double energy) {
-        for (Coord4D coord : cells) {
-            TileEntityInductionCell cell = MekanismUtils.getTileEntity(TileEntityInductionCell.class, world, coord.getPos());
-            if (cell != null) {
-                double cellEnergy = cell.getEnergy();
-                if (cellEnergy == 0) {
-                    //It is already empty
-                    continue;
-                }
-                if (cellEnergy >= energy) {
-                    //Can supply it all
-                    cell.setEnergy(cellEnergy - energy);
-                    //This cells data changed, so mark it for saving
-                    MekanismUtils.saveChunk(cell);
-                    break;
-                } else {
-                    //We need to keep removing from other ones
-                    cell.setEnergy(0);
-                    energy -= cellEnergy;
-                    //This cells data changed, so mark it for saving
-                    MekanismUtils.saveChunk(cell);
-                }
-            }
-        }
+    /**
+     * Gets the share of the stored energy of a cell, the energy fills the cells in the order they were added in.
+     *
+     * @param offset   - the combined capacity of the cells that were added before the cell
+     * @param capacity - the capacity of the cell
+     */
+    public double getCellEnergy(double offset, double capacity) {
+        return scratch.set(cachedTotal).subtract(offset).clamp(capacity).toDouble();
     }
 
     public TileNetworkList addStructureData(TileNetworkList data) {
-        data.add(cachedTotal);
+        data.add(cachedTotal.toDouble());
         data.add(storageCap);
         data.add(transferCap);
         data.add(lastInput);
@@ -235,7 +216,7 @@ public class SynchronizedMatrixData extends SynchronizedData<SynchronizedMatrixD
     }
 
     public void readStructureData(PacketBuffer dataStream) {
-        cachedTotal = dataStream.readDouble();
+        cachedTotal.set(dataStream.readDouble());
         storageCap = dataStream.readDouble();
         transferCap = dataStream.readDouble();
         lastInput = dataStream.readDouble();
@@ -258,7 +239,7 @@ public class SynchronizedMatrixData extends SynchronizedData<SynchronizedMatrixD
     }
 
     public double getEnergy() {
-        return cachedTotal;
+        return cachedTotal.toDouble();
     }
 
     public double getLastInput() {
@@ -270,11 +251,11 @@ public class SynchronizedMatrixData extends SynchronizedData<SynchronizedMatrixD
     }
 
     public double getRemainingInput() {
-        return transferCap - queuedInput;
+        return transferCap - queuedInput.toDouble();
     }
 
     public double getRemainingOutput() {
-        return transferCap - queuedOutput;
+        return transferCap - queuedOutput.toDouble();
     }
 
     public int getCellCount() {
@@ -67,7 +67,8 @@ public class MItemStackFilter extends MinerFilter<MItemStackFilter> implements I
     @Override
     public int hashCode() {
         int code = 1;
-        code = 31 * code + itemType.hashCode();
+        //Hash the item, as stacks don't override hashCode and equals only compares the items
+        code = 31 * code + itemType.getItem().hashCode();
         return code;
     }
 
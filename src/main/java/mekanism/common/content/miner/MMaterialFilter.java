@@ -53,7 +53,8 @@ public class MMaterialFilter extends MinerFilter<MMaterialFilter> implements IMa
     @Override
     public int hashCode() {
         int code = 1;
-        code = 31 * code + materialItem.hashCode();
+        //Hash the item, as stacks don't override hashCode and equals only compares the items
+        code = 31 * code + materialItem.getItem().hashCode();
         return code;
     }
 
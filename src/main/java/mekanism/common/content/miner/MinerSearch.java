@@ -0,0 +1,338 @@
+package mekanism.common.content.miner;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.ShortArrayList;
+import it.unimi.dsi.fastutil.shorts.ShortList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
+import mekanism.api.Coord4D;
+import mekanism.api.text.IHasTextComponent;
+import mekanism.common.Mekanism;
+import mekanism.common.MekanismLang;
+import mekanism.common.base.ILangEntry;
+import mekanism.common.block.BlockBounding;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.tile.TileEntityDigitalMiner;
+import mekanism.common.util.ChunkSectionScanner;
+import mekanism.common.util.MekanismUtils;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.FlowingFluidBlock;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.ITextComponent;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.fluids.IFluidBlock;
+
+/**
+ * Searches the area of a Digital Miner for the blocks it should mine. Searches share a small pool of low priority threads instead of each miner starting its own thread,
+ * and scan the area one chunk section at a time with a {@link ChunkSectionScanner}, skipping sections whose palette doesn't have any state that should be mined. A search
+ * only scans a few sections before letting the next search in the pool continue, and hands the targets of every scanned section to the miner as it goes, so the miner
+ * can start mining before the search is done.
+ *
+ * Everything the search needs from the miner gets copied when it is started, and the targets only get added to the miner on the server thread, in
+ * {@link #drainResults()}. The miner only mines targets from sections that have been scanned, but blocks can still change while a section is read, so a section
+ * that fails to be read gets read again, and handed to the server thread if it keeps failing.
+ */
+public class MinerSearch implements Runnable {
+
+    private static final int SECTIONS_PER_SLICE = 8;
+    private static final int MAX_ATTEMPTS = 3;
+    @Nullable
+    private static ExecutorService executor;
+
+    private final TileEntityDigitalMiner tile;
+
+    public State state = State.IDLE;
+
+    public volatile int found = 0;
+
+    private final Queue<SectionTargets> results = new ConcurrentLinkedQueue<>();
+    private volatile boolean cancelled;
+    private volatile boolean scanned;
+    //Section the search thread failed to read and stopped at, or -1
+    private volatile int serverSection = -1;
+
+    //Only used by the thread running the search, or by the server thread while the search is stopped at serverSection
+    private final Map<BlockState, MinerFilter<?>> acceptedStates = new Reference2ObjectOpenHashMap<>();
+    private final ChunkSectionScanner scanner = new ChunkSectionScanner(this::isTarget);
+    private final ShortList sectionTargets = new ShortArrayList();
+    private final List<MinerFilter<?>> sectionFilters = new ArrayList<>();
+    private ExecutorService searchExecutor;
+    private List<MinerFilter<?>> filters;
+    private boolean inverse;
+    private BlockPos minerPos;
+    private int startX;
+    private int startZ;
+    private int minY;
+    private int maxY;
+    private int diameter;
+    private int minChunkX;
+    private int minChunkZ;
+    private int chunksX;
+    private int minSection;
+    private int sectionLayers;
+    private Chunk[] chunks;
+    //Index of the next section to scan, sections are ordered by layer and then by chunk
+    private int cursor;
+
+    public MinerSearch(TileEntityDigitalMiner tile) {
+        this.tile = tile;
+    }
+
+    /**
+     * Stops all searches that are still running, called when the server stops.
+     */
+    public static synchronized void reset() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    private static synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            AtomicInteger threadCount = new AtomicInteger();
+            executor = Executors.newFixedThreadPool(MekanismConfig.general.minerSearchThreads.get(), runnable -> {
+                Thread thread = new Thread(runnable, "Mekanism Miner Search #" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                //Searches should get out of the way of the server thread
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            });
+        }
+        return executor;
+    }
+
+    /**
+     * Starts searching the current area of the miner, loading the chunks in it if they are not loaded yet. Must be called on the server thread.
+     */
+    public void start() {
+        World world = tile.getWorld();
+        if (state != State.IDLE || world == null) {
+            return;
+        }
+        state = State.SEARCHING;
+        filters = new ArrayList<>(tile.getFilters());
+        inverse = tile.inverse;
+        if (!inverse && filters.isEmpty()) {
+            state = State.FINISHED;
+            return;
+        }
+        Coord4D start = tile.getStartingCoord();
+        minerPos = tile.getPos();
+        diameter = tile.getDiameter();
+        startX = start.x;
+        startZ = start.z;
+        minY = tile.minY;
+        maxY = tile.maxY;
+        minChunkX = startX >> 4;
+        minChunkZ = startZ >> 4;
+        chunksX = ((startX + diameter - 1) >> 4) - minChunkX + 1;
+        int chunksZ = ((startZ + diameter - 1) >> 4) - minChunkZ + 1;
+        chunks = new Chunk[chunksX * chunksZ];
+        for (int chunkZ = 0; chunkZ < chunksZ; chunkZ++) {
+            for (int chunkX = 0; chunkX < chunksX; chunkX++) {
+                chunks[chunkZ * chunksX + chunkX] = world.getChunk(minChunkX + chunkX, minChunkZ + chunkZ);
+            }
+        }
+        //Only scan the sections that can have blocks in them
+        minSection = Math.max(minY, 0) >> 4;
+        sectionLayers = Math.max((Math.min(maxY, world.getHeight() - 1) >> 4) - minSection + 1, 0);
+        searchExecutor = getExecutor();
+        searchExecutor.execute(this);
+    }
+
+    /**
+     * Stops the search, the targets that were already found stay with the miner.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    private boolean isCancelled() {
+        return cancelled || tile.isRemoved();
+    }
+
+    @Override
+    public void run() {
+        try {
+            int sections = sectionLayers * chunks.length;
+            for (int end = Math.min(cursor + SECTIONS_PER_SLICE, sections); cursor < end; cursor++) {
+                if (isCancelled()) {
+                    return;
+                }
+                if (!tryScanSection(cursor)) {
+                    //The server thread reads the section and continues the search
+                    return;
+                }
+            }
+            if (cursor < sections) {
+                //Let the other searches continue before scanning the next sections
+                searchExecutor.execute(this);
+                return;
+            }
+        } catch (RejectedExecutionException e) {
+            //The pool got shut down as the server is stopping
+            return;
+        }
+        scanned = true;
+    }
+
+    /**
+     * Scans the given section, trying again if reading it fails.
+     *
+     * @return {@code false} if the section couldn't be read, in which case it is handed to the server thread to be read in {@link #drainResults()}.
+     */
+    private boolean tryScanSection(int index) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                scanSection(index);
+                return true;
+            } catch (RuntimeException e) {
+                //The server thread may change the section while we are reading it, which can make reading it fail. Forget what we found in it and read it again
+                sectionTargets.clear();
+                sectionFilters.clear();
+                if (attempt >= MAX_ATTEMPTS) {
+                    Mekanism.logger.warn("Digital Miner search failed to read a chunk section, reading it on the server thread instead", e);
+                    serverSection = index;
+                    return false;
+                }
+            }
+        }
+    }
+
+    private void scanSection(int index) {
+        int column = index % chunks.length;
+        int sectionY = minSection + index / chunks.length;
+        Chunk chunk = chunks[column];
+        int chunkX = minChunkX + column % chunksX;
+        int chunkZ = minChunkZ + column / chunksX;
+        scanner.scanSection(chunk.getSections()[sectionY], Math.max(startX, chunkX << 4), Math.max(minY, sectionY << 4), Math.max(startZ, chunkZ << 4),
+              Math.min(startX + diameter - 1, (chunkX << 4) + 15), Math.min(maxY, (sectionY << 4) + 15), Math.min(startZ + diameter - 1, (chunkZ << 4) + 15),
+              (pos, state) -> {
+                  if (!state.getBlock().isAir(state, chunk, pos) && state.getBlockHardness(chunk, pos) >= 0 && !pos.equals(minerPos)) {
+                      sectionTargets.add(MinerTargetIndex.packPos(pos.getX(), pos.getY(), pos.getZ()));
+                      sectionFilters.add(acceptedStates.get(state));
+                  }
+                  return true;
+              });
+        if (!sectionTargets.isEmpty()) {
+            results.add(new SectionTargets(chunkX, chunkZ, sectionTargets.toShortArray(), sectionFilters.toArray(new MinerFilter<?>[0])));
+            found += sectionTargets.size();
+            sectionTargets.clear();
+            sectionFilters.clear();
+        }
+    }
+
+    /**
+     * Checks if blocks with the given state should be mined, only gets called once per state by the {@link #scanner}.
+     */
+    private boolean isTarget(BlockState state) {
+        Block block = state.getBlock();
+        if (block instanceof FlowingFluidBlock || block instanceof IFluidBlock || block instanceof BlockBounding || state.isAir() || isReplaceBlock(block)) {
+            //Skip air, liquids, bounding blocks and the blocks the miner replaces mined blocks with
+            return false;
+        }
+        MinerFilter<?> filterFound = null;
+        for (MinerFilter<?> filter : filters) {
+            if (filter.canFilter(state)) {
+                filterFound = filter;
+                break;
+            }
+        }
+        acceptedStates.put(state, filterFound);
+        return inverse == (filterFound == null);
+    }
+
+    /**
+     * Same as {@link TileEntityDigitalMiner#isReplaceStack(net.minecraft.item.ItemStack)}, for the filters the search was started with and without creating a stack.
+     */
+    private boolean isReplaceBlock(Block block) {
+        for (MinerFilter<?> filter : filters) {
+            if (!filter.replaceStack.isEmpty() && filter.replaceStack.getItem() == block.asItem()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds the targets found since the last call to the miner, and finishes the search once everything has been scanned. Must be called on the server thread.
+     */
+    public void drainResults() {
+        if (state != State.SEARCHING || chunks == null) {
+            return;
+        }
+        int section = serverSection;
+        if (section != -1 && !isCancelled()) {
+            //The search thread is stopped until we are done, and nothing changes the section while we read it on the server thread
+            try {
+                scanSection(section);
+            } catch (RuntimeException e) {
+                sectionTargets.clear();
+                sectionFilters.clear();
+                Mekanism.logger.error("Digital Miner search failed to read a chunk section, skipping it", e);
+            }
+            cursor = section + 1;
+            serverSection = -1;
+            try {
+                searchExecutor.execute(this);
+            } catch (RejectedExecutionException e) {
+                //The pool got shut down as the server is stopping
+            }
+        }
+        //Read before draining, so that no results can get added after the last drain
+        boolean done = scanned;
+        for (SectionTargets targets = results.poll(); targets != null; targets = results.poll()) {
+            tile.getTargets().add(targets.chunkX, targets.chunkZ, targets.positions, targets.filters);
+        }
+        if (done) {
+            state = State.FINISHED;
+            chunks = null;
+            filters = null;
+            MekanismUtils.saveChunk(tile);
+        }
+    }
+
+    private static class SectionTargets {
+
+        private final int chunkX;
+        private final int chunkZ;
+        private final short[] positions;
+        private final MinerFilter<?>[] filters;
+
+        private SectionTargets(int chunkX, int chunkZ, short[] positions, MinerFilter<?>[] filters) {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+            this.positions = positions;
+            this.filters = filters;
+        }
+    }
+
+    public enum State implements IHasTextComponent {
+        IDLE(MekanismLang.MINER_IDLE),
+        SEARCHING(MekanismLang.MINER_SEARCHING),
+        PAUSED(MekanismLang.MINER_PAUSED),
+        FINISHED(MekanismLang.MINER_READY);
+
+        private final ILangEntry langEntry;
+
+        State(ILangEntry langEntry) {
+            this.langEntry = langEntry;
+        }
+
+        @Override
+        public ITextComponent getTextComponent() {
+            return langEntry.translate();
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package mekanism.common.content.miner;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.annotation.Nullable;
+import mekanism.common.HashList;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraftforge.common.util.Constants.NBT;
+
+/**
+ * The blocks a Digital Miner still has to mine, grouped by chunk. Targets are stored as their position in the chunk packed into a short, and the filter whose replace
+ * stack should be placed after mining a target as a short ordinal into a list of the filters used, so a target takes four bytes at most. The number of targets is kept
+ * up to date as targets get added and removed.
+ *
+ * Targets get mined in the order they were added in, one chunk at a time. When the miner gets to a chunk that is not loaded, the chunk gets moved behind the others so
+ * that the loaded chunks get mined first, and the targets in it only get dropped if it still isn't loaded once the miner gets back to it.
+ */
+public class MinerTargetIndex {
+
+    /**
+     * Miners with more targets than this don't save their targets, and search again when they get loaded instead of bloating the chunk they are in.
+     */
+    private static final int MAX_SAVED_TARGETS = 65_536;
+
+    private final Long2ObjectLinkedOpenHashMap<ChunkTargets> chunks = new Long2ObjectLinkedOpenHashMap<>();
+    //Ordinal 0 is no replace filter
+    private final List<MinerFilter<?>> replaceFilters = new ArrayList<>();
+    private int size;
+
+    /**
+     * @param x - x coordinate in the chunk
+     * @param y - y coordinate in the world
+     * @param z - z coordinate in the chunk
+     *
+     * @return The packed position of a block in a chunk.
+     */
+    public static short packPos(int x, int y, int z) {
+        return (short) (y << 8 | (z & 15) << 4 | x & 15);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        chunks.clear();
+        replaceFilters.clear();
+        size = 0;
+    }
+
+    /**
+     * Adds targets to the given chunk.
+     *
+     * @param chunkX         - x coordinate of the chunk
+     * @param chunkZ         - z coordinate of the chunk
+     * @param positions      - {@link #packPos(int, int, int) packed positions} of the targets
+     * @param replaceFilters - the filter each target matched, or null if it did not match a filter
+     */
+    public void add(int chunkX, int chunkZ, short[] positions, MinerFilter<?>[] replaceFilters) {
+        ChunkTargets targets = chunks.computeIfAbsent(ChunkPos.asLong(chunkX, chunkZ), chunk -> new ChunkTargets());
+        for (int i = 0; i < positions.length; i++) {
+            targets.add(positions[i], getOrdinal(replaceFilters[i]));
+        }
+        size += positions.length;
+    }
+
+    private short getOrdinal(@Nullable MinerFilter<?> filter) {
+        if (filter == null || filter.replaceStack.isEmpty()) {
+            //Mined blocks without a replace stack just get removed
+            return 0;
+        }
+        int index = replaceFilters.indexOf(filter);
+        if (index == -1) {
+            index = replaceFilters.size();
+            replaceFilters.add(filter);
+        }
+        return (short) (index + 1);
+    }
+
+    /**
+     * @return The position of the next target, must not be called when there are no targets.
+     */
+    public BlockPos getTarget() {
+        long chunk = chunks.firstLongKey();
+        int packed = chunks.get(chunk).getPosition();
+        return new BlockPos(ChunkPos.getX(chunk) << 4 | packed & 15, packed >> 8, ChunkPos.getZ(chunk) << 4 | packed >> 4 & 15);
+    }
+
+    /**
+     * @return The filter whose replace stack should be placed after mining the next target, or null if the target should just be removed.
+     */
+    @Nullable
+    public MinerFilter<?> getReplaceFilter() {
+        int ordinal = chunks.get(chunks.firstLongKey()).getReplaceOrdinal();
+        return ordinal == 0 ? null : replaceFilters.get(ordinal - 1);
+    }
+
+    /**
+     * Removes the next target, after it has been mined or if it can't be mined.
+     */
+    public void removeTarget() {
+        long chunk = chunks.firstLongKey();
+        ChunkTargets targets = chunks.get(chunk);
+        targets.head++;
+        size--;
+        if (targets.head == targets.size) {
+            chunks.removeFirst();
+        }
+    }
+
+    /**
+     * Called when the chunk of the next target is not loaded. The first time this happens for a chunk it gets moved behind the other chunks, the second time its
+     * targets get removed.
+     *
+     * @return {@code true} if the targets of the chunk got removed.
+     */
+    public boolean deferChunk() {
+        long chunk = chunks.firstLongKey();
+        ChunkTargets targets = chunks.get(chunk);
+        if (targets.deferred || chunks.size() == 1) {
+            size -= targets.size - targets.head;
+            chunks.removeFirst();
+            return true;
+        }
+        targets.deferred = true;
+        chunks.getAndMoveToLast(chunk);
+        return false;
+    }
+
+    /**
+     * Writes the targets if there are not too many of them. Replace filters are written as their index in the given list of filters, so they must be read after the
+     * filters.
+     */
+    public void write(CompoundNBT nbtTags, HashList<MinerFilter<?>> filters) {
+        if (size == 0 || size > MAX_SAVED_TARGETS) {
+            return;
+        }
+        long[] chunkKeys = new long[chunks.size()];
+        int[] counts = new int[chunkKeys.length];
+        long[] positions = new long[(size + 3) >> 2];
+        long[] ordinals = new long[positions.length];
+        boolean hasOrdinals = false;
+        int chunk = 0;
+        int target = 0;
+        for (Long2ObjectLinkedOpenHashMap.Entry<ChunkTargets> entry : chunks.long2ObjectEntrySet()) {
+            ChunkTargets targets = entry.getValue();
+            chunkKeys[chunk] = entry.getLongKey();
+            counts[chunk++] = targets.size - targets.head;
+            for (int i = targets.head; i < targets.size; i++, target++) {
+                positions[target >> 2] |= (targets.positions[i] & 0xFFFFL) << ((target & 3) << 4);
+                if (targets.replaceOrdinals != null) {
+                    ordinals[target >> 2] |= (targets.replaceOrdinals[i] & 0xFFFFL) << ((target & 3) << 4);
+                    hasOrdinals = true;
+                }
+            }
+        }
+        nbtTags.putLongArray("targetChunks", chunkKeys);
+        nbtTags.putIntArray("targetCounts", counts);
+        nbtTags.putLongArray("targets", positions);
+        if (hasOrdinals) {
+            nbtTags.putLongArray("targetReplace", ordinals);
+            int[] filterIndices = new int[replaceFilters.size()];
+            for (int i = 0; i < filterIndices.length; i++) {
+                filterIndices[i] = filters.indexOf(replaceFilters.get(i));
+            }
+            nbtTags.putIntArray("replaceFilters", filterIndices);
+        }
+    }
+
+    /**
+     * @return {@code true} if any targets were saved.
+     */
+    public boolean read(CompoundNBT nbtTags, HashList<MinerFilter<?>> filters) {
+        clear();
+        if (!nbtTags.contains("targetChunks", NBT.TAG_LONG_ARRAY)) {
+            return false;
+        }
+        long[] chunkKeys = nbtTags.getLongArray("targetChunks");
+        int[] counts = nbtTags.getIntArray("targetCounts");
+        long[] positions = nbtTags.getLongArray("targets");
+        long[] ordinals = nbtTags.getLongArray("targetReplace");
+        int[] filterIndices = nbtTags.getIntArray("replaceFilters");
+        //Filters that no longer exist are left as null, and their targets just get removed when mined
+        for (int filterIndex : filterIndices) {
+            replaceFilters.add(filterIndex >= 0 && filterIndex < filters.size() ? filters.get(filterIndex) : null);
+        }
+        int target = 0;
+        for (int chunk = 0; chunk < chunkKeys.length && chunk < counts.length; chunk++) {
+            ChunkTargets targets = new ChunkTargets();
+            for (int i = 0; i < counts[chunk] && (target >> 2) < positions.length; i++, target++) {
+                int shift = (target & 3) << 4;
+                int ordinal = (target >> 2) < ordinals.length ? (int) (ordinals[target >> 2] >>> shift & 0xFFFF) : 0;
+                targets.add((short) (positions[target >> 2] >>> shift), (short) (ordinal > filterIndices.length ? 0 : ordinal));
+            }
+            if (targets.size > 0) {
+                chunks.put(chunkKeys[chunk], targets);
+                size += targets.size;
+            }
+        }
+        return size > 0;
+    }
+
+    private static class ChunkTargets {
+
+        private short[] positions = new short[16];
+        //Only created once a target has a replace filter
+        @Nullable
+        private short[] replaceOrdinals;
+        private int size;
+        //Index of the next target, targets before it have been removed
+        private int head;
+        private boolean deferred;
+
+        private void add(short position, short replaceOrdinal) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+                if (replaceOrdinals != null) {
+                    replaceOrdinals = Arrays.copyOf(replaceOrdinals, positions.length);
+                }
+            }
+            if (replaceOrdinal != 0 && replaceOrdinals == null) {
+                replaceOrdinals = new short[positions.length];
+            }
+            positions[size] = position;
+            if (replaceOrdinals != null) {
+                replaceOrdinals[size] = replaceOrdinal;
+            }
+            size++;
+        }
+
+        private int getPosition() {
+            return positions[head] & 0xFFFF;
+        }
+
+        private int getReplaceOrdinal() {
+            return replaceOrdinals == null ? 0 : replaceOrdinals[head] & 0xFFFF;
+        }
+    }
+}
@@ -1,28 +1,67 @@
 package mekanism.common.content.transporter;
 
-import java.util.HashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.WeakHashMap;
+import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.transmitters.grid.InventoryNetwork;
+import mekanism.common.util.EnumUtils;
 import net.minecraft.util.Direction;
+import net.minecraft.world.World;
 
 public class PathfinderCache {
 
-    private static Map<PathData, List<Coord4D>> cachedPaths = new HashMap<>();
+    /**
+     * Weak so that the paths of networks that got merged or removed do not stick around.
+     */
+    private static Map<InventoryNetwork, NetworkPaths> cachedPaths = new WeakHashMap<>();
 
+    /**
+     * Invalidates all cached paths that pass through the given location or one of its neighbors. The neighbors are included so that a transporter being added next to
+     * an existing path can provide a shorter path.
+     */
     public static void onChanged(Coord4D location) {
-        reset();
+        for (Entry<InventoryNetwork, NetworkPaths> entry : cachedPaths.entrySet()) {
+            World world = entry.getKey().getWorld();
+            if (world == null || world.getDimension().getType() == location.dimension) {
+                NetworkPaths paths = entry.getValue();
+                paths.invalidate(location.getPos().toLong());
+                for (Direction side : EnumUtils.DIRECTIONS) {
+                    paths.invalidate(location.getPos().offset(side).toLong());
+                }
+            }
+        }
     }
 
-    public static void addCachedPath(PathData data, List<Coord4D> coords) {
-        cachedPaths.put(data, coords);
+    public static void addCachedPath(@Nullable InventoryNetwork network, PathData data, List<Coord4D> coords) {
+        int maxSize = MekanismConfig.general.pathfinderCacheSize.get();
+        //Paths of transporters without a network would never get invalidated or collected
+        if (network != null && maxSize > 0) {
+            cachedPaths.computeIfAbsent(network, net -> new NetworkPaths()).add(data, coords, maxSize);
+        }
     }
 
-    public static List<Coord4D> getCache(Coord4D start, Coord4D end, Set<Direction> sides) {
+    @Nullable
+    public static List<Coord4D> getCache(@Nullable InventoryNetwork network, Coord4D start, Coord4D end, Set<Direction> sides) {
+        if (network == null) {
+            return null;
+        }
+        NetworkPaths paths = cachedPaths.get(network);
+        if (paths == null) {
+            return null;
+        }
         List<Coord4D> ret = null;
         for (Direction side : sides) {
-            List<Coord4D> test = cachedPaths.get(new PathData(start, end, side));
+            List<Coord4D> test = paths.get(new PathData(start, end, side));
             if (ret == null || (test != null && test.size() < ret.size())) {
                 ret = test;
             }
@@ -34,6 +73,58 @@ public class PathfinderCache {
         cachedPaths.clear();
     }
 
+    /**
+     * The cached paths of a single network, ordered from least to most recently used, along with an index of which paths pass through each position.
+     */
+    private static class NetworkPaths {
+
+        private final LinkedHashMap<PathData, List<Coord4D>> paths = new LinkedHashMap<>(16, 0.75F, true);
+        private final Long2ObjectMap<Set<PathData>> pathsByNode = new Long2ObjectOpenHashMap<>();
+
+        @Nullable
+        private List<Coord4D> get(PathData data) {
+            return paths.get(data);
+        }
+
+        private void add(PathData data, List<Coord4D> coords, int maxSize) {
+            List<Coord4D> previous = paths.put(data, coords);
+            if (previous != null) {
+                unindex(data, previous);
+            }
+            for (Coord4D coord : coords) {
+                pathsByNode.computeIfAbsent(coord.getPos().toLong(), node -> new HashSet<>()).add(data);
+            }
+            Iterator<Entry<PathData, List<Coord4D>>> iterator = paths.entrySet().iterator();
+            while (paths.size() > maxSize && iterator.hasNext()) {
+                Entry<PathData, List<Coord4D>> eldest = iterator.next();
+                iterator.remove();
+                unindex(eldest.getKey(), eldest.getValue());
+            }
+        }
+
+        private void invalidate(long node) {
+            Set<PathData> crossing = pathsByNode.remove(node);
+            if (crossing != null) {
+                for (PathData data : crossing) {
+                    List<Coord4D> coords = paths.remove(data);
+                    if (coords != null) {
+                        unindex(data, coords);
+                    }
+                }
+            }
+        }
+
+        private void unindex(PathData data, List<Coord4D> coords) {
+            for (Coord4D coord : coords) {
+                long node = coord.getPos().toLong();
+                Set<PathData> nodePaths = pathsByNode.get(node);
+                if (nodePaths != null && nodePaths.remove(data) && nodePaths.isEmpty()) {
+                    pathsByNode.remove(node);
+                }
+            }
+        }
+    }
+
     public static class PathData {
 
         private final Coord4D startTransporter;
@@ -66,4 +157,4 @@ public class PathfinderCache {
             return hash;
         }
     }
-}
\ No newline at end of file
+}
@@ -81,7 +81,8 @@ public class TItemStackFilter extends TransporterFilter<TItemStackFilter> implem
     public int hashCode() {
         int code = 1;
         code = 31 * code + super.hashCode();
-        code = 31 * code + itemType.hashCode();
+        //Hash the item, as stacks don't override hashCode and equals only compares the items
+        code = 31 * code + itemType.getItem().hashCode();
         code = 31 * code + (sizeMode ? 1 : 0);
         code = 31 * code + min;
         code = 31 * code + max;
@@ -60,7 +60,8 @@ public class TMaterialFilter extends TransporterFilter<TMaterialFilter> implemen
     public int hashCode() {
         int code = 1;
         code = 31 * code + super.hashCode();
-        code = 31 * code + materialItem.hashCode();
+        //Hash the item, as stacks don't override hashCode and equals only compares the items
+        code = 31 * code + materialItem.getItem().hashCode();
         return code;
     }
 
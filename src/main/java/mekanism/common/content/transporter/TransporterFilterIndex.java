@@ -0,0 +1,157 @@
+package mekanism.common.content.transporter;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import javax.annotation.Nullable;
+import mekanism.common.HashList;
+import mekanism.common.util.ItemRegistryUtils;
+import net.minecraft.block.Block;
+import net.minecraft.block.material.Material;
+import net.minecraft.item.BlockItem;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.ResourceLocation;
+
+/**
+ * Index of a list of {@link TransporterFilter}s by the item, tag, mod ID and material they match, so that finding the filters that may match a stack does not have to
+ * check every filter. Tag and mod ID filters that use wildcards can't be indexed, and always get returned as candidates.
+ *
+ * The index gets rebuilt whenever the list it was built from changes.
+ */
+public class TransporterFilterIndex {
+
+    private final HashList<TransporterFilter<?>> filters;
+    private int builtModCount = -1;
+    private TransporterFilter<?>[] indexed = new TransporterFilter<?>[0];
+    private Finder[] finders = new Finder[0];
+    private final Map<Item, IntList> byItem = new HashMap<>();
+    private final Map<String, IntList> byTag = new HashMap<>();
+    private final Map<String, IntList> byModID = new HashMap<>();
+    private final Map<Material, IntList> byMaterial = new HashMap<>();
+    private final BitSet unindexed = new BitSet();
+
+    public TransporterFilterIndex(HashList<TransporterFilter<?>> filters) {
+        this.filters = filters;
+    }
+
+    private void validate() {
+        if (builtModCount == filters.getModCount()) {
+            return;
+        }
+        builtModCount = filters.getModCount();
+        byItem.clear();
+        byTag.clear();
+        byModID.clear();
+        byMaterial.clear();
+        unindexed.clear();
+        indexed = new TransporterFilter<?>[filters.size()];
+        finders = new Finder[indexed.length];
+        int index = 0;
+        for (TransporterFilter<?> filter : filters) {
+            indexed[index] = filter;
+            if (filter != null) {
+                finders[index] = filter.getFinder();
+                if (filter instanceof TItemStackFilter) {
+                    add(byItem, ((TItemStackFilter) filter).getItemStack().getItem(), index);
+                } else if (filter instanceof TMaterialFilter) {
+                    add(byMaterial, ((TMaterialFilter) filter).getMaterial(), index);
+                } else if (filter instanceof TTagFilter && isExact(((TTagFilter) filter).getTagName())) {
+                    add(byTag, ((TTagFilter) filter).getTagName(), index);
+                } else if (filter instanceof TModIDFilter && isExact(((TModIDFilter) filter).getModID())) {
+                    add(byModID, ((TModIDFilter) filter).getModID(), index);
+                } else {
+                    unindexed.set(index);
+                }
+            }
+            index++;
+        }
+    }
+
+    private static boolean isExact(@Nullable String name) {
+        return name != null && !name.startsWith("*") && !name.endsWith("*");
+    }
+
+    private static <KEY> void add(Map<KEY, IntList> map, KEY key, int index) {
+        map.computeIfAbsent(key, k -> new IntArrayList()).add(index);
+    }
+
+    private static <KEY> void addCandidates(Map<KEY, IntList> map, KEY key, BitSet candidates) {
+        IntList indices = map.get(key);
+        if (indices != null) {
+            for (int i = 0; i < indices.size(); i++) {
+                candidates.set(indices.getInt(i));
+            }
+        }
+    }
+
+    /**
+     * @return The number of filters in the index, including any padding nulls.
+     */
+    public int size() {
+        validate();
+        return indexed.length;
+    }
+
+    /**
+     * @return The filter at the given index, in the same order as the filter list.
+     */
+    @Nullable
+    public TransporterFilter<?> get(int index) {
+        validate();
+        return indexed[index];
+    }
+
+    /**
+     * Same as the filter's {@link TransporterFilter#getFinder()}, without creating a new finder every time.
+     */
+    public Finder getFinder(int index) {
+        validate();
+        return finders[index];
+    }
+
+    /**
+     * Gets the indices of the filters whose finders may match the given stack, it is up to the caller to check them.
+     *
+     * @param stack The stack to get the candidates for.
+     *
+     * @return The indices of the candidate filters, in filter order.
+     */
+    public BitSet getCandidates(ItemStack stack) {
+        validate();
+        BitSet candidates = (BitSet) unindexed.clone();
+        if (stack.isEmpty()) {
+            return candidates;
+        }
+        Item item = stack.getItem();
+        addCandidates(byItem, item, candidates);
+        if (item instanceof BlockItem && !byMaterial.isEmpty()) {
+            addCandidates(byMaterial, Block.getBlockFromItem(item).getDefaultState().getMaterial(), candidates);
+        }
+        if (!byTag.isEmpty()) {
+            for (ResourceLocation tag : item.getTags()) {
+                addCandidates(byTag, tag.toString(), candidates);
+            }
+        }
+        if (!byModID.isEmpty()) {
+            addCandidates(byModID, ItemRegistryUtils.getMod(stack), candidates);
+        }
+        return candidates;
+    }
+
+    /**
+     * Checks if any of the filters that match the given stack pass the given check.
+     */
+    public boolean anyMatch(ItemStack stack, Predicate<TransporterFilter<?>> check) {
+        BitSet candidates = getCandidates(stack);
+        for (int index = candidates.nextSetBit(0); index >= 0; index = candidates.nextSetBit(index + 1)) {
+            if (check.test(indexed[index])) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
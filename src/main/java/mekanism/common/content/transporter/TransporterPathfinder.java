@@ -1,15 +1,21 @@
 package mekanism.common.content.transporter;
 
+import it.unimi.dsi.fastutil.longs.Long2DoubleMap;
+import it.unimi.dsi.fastutil.longs.Long2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
@@ -29,6 +35,7 @@ import mekanism.common.util.MekanismUtils;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.ChunkStatus;
 import net.minecraft.world.chunk.IChunk;
@@ -73,7 +80,8 @@ public final class TransporterPathfinder {
         TransitResponse response = data.getResponse();
         if (response.getSendingAmount() >= min) {
             Coord4D dest = data.getLocation();
-            List<Coord4D> test = PathfinderCache.getCache(start.coord(), dest, data.getSides());
+            InventoryNetwork network = start.getTransmitterNetwork();
+            List<Coord4D> test = PathfinderCache.getCache(network, start.coord(), dest, data.getSides());
             if (test != null && checkPath(start.world(), test, stack)) {
                 return new Destination(test, false, response, 0).calculateScore(start.world());
             }
@@ -85,7 +93,7 @@ public final class TransporterPathfinder {
             }, start.world(), dest, start.coord(), stack);
             List<Coord4D> path = p.getPath();
             if (path.size() >= 2) {
-                PathfinderCache.addCachedPath(new PathData(start.coord(), dest, p.getSide()), path);
+                PathfinderCache.addCachedPath(network, new PathData(start.coord(), dest, p.getSide()), path);
                 return new Destination(path, false, response, p.finalScore);
             }
         }
@@ -308,11 +316,17 @@ public final class TransporterPathfinder {
 
     public static class Pathfinder {
 
-        private final Set<Coord4D> openSet, closedSet;
-        private final Map<Coord4D, Coord4D> navMap;
-        private final Map<Coord4D, Double> gScore, fScore;
+        private final LongSet openSet = new LongOpenHashSet();
+        private final LongSet closedSet = new LongOpenHashSet();
+        private final Long2LongMap navMap = new Long2LongOpenHashMap();
+        private final Long2DoubleMap gScore = new Long2DoubleOpenHashMap();
+        private final Long2DoubleMap fScore = new Long2DoubleOpenHashMap();
+        private final Long2ObjectMap<IChunk> chunkMap = new Long2ObjectOpenHashMap<>();
+        private final OpenSetQueue openQueue = new OpenSetQueue();
+        private final BlockPos.Mutable mutablePos = new BlockPos.Mutable();
         private final Coord4D start;
         private final Coord4D finalNode;
+        private final long finalPos;
         private final TransporterStack transportStack;
         private final DestChecker destChecker;
 
@@ -326,48 +340,28 @@ public final class TransporterPathfinder {
             this.world = world;
 
             finalNode = finishObj;
+            finalPos = finishObj.getPos().toLong();
             start = startObj;
 
             transportStack = stack;
 
-            openSet = new HashSet<>();
-            closedSet = new HashSet<>();
-
-            navMap = new HashMap<>();
-
-            gScore = new HashMap<>();
-            fScore = new HashMap<>();
-
             results = new ArrayList<>();
 
             find(start);
         }
 
         public boolean find(Coord4D start) {
-            openSet.add(start);
-            gScore.put(start, 0D);
-            fScore.put(start, gScore.get(start) + getEstimate(start, finalNode));
+            long startPos = start.getPos().toLong();
+            openSet.add(startPos);
+            gScore.put(startPos, 0D);
+            fScore.put(startPos, getEstimate(startPos, finalPos));
+            openQueue.add(startPos, fScore.get(startPos));
 
             int blockCount = 0;
-            Map<Long, IChunk> chunkMap = new Long2ObjectOpenHashMap<>();
             for (Direction direction : EnumUtils.DIRECTIONS) {
-                Coord4D neighbor = start.offset(direction);
-                //We get the chunk rather than the world so we can cache the chunk improving the overall
-                // performance for retrieving a bunch of chunks in the general vicinity
-                BlockPos neighborPos = neighbor.getPos();
-                int chunkX = neighborPos.getX() >> 4;
-                int chunkZ = neighborPos.getZ() >> 4;
-                long combinedChunk = (((long) chunkX) << 32) | (chunkZ & 0xffffffffL);
-                IChunk chunk = chunkMap.get(combinedChunk);
-                if (chunk == null) {
-                    //Get the chunk but don't force load it
-                    chunk = world.getChunk(chunkX, chunkZ, ChunkStatus.FULL, false);
-                    if (chunk != null) {
-                        chunkMap.put(combinedChunk, chunk);
-                    }
-                }
-                TileEntity neighborTile = MekanismUtils.getTileEntity(chunk, neighborPos);
-                if (!transportStack.canInsertToTransporter(neighborTile, direction) && (!neighbor.equals(finalNode) || !destChecker.isValid(transportStack, direction, neighborTile))) {
+                long neighbor = BlockPos.offset(startPos, direction);
+                TileEntity neighborTile = getTileEntity(neighbor);
+                if (!transportStack.canInsertToTransporter(neighborTile, direction) && (neighbor != finalPos || !destChecker.isValid(transportStack, direction, neighborTile))) {
                     blockCount++;
                 }
             }
@@ -375,66 +369,35 @@ public final class TransporterPathfinder {
                 return false;
             }
 
-            double maxSearchDistance = start.distanceTo(finalNode) * 2;
+            double maxSearchDistance = getEstimate(startPos, finalPos) * 2;
             List<Direction> directionsToCheck = new ArrayList<>();
-            Coord4D[] neighbors = new Coord4D[EnumUtils.DIRECTIONS.length];
+            long[] neighbors = new long[EnumUtils.DIRECTIONS.length];
             TileEntity[] neighborEntities = new TileEntity[neighbors.length];
-            while (!openSet.isEmpty()) {
-                Coord4D currentNode = null;
-                double lowestFScore = 0;
-                for (Coord4D node : openSet) {
-                    if (currentNode == null || fScore.get(node) < lowestFScore) {
-                        currentNode = node;
-                        lowestFScore = fScore.get(node);
-                    }
+            while (!openQueue.isEmpty()) {
+                long currentNode = openQueue.poll();
+                if (!openSet.contains(currentNode) || openQueue.getPolledScore() != fScore.get(currentNode)) {
+                    //Stale entry of a node that has since been visited or been given a better score
+                    continue;
                 }
-                if (currentNode == null || start.distanceTo(currentNode) > maxSearchDistance) {
+                if (getEstimate(startPos, currentNode) > maxSearchDistance) {
                     break;
                 }
 
                 openSet.remove(currentNode);
                 closedSet.add(currentNode);
-                //We get the chunk rather than the world so we can cache the chunk improving the overall
-                // performance for retrieving a bunch of chunks in the general vicinity
-                BlockPos currentNodePos = currentNode.getPos();
-                int chunkX = currentNodePos.getX() >> 4;
-                int chunkZ = currentNodePos.getZ() >> 4;
-                long combinedChunk = (((long) chunkX) << 32) | (chunkZ & 0xFFFFFFFFL);
-                IChunk chunk = chunkMap.get(combinedChunk);
-                if (chunk == null) {
-                    //Get the chunk but don't force load it
-                    chunk = world.getChunk(chunkX, chunkZ, ChunkStatus.FULL, false);
-                    if (chunk != null) {
-                        chunkMap.put(combinedChunk, chunk);
-                    }
-                }
-                TileEntity currentNodeTile = MekanismUtils.getTileEntity(chunk, currentNodePos);
+                TileEntity currentNodeTile = getTileEntity(currentNode);
                 Optional<ILogisticalTransporter> currentNodeTransporter = MekanismUtils.toOptional(CapabilityUtils.getCapability(currentNodeTile,
                       Capabilities.LOGISTICAL_TRANSPORTER_CAPABILITY, null));
                 directionsToCheck.clear();
                 for (Direction direction : EnumUtils.DIRECTIONS) {
-                    Coord4D neighbor = currentNode.offset(direction);
+                    long neighbor = BlockPos.offset(currentNode, direction);
                     int ordinal = direction.ordinal();
                     neighbors[ordinal] = neighbor;
-                    //We get the chunk rather than the world so we can cache the chunk improving the overall
-                    // performance for retrieving a bunch of chunks in the general vicinity
-                    BlockPos neighborPos = neighbor.getPos();
-                    int innerChunkX = neighborPos.getX() >> 4;
-                    int innerChunkZ = neighborPos.getZ() >> 4;
-                    long innerCombinedChunk = (((long) innerChunkX) << 32) | (innerChunkZ & 0xFFFFFFFFL);
-                    IChunk innerChunk = chunkMap.get(innerCombinedChunk);
-                    if (innerChunk == null) {
-                        //Get the chunk but don't force load it
-                        innerChunk = world.getChunk(innerChunkX, innerChunkZ, ChunkStatus.FULL, false);
-                        if (innerChunk != null) {
-                            chunkMap.put(innerCombinedChunk, innerChunk);
-                        }
-                    }
-                    TileEntity neighborEntity = MekanismUtils.getTileEntity(innerChunk, neighborPos);
+                    TileEntity neighborEntity = getTileEntity(neighbor);
                     neighborEntities[ordinal] = neighborEntity;
                     if (currentNodeTransporter.isPresent()) {
                         ILogisticalTransporter transporter = currentNodeTransporter.get();
-                        if (transporter.canEmitTo(neighborEntity, direction) || (neighbor.equals(finalNode) && destChecker.isValid(transportStack, direction, neighborEntities[ordinal]))) {
+                        if (transporter.canEmitTo(neighborEntity, direction) || (neighbor == finalPos && destChecker.isValid(transportStack, direction, neighborEntity))) {
                             directionsToCheck.add(direction);
                         }
                     } else {
@@ -444,7 +407,7 @@ public final class TransporterPathfinder {
 
                 double currentScore = gScore.get(currentNode);
                 for (Direction direction : directionsToCheck) {
-                    Coord4D neighbor = neighbors[direction.ordinal()];
+                    long neighbor = neighbors[direction.ordinal()];
                     TileEntity neighborEntity = neighborEntities[direction.ordinal()];
                     if (transportStack.canInsertToTransporter(neighborEntity, direction)) {
                         double tentativeG = currentScore;
@@ -460,12 +423,15 @@ public final class TransporterPathfinder {
                         if (!openSet.contains(neighbor) || tentativeG < gScore.get(neighbor)) {
                             navMap.put(neighbor, currentNode);
                             gScore.put(neighbor, tentativeG);
-                            fScore.put(neighbor, gScore.get(neighbor) + getEstimate(neighbor, finalNode));
+                            double neighborFScore = tentativeG + getEstimate(neighbor, finalPos);
+                            fScore.put(neighbor, neighborFScore);
                             openSet.add(neighbor);
+                            //Add it to the queue even if it is already in it, the old entry will be skipped as stale
+                            openQueue.add(neighbor, neighborFScore);
                         }
-                    } else if (neighbor.equals(finalNode) && destChecker.isValid(transportStack, direction, neighborEntity)) {
+                    } else if (neighbor == finalPos && destChecker.isValid(transportStack, direction, neighborEntity)) {
                         side = direction;
-                        results = reconstructPath(navMap, currentNode);
+                        results = reconstructPath(currentNode);
                         return true;
                     }
                 }
@@ -473,16 +439,40 @@ public final class TransporterPathfinder {
             return false;
         }
 
-        private List<Coord4D> reconstructPath(Map<Coord4D, Coord4D> naviMap, Coord4D currentNode) {
+        @Nullable
+        private TileEntity getTileEntity(long pos) {
+            //We get the chunk rather than the world so we can cache the chunk improving the overall
+            // performance for retrieving a bunch of chunks in the general vicinity
+            int chunkX = BlockPos.unpackX(pos) >> 4;
+            int chunkZ = BlockPos.unpackZ(pos) >> 4;
+            long combinedChunk = (((long) chunkX) << 32) | (chunkZ & 0xFFFFFFFFL);
+            IChunk chunk = chunkMap.get(combinedChunk);
+            if (chunk == null) {
+                //Get the chunk but don't force load it
+                chunk = world.getChunk(chunkX, chunkZ, ChunkStatus.FULL, false);
+                if (chunk == null) {
+                    return null;
+                }
+                chunkMap.put(combinedChunk, chunk);
+            }
+            return chunk.getTileEntity(mutablePos.setPos(BlockPos.unpackX(pos), BlockPos.unpackY(pos), BlockPos.unpackZ(pos)));
+        }
+
+        private List<Coord4D> reconstructPath(long currentNode) {
+            finalScore = gScore.get(currentNode) + getEstimate(currentNode, finalPos);
             List<Coord4D> path = new ArrayList<>();
-            path.add(currentNode);
-            if (naviMap.containsKey(currentNode)) {
-                path.addAll(reconstructPath(naviMap, naviMap.get(currentNode)));
+            path.add(toCoord(currentNode));
+            while (navMap.containsKey(currentNode)) {
+                currentNode = navMap.get(currentNode);
+                path.add(toCoord(currentNode));
             }
-            finalScore = gScore.get(currentNode) + currentNode.distanceTo(finalNode);
             return path;
         }
 
+        private Coord4D toCoord(long pos) {
+            return new Coord4D(BlockPos.unpackX(pos), BlockPos.unpackY(pos), BlockPos.unpackZ(pos), start.dimension);
+        }
+
         public List<Coord4D> getPath() {
             List<Coord4D> path = new ArrayList<>();
             path.add(finalNode);
@@ -494,8 +484,85 @@ public final class TransporterPathfinder {
             return side;
         }
 
-        private double getEstimate(Coord4D start, Coord4D target2) {
-            return start.distanceTo(target2);
+        /**
+         * Same as {@link Coord4D#distanceTo(Coord4D)} but for packed positions.
+         */
+        private static double getEstimate(long start, long target2) {
+            int subX = BlockPos.unpackX(start) - BlockPos.unpackX(target2);
+            int subY = BlockPos.unpackY(start) - BlockPos.unpackY(target2);
+            int subZ = BlockPos.unpackZ(start) - BlockPos.unpackZ(target2);
+            return (int) MathHelper.sqrt(subX * subX + subY * subY + subZ * subZ);
+        }
+
+        /**
+         * Binary min-heap of packed positions keyed by their f score. Rather than supporting decreasing the key of an existing entry, nodes get added again with their
+         * new score and the outdated entries get skipped when they are polled.
+         */
+        private static class OpenSetQueue {
+
+            private long[] nodes = new long[64];
+            private double[] scores = new double[64];
+            private double polledScore;
+            private int size;
+
+            public boolean isEmpty() {
+                return size == 0;
+            }
+
+            public void add(long node, double score) {
+                if (size == nodes.length) {
+                    nodes = Arrays.copyOf(nodes, size * 2);
+                    scores = Arrays.copyOf(scores, size * 2);
+                }
+                int index = size++;
+                while (index > 0) {
+                    int parent = (index - 1) >>> 1;
+                    if (scores[parent] <= score) {
+                        break;
+                    }
+                    nodes[index] = nodes[parent];
+                    scores[index] = scores[parent];
+                    index = parent;
+                }
+                nodes[index] = node;
+                scores[index] = score;
+            }
+
+            /**
+             * Removes the node with the lowest score. The score of the node can be retrieved afterwards via {@link #getPolledScore()}.
+             */
+            public long poll() {
+                long result = nodes[0];
+                polledScore = scores[0];
+                size--;
+                if (size > 0) {
+                    long node = nodes[size];
+                    double score = scores[size];
+                    int index = 0;
+                    while (true) {
+                        int child = 2 * index + 1;
+                        if (child >= size) {
+                            break;
+                        }
+                        if (child + 1 < size && scores[child + 1] < scores[child]) {
+                            child++;
+                        }
+                        if (scores[child] >= score) {
+                            break;
+                        }
+                        nodes[index] = nodes[child];
+                        scores[index] = scores[child];
+                        index = child;
+                    }
+                    nodes[index] = node;
+                    scores[index] = score;
+                }
+                return result;
+            }
+
+            public double getPolledScore() {
+                return polledScore;
+            }
         }
 
         public static class DestChecker {
@@ -1,8 +1,8 @@
 package mekanism.common.content.transporter;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
 import mekanism.api.TileNetworkList;
 import mekanism.api.text.EnumColor;
@@ -20,11 +20,15 @@ import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.dimension.DimensionType;
 import net.minecraftforge.common.util.LazyOptional;
 import org.apache.commons.lang3.tuple.Pair;
 
 public class TransporterStack {
 
+    private static final long[] EMPTY_PATH = new long[0];
+
     public ItemStack itemStack = ItemStack.EMPTY;
 
     public int progress;
@@ -39,7 +43,17 @@ public class TransporterStack {
     private Coord4D clientNext;
     private Coord4D clientPrev;
     private Path pathType;
-    private List<Coord4D> pathToTarget = new ArrayList<>();
+    /**
+     * The {@link BlockPos#toLong() packed} positions of the path, starting at the destination and ending where the stack started.
+     */
+    private long[] pathToTarget = EMPTY_PATH;
+    @Nullable
+    private DimensionType pathDimension;
+    /**
+     * Index in the path of the transporter the stack was last found at, so that finding where in the path the stack is only has to check the next hop instead of
+     * searching the whole path.
+     */
+    private int pathIndex;
 
     public static TransporterStack readFromNBT(CompoundNBT nbtTags) {
         TransporterStack stack = new TransporterStack();
@@ -55,24 +69,24 @@ public class TransporterStack {
 
     public void write(ILogisticalTransporter transporter, TileNetworkList data) {
         if (color != null) {
-            data.add(TransporterUtils.colors.indexOf(color));
+            data.addInt(TransporterUtils.colors.indexOf(color));
         } else {
-            data.add(-1);
+            data.addInt(-1);
         }
 
-        data.add(progress);
+        data.addInt(progress);
         originalLocation.write(data);
-        data.add(pathType);
+        data.addEnum(pathType);
 
-        if (pathToTarget.indexOf(transporter.coord()) > 0) {
-            data.add(true);
+        if (getPathIndex(transporter) > 0) {
+            data.addBoolean(true);
             getNext(transporter).write(data);
         } else {
-            data.add(false);
+            data.addBoolean(false);
         }
 
         getPrev(transporter).write(data);
-        data.add(itemStack);
+        data.addItemStack(itemStack);
     }
 
     public void read(PacketBuffer dataStream) {
@@ -135,7 +149,14 @@ public class TransporterStack {
         if (pathType != Path.NONE) {
             TransporterManager.remove(this);
         }
-        pathToTarget = path;
+        pathToTarget = new long[path.size()];
+        for (int i = 0; i < pathToTarget.length; i++) {
+            Coord4D coord = path.get(i);
+            pathToTarget[i] = BlockPos.pack(coord.x, coord.y, coord.z);
+        }
+        pathDimension = path.isEmpty() ? null : path.get(0).dimension;
+        //The stack starts at the end of the path
+        pathIndex = pathToTarget.length - 1;
         pathType = type;
         if (pathType != Path.NONE) {
             TransporterManager.add(this);
@@ -143,11 +164,42 @@ public class TransporterStack {
     }
 
     public boolean hasPath() {
-        return pathToTarget != null && pathToTarget.size() >= 2;
+        return pathToTarget.length >= 2;
+    }
+
+    /**
+     * Gets where along the path the given transporter is, the destination being at index 0.
+     *
+     * @param transporter - transporter to find
+     *
+     * @return The index of the transporter in the path, or -1 if it is not part of the path.
+     */
+    public int getPathIndex(ILogisticalTransporter transporter) {
+        Coord4D coord = transporter.coord();
+        if (!coord.dimension.equals(pathDimension)) {
+            return -1;
+        }
+        long pos = BlockPos.pack(coord.x, coord.y, coord.z);
+        if (pathIndex >= 0 && pathIndex < pathToTarget.length) {
+            if (pathToTarget[pathIndex] == pos) {
+                return pathIndex;
+            } else if (pathIndex > 0 && pathToTarget[pathIndex - 1] == pos) {
+                //The stack moved on to the next hop
+                return --pathIndex;
+            }
+        }
+        for (int i = 0; i < pathToTarget.length; i++) {
+            if (pathToTarget[i] == pos) {
+                pathIndex = i;
+                return i;
+            }
+        }
+        return -1;
     }
 
-    public List<Coord4D> getPath() {
-        return pathToTarget;
+    private Coord4D getPathCoord(int index) {
+        long pos = pathToTarget[index];
+        return new Coord4D(BlockPos.unpackX(pos), BlockPos.unpackY(pos), BlockPos.unpackZ(pos), pathDimension);
     }
 
     public Path getPathType() {
@@ -191,25 +243,25 @@ public class TransporterStack {
     }
 
     public boolean isFinal(ILogisticalTransporter transporter) {
-        return pathToTarget.indexOf(transporter.coord()) == (pathType == Path.NONE ? 0 : 1);
+        return getPathIndex(transporter) == (pathType == Path.NONE ? 0 : 1);
     }
 
     public Coord4D getNext(ILogisticalTransporter transporter) {
         if (!transporter.world().isRemote) {
-            int index = pathToTarget.indexOf(transporter.coord()) - 1;
+            int index = getPathIndex(transporter) - 1;
             if (index < 0) {
                 return null;
             }
-            return pathToTarget.get(index);
+            return getPathCoord(index);
         }
         return clientNext;
     }
 
     public Coord4D getPrev(ILogisticalTransporter transporter) {
         if (!transporter.world().isRemote) {
-            int index = pathToTarget.indexOf(transporter.coord()) + 1;
-            if (index < pathToTarget.size()) {
-                return pathToTarget.get(index);
+            int index = getPathIndex(transporter) + 1;
+            if (index < pathToTarget.length) {
+                return getPathCoord(index);
             }
             return originalLocation;
         }
@@ -254,7 +306,7 @@ public class TransporterStack {
     }
 
     public Coord4D getDest() {
-        return pathToTarget.get(0);
+        return getPathCoord(0);
     }
 
     public enum Path {
@@ -0,0 +1,88 @@
+package mekanism.common.content.transporter;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import mekanism.api.TileNetworkList;
+import mekanism.common.Mekanism;
+import mekanism.common.PacketHandler;
+import mekanism.common.network.PacketTransporterBatch;
+import mekanism.common.network.PacketTransporterBatch.TransporterUpdate;
+import mekanism.common.tile.transmitter.TileEntityLogisticalTransporter;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.dimension.DimensionType;
+import net.minecraft.world.server.ServerWorld;
+
+/**
+ * Gathers the changes to the stacks in transit of all the logistical transporters in a world over a tick, and sends them at the end of the tick as a single packet per
+ * player, rather than every transporter sending its own packet whenever a stack enters or leaves it. The chunks the transporters are in also only get marked as dirty
+ * once per tick.
+ */
+public class TransporterSyncManager {
+
+    private static final Map<DimensionType, Set<TileEntityLogisticalTransporter>> pendingSyncs = new HashMap<>();
+
+    public static void reset() {
+        pendingSyncs.clear();
+    }
+
+    /**
+     * Marks the given transporter as having stack changes that need to be sent to the players tracking it at the end of the tick.
+     *
+     * @param transporter - transporter that changed
+     */
+    public static void markForSync(TileEntityLogisticalTransporter transporter) {
+        pendingSyncs.computeIfAbsent(transporter.getWorld().getDimension().getType(), dimension -> new LinkedHashSet<>()).add(transporter);
+    }
+
+    public static void tick(World world) {
+        Set<TileEntityLogisticalTransporter> transporters = pendingSyncs.remove(world.getDimension().getType());
+        if (transporters == null || !(world instanceof ServerWorld)) {
+            return;
+        }
+        Long2ObjectMap<List<TransporterUpdate>> chunkUpdates = new Long2ObjectOpenHashMap<>();
+        for (TileEntityLogisticalTransporter transporter : transporters) {
+            if (transporter.isRemoved()) {
+                continue;
+            }
+            BlockPos pos = transporter.getPos();
+            long chunk = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+            List<TransporterUpdate> updates = chunkUpdates.get(chunk);
+            if (updates == null) {
+                updates = new ArrayList<>();
+                chunkUpdates.put(chunk, updates);
+                //Only mark each chunk for saving once
+                world.markChunkDirty(pos, transporter);
+            }
+            //Encode the data once, as it is the same for all players tracking the chunk
+            updates.add(new TransporterUpdate(pos, encode(transporter.getTransmitter().makeSyncData())));
+        }
+
+        Map<ServerPlayerEntity, PacketTransporterBatch> packets = new HashMap<>();
+        for (Long2ObjectMap.Entry<List<TransporterUpdate>> entry : chunkUpdates.long2ObjectEntrySet()) {
+            ((ServerWorld) world).getChunkProvider().chunkManager.getTrackingPlayers(new ChunkPos(entry.getLongKey()), false)
+                  .forEach(player -> packets.computeIfAbsent(player, p -> new PacketTransporterBatch()).addChunk(entry.getLongKey(), entry.getValue()));
+        }
+        packets.forEach((player, packet) -> Mekanism.packetHandler.sendTo(packet, player));
+    }
+
+    private static byte[] encode(TileNetworkList data) {
+        ByteBuf buffer = Unpooled.buffer();
+        PacketHandler.encode(data.toArray(), new PacketBuffer(buffer));
+        byte[] bytes = new byte[buffer.readableBytes()];
+        buffer.readBytes(bytes);
+        buffer.release();
+        return bytes;
+    }
+}
@@ -1,10 +1,11 @@
 package mekanism.common.multiblock;
 
-import java.util.ArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
@@ -12,7 +13,11 @@ import mekanism.api.Coord4D;
 import mekanism.common.tile.TileEntityMultiblock;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.IWorld;
 import net.minecraft.world.World;
+import net.minecraft.world.dimension.DimensionType;
+import net.minecraftforge.event.world.ChunkEvent;
 
 public class MultiblockManager<T extends SynchronizedData<T>> {
 
@@ -25,6 +30,19 @@ public class MultiblockManager<T extends SynchronizedData<T>> {
      */
     public Map<String, MultiblockCache<T>> inventories = new HashMap<>();
 
+    /**
+     * The inventory ID each cached location belongs to.
+     */
+    private final Map<Coord4D, String> locationIDs = new HashMap<>();
+    /**
+     * The cached locations in each loaded or unloaded chunk, so that they can be checked again when the chunk gets loaded.
+     */
+    private final Map<DimensionType, Long2ObjectMap<Set<Coord4D>>> chunkLocations = new HashMap<>();
+    /**
+     * Cached locations that may no longer be part of their multiblock, these get verified the next time the manager ticks in their world.
+     */
+    private final Set<Coord4D> dirtyLocations = new HashSet<>();
+
     public MultiblockManager(String s) {
         name = s;
         managers.add(this);
@@ -36,6 +54,17 @@ public class MultiblockManager<T extends SynchronizedData<T>> {
         }
     }
 
+    public static void onChunkLoad(ChunkEvent.Load event) {
+        IWorld world = event.getWorld();
+        if (world != null && !world.isRemote()) {
+            DimensionType dimension = world.getDimension().getType();
+            long chunk = event.getChunk().getPos().asLong();
+            for (MultiblockManager<?> manager : managers) {
+                manager.markChunkDirty(dimension, chunk);
+            }
+        }
+    }
+
     public static String getStructureId(TileEntityMultiblock<?> tile) {
         return tile.structure != null ? tile.getSynchronizedData().inventoryID : null;
     }
@@ -50,6 +79,9 @@ public class MultiblockManager<T extends SynchronizedData<T>> {
     public static void reset() {
         for (MultiblockManager<?> manager : managers) {
             manager.inventories.clear();
+            manager.locationIDs.clear();
+            manager.chunkLocations.clear();
+            manager.dirtyLocations.clear();
         }
     }
 
@@ -63,12 +95,13 @@ public class MultiblockManager<T extends SynchronizedData<T>> {
      */
     public MultiblockCache<T> pullInventory(World world, String id) {
         MultiblockCache<T> toReturn = inventories.get(id);
-        for (Coord4D obj : inventories.get(id).locations) {
+        for (Coord4D obj : toReturn.locations) {
             TileEntityMultiblock<T> tile = (TileEntityMultiblock<T>) MekanismUtils.getTileEntity(TileEntityMultiblock.class, world, obj.getPos());
             if (tile != null) {
                 tile.cachedData = tile.getNewCache();
                 tile.cachedID = null;
             }
+            untrack(obj);
         }
         inventories.remove(id);
         return toReturn;
@@ -83,43 +116,103 @@ public class MultiblockManager<T extends SynchronizedData<T>> {
         return UUID.randomUUID().toString();
     }
 
-    public void tickSelf(World world) {
-        ArrayList<String> idsToKill = new ArrayList<>();
-        Map<String, Set<Coord4D>> tilesToKill = new HashMap<>();
-        for (Entry<String, MultiblockCache<T>> entry : inventories.entrySet()) {
-            String inventoryID = entry.getKey();
-            for (Coord4D obj : entry.getValue().locations) {
-                if (obj.dimension.equals(world.getDimension().getType()) && world.isBlockLoaded(obj.getPos())) {
-                    TileEntity tile = MekanismUtils.getTileEntity(world, obj.getPos());
-                    if (!(tile instanceof TileEntityMultiblock) || ((TileEntityMultiblock<?>) tile).getManager() != this ||
-                        (getStructureId(((TileEntityMultiblock<?>) tile)) != null && !Objects.equals(getStructureId(((TileEntityMultiblock<?>) tile)), inventoryID))) {
-                        if (!tilesToKill.containsKey(inventoryID)) {
-                            tilesToKill.put(inventoryID, new HashSet<>());
-                        }
-                        tilesToKill.get(inventoryID).add(obj);
-                    }
-                }
-            }
-            if (entry.getValue().locations.isEmpty()) {
-                idsToKill.add(inventoryID);
-            }
+    /**
+     * Marks the location of the given tile as needing to be verified, for example because the tile got removed.
+     *
+     * @param tile - tile that may no longer be part of its cached inventory
+     */
+    public void markDirty(TileEntityMultiblock<?> tile) {
+        Coord4D coord = Coord4D.get(tile);
+        if (locationIDs.containsKey(coord)) {
+            dirtyLocations.add(coord);
         }
-        for (Entry<String, Set<Coord4D>> entry : tilesToKill.entrySet()) {
-            for (Coord4D obj : entry.getValue()) {
-                inventories.get(entry.getKey()).locations.remove(obj);
+    }
+
+    private void markChunkDirty(DimensionType dimension, long chunk) {
+        Long2ObjectMap<Set<Coord4D>> dimensionLocations = chunkLocations.get(dimension);
+        if (dimensionLocations != null) {
+            Set<Coord4D> locations = dimensionLocations.get(chunk);
+            if (locations != null) {
+                //The tiles may have changed while the chunk was unloaded
+                dirtyLocations.addAll(locations);
             }
         }
-        for (String inventoryID : idsToKill) {
-            inventories.remove(inventoryID);
+    }
+
+    public void tickSelf(World world) {
+        if (dirtyLocations.isEmpty()) {
+            return;
+        }
+        DimensionType dimension = world.getDimension().getType();
+        for (Iterator<Coord4D> iter = dirtyLocations.iterator(); iter.hasNext(); ) {
+            Coord4D obj = iter.next();
+            if (!obj.dimension.equals(dimension)) {
+                continue;
+            }
+            //Locations that are not loaded get checked again when their chunk gets loaded
+            iter.remove();
+            String inventoryID = locationIDs.get(obj);
+            if (inventoryID != null && world.isBlockLoaded(obj.getPos())) {
+                TileEntity tile = MekanismUtils.getTileEntity(world, obj.getPos());
+                if (!(tile instanceof TileEntityMultiblock) || ((TileEntityMultiblock<?>) tile).getManager() != this ||
+                    (getStructureId(((TileEntityMultiblock<?>) tile)) != null && !Objects.equals(getStructureId(((TileEntityMultiblock<?>) tile)), inventoryID))) {
+                    removeLocation(inventoryID, obj);
+                }
+            }
         }
     }
 
     public void updateCache(TileEntityMultiblock<T> tile) {
+        Coord4D coord = Coord4D.get(tile);
+        String previousID = locationIDs.get(coord);
+        if (tile.cachedID.equals(previousID)) {
+            //Already cached as part of this inventory
+            return;
+        }
+        if (previousID != null) {
+            //The tile is part of a different multiblock now
+            removeLocation(previousID, coord);
+        }
         if (!inventories.containsKey(tile.cachedID)) {
-            tile.cachedData.locations.add(Coord4D.get(tile));
+            tile.cachedData.locations.add(coord);
             inventories.put(tile.cachedID, tile.cachedData);
         } else {
-            inventories.get(tile.cachedID).locations.add(Coord4D.get(tile));
+            inventories.get(tile.cachedID).locations.add(coord);
+        }
+        track(coord, tile.cachedID);
+    }
+
+    private void removeLocation(String inventoryID, Coord4D coord) {
+        MultiblockCache<T> cache = inventories.get(inventoryID);
+        if (cache != null) {
+            cache.locations.remove(coord);
+            if (cache.locations.isEmpty()) {
+                inventories.remove(inventoryID);
+            }
+        }
+        untrack(coord);
+    }
+
+    private void track(Coord4D coord, String inventoryID) {
+        locationIDs.put(coord, inventoryID);
+        chunkLocations.computeIfAbsent(coord.dimension, dimension -> new Long2ObjectOpenHashMap<>())
+              .computeIfAbsent(getChunkKey(coord), chunk -> new HashSet<>()).add(coord);
+    }
+
+    private void untrack(Coord4D coord) {
+        locationIDs.remove(coord);
+        dirtyLocations.remove(coord);
+        Long2ObjectMap<Set<Coord4D>> dimensionLocations = chunkLocations.get(coord.dimension);
+        if (dimensionLocations != null) {
+            long chunk = getChunkKey(coord);
+            Set<Coord4D> locations = dimensionLocations.get(chunk);
+            if (locations != null && locations.remove(coord) && locations.isEmpty()) {
+                dimensionLocations.remove(chunk);
+            }
         }
     }
-}
\ No newline at end of file
+
+    private static long getChunkKey(Coord4D coord) {
+        return ChunkPos.asLong(coord.x >> 4, coord.z >> 4);
+    }
+}
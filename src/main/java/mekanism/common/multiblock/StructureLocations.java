@@ -0,0 +1,198 @@
+package mekanism.common.multiblock;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import mekanism.api.Coord4D;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.dimension.DimensionType;
+
+/**
+ * Set of the positions inside the bounding box of a multiblock structure. The positions are stored as a bitset relative to the minimum corner of the box instead of
+ * as a set of {@link Coord4D}s, so that forming large structures does not have to allocate an object for every block that is part of them.
+ */
+public class StructureLocations implements Iterable<Coord4D> {
+
+    @Nullable
+    private final DimensionType dimension;
+    private final int minX, minY, minZ;
+    private final int sizeX, sizeY, sizeZ;
+    private final long[] bits;
+    private int size;
+
+    /**
+     * Creates an empty set that can't contain any positions.
+     */
+    public StructureLocations() {
+        this(null, 0, 0, 0, -1, -1, -1);
+    }
+
+    /**
+     * @param dimension - dimension the positions are in
+     * @param minX      - minimum x value of the bounding box, inclusive
+     * @param minY      - minimum y value of the bounding box, inclusive
+     * @param minZ      - minimum z value of the bounding box, inclusive
+     * @param maxX      - maximum x value of the bounding box, inclusive
+     * @param maxY      - maximum y value of the bounding box, inclusive
+     * @param maxZ      - maximum z value of the bounding box, inclusive
+     */
+    public StructureLocations(@Nullable DimensionType dimension, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        this.dimension = dimension;
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        sizeX = Math.max(0, maxX - minX + 1);
+        sizeY = Math.max(0, maxY - minY + 1);
+        sizeZ = Math.max(0, maxZ - minZ + 1);
+        bits = new long[(sizeX * sizeY * sizeZ + 63) >> 6];
+    }
+
+    /**
+     * @return The index of the given position in the bitset, or -1 if it is outside of the bounding box.
+     */
+    private int getIndex(int x, int y, int z) {
+        int relX = x - minX;
+        int relY = y - minY;
+        int relZ = z - minZ;
+        if (relX < 0 || relX >= sizeX || relY < 0 || relY >= sizeY || relZ < 0 || relZ >= sizeZ) {
+            return -1;
+        }
+        return (relX * sizeY + relY) * sizeZ + relZ;
+    }
+
+    /**
+     * Adds the given position to this set.
+     *
+     * @return {@code true} if the position was not already part of this set.
+     *
+     * @throws IllegalArgumentException if the position is outside of the bounding box of this set.
+     */
+    public boolean add(int x, int y, int z) {
+        int index = getIndex(x, y, z);
+        if (index == -1) {
+            throw new IllegalArgumentException("Position (" + x + ", " + y + ", " + z + ") is outside of the bounds of the structure");
+        }
+        long mask = 1L << index;
+        if ((bits[index >> 6] & mask) != 0) {
+            return false;
+        }
+        bits[index >> 6] |= mask;
+        size++;
+        return true;
+    }
+
+    public boolean contains(int x, int y, int z) {
+        int index = getIndex(x, y, z);
+        return index != -1 && (bits[index >> 6] & (1L << index)) != 0;
+    }
+
+    public boolean contains(BlockPos pos) {
+        return contains(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    public boolean contains(Coord4D coord) {
+        return coord.dimension.equals(dimension) && contains(coord.x, coord.y, coord.z);
+    }
+
+    public boolean remove(int x, int y, int z) {
+        int index = getIndex(x, y, z);
+        if (index == -1) {
+            return false;
+        }
+        long mask = 1L << index;
+        if ((bits[index >> 6] & mask) == 0) {
+            return false;
+        }
+        bits[index >> 6] &= ~mask;
+        size--;
+        return true;
+    }
+
+    public boolean remove(BlockPos pos) {
+        return remove(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    public boolean remove(Coord4D coord) {
+        return coord.dimension.equals(dimension) && remove(coord.x, coord.y, coord.z);
+    }
+
+    public void clear() {
+        Arrays.fill(bits, 0);
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Nonnull
+    @Override
+    public Iterator<Coord4D> iterator() {
+        return new Iterator<Coord4D>() {
+            private int word;
+            private long remaining = bits.length == 0 ? 0 : bits[0];
+
+            @Override
+            public boolean hasNext() {
+                while (remaining == 0) {
+                    if (++word >= bits.length) {
+                        return false;
+                    }
+                    remaining = bits[word];
+                }
+                return true;
+            }
+
+            @Override
+            public Coord4D next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int index = (word << 6) + Long.numberOfTrailingZeros(remaining);
+                //Clear the lowest set bit
+                remaining &= remaining - 1;
+                int relZ = index % sizeZ;
+                int rest = index / sizeZ;
+                return new Coord4D(minX + rest / sizeY, minY + rest % sizeY, minZ + relZ, dimension);
+            }
+        };
+    }
+
+    /**
+     * Same contract as {@link java.util.Set#hashCode()}, so that sets containing the same positions are equal no matter the bounds they were created with.
+     */
+    @Override
+    public int hashCode() {
+        int code = 0;
+        for (Coord4D coord : this) {
+            code += coord.hashCode();
+        }
+        return code;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof StructureLocations)) {
+            return false;
+        }
+        StructureLocations other = (StructureLocations) obj;
+        if (size != other.size) {
+            return false;
+        }
+        for (Coord4D coord : this) {
+            if (!other.contains(coord)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
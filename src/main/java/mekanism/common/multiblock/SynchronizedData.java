@@ -11,7 +11,7 @@ import mekanism.api.inventory.slot.IInventorySlot;
 
 public abstract class SynchronizedData<T extends SynchronizedData<T>> {
 
-    public Set<Coord4D> locations = new HashSet<>();
+    public StructureLocations locations = new StructureLocations();
 
     public int volLength;
 
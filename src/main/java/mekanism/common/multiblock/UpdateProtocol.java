@@ -1,9 +1,13 @@
 package mekanism.common.multiblock;
 
+import it.unimi.dsi.fastutil.longs.Long2BooleanMap;
+import it.unimi.dsi.fastutil.longs.Long2BooleanOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import java.util.ArrayList;
-import java.util.Deque;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
 import mekanism.api.Coord4D;
@@ -14,15 +18,21 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.dimension.DimensionType;
 
 public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
 
     /**
-     * The multiblock nodes that have already been iterated over.
+     * The multiblock nodes that have already been iterated over, stored as {@link BlockPos#toLong() packed} positions.
      */
-    public Set<Coord4D> iteratedNodes = new HashSet<>();
+    public LongSet iteratedNodes = new LongOpenHashSet();
 
-    public Set<Coord4D> innerNodes = new HashSet<>();
+    public StructureLocations innerNodes = new StructureLocations();
+
+    /**
+     * Cache of which positions are viable nodes, as checking requires looking up the tile and the same positions get checked many times while looking for corners.
+     */
+    private final Long2BooleanMap viableNodes = new Long2BooleanOpenHashMap();
 
     /**
      * The structures found, all connected by some nodes to the pointer.
@@ -39,94 +49,61 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
     }
 
     /**
-     * Recursively loops through each node connected to the given TileEntity.
+     * Recursively loops through each node connected to the given position.
      *
-     * @param coord - coord to start with
+     * @param pos   - packed position to start with
      * @param queue - the queue to add next nodes to to avoid recursion
      */
-    public void loopThrough(Coord4D coord, Deque<Coord4D> queue) {
-        int origX = coord.x, origY = coord.y, origZ = coord.z;
+    public void loopThrough(long pos, LongArrayFIFOQueue queue) {
+        int origX = BlockPos.unpackX(pos), origY = BlockPos.unpackY(pos), origZ = BlockPos.unpackZ(pos);
         if (isCorner(origX, origY, origZ)) {
             int xmin = 0, xmax = 0, ymin = 0, ymax = 0, zmin = 0, zmax = 0;
             if (isViableNode(origX + 1, origY, origZ)) {
-                xmax = findViableNode(coord, 1, 0, 0);
+                xmax = findViableNode(origX, origY, origZ, 1, 0, 0);
             } else {
-                xmin = findViableNode(coord, -1, 0, 0);
+                xmin = findViableNode(origX, origY, origZ, -1, 0, 0);
             }
             if (isViableNode(origX, origY + 1, origZ)) {
-                ymax = findViableNode(coord, 0, 1, 0);
+                ymax = findViableNode(origX, origY, origZ, 0, 1, 0);
             } else {
-                ymin = findViableNode(coord, 0, -1, 0);
+                ymin = findViableNode(origX, origY, origZ, 0, -1, 0);
             }
             if (isViableNode(origX, origY, origZ + 1)) {
-                zmax = findViableNode(coord, 0, 0, 1);
+                zmax = findViableNode(origX, origY, origZ, 0, 0, 1);
             } else {
-                zmin = findViableNode(coord, 0, 0, -1);
-            }
-
-            Set<Coord4D> locations = new HashSet<>();
-            boolean isValid = true;
-
-            int minX = origX + xmin;
-            int maxX = origX + xmax;
-            int minY = origY + ymin;
-            int maxY = origY + ymax;
-            int minZ = origZ + zmin;
-            int maxZ = origZ + zmax;
-            for (int x = xmin; x <= xmax; x++) {
-                int xPos = origX + x;
-                for (int y = ymin; y <= ymax; y++) {
-                    int yPos = origY + y;
-                    for (int z = zmin; z <= zmax; z++) {
-                        int zPos = origZ + z;
-                        if (x == xmin || x == xmax || y == ymin || y == ymax || z == zmin || z == zmax) {
-                            if (!isViableNode(xPos, yPos, zPos) || isFrame(coord.translate(x, y, z), minX, maxX, minY, maxY, minZ, maxZ) && !isValidFrame(xPos, yPos, zPos)) {
-                                //If it is not a valid node or if it is supposed to be a frame but is invalid
-                                // then we are not valid over all
-                                isValid = false;
-                                break;
-                            } else {
-                                locations.add(coord.translate(x, y, z));
-                            }
-                        } else if (!isValidInnerNode(xPos, yPos, zPos)) {
-                            isValid = false;
-                            break;
-                        } else if (!isAir(xPos, yPos, zPos)) {
-                            innerNodes.add(new Coord4D(xPos, yPos, zPos, pointer.getWorld().getDimension().getType()));
-                        }
-                    }
-                    if (!isValid) {
-                        break;
-                    }
-                }
-                if (!isValid) {
-                    break;
-                }
+                zmin = findViableNode(origX, origY, origZ, 0, 0, -1);
             }
 
-            if (isValid) {
-                //Check the boolean values before performing other calculations
-                int length = Math.abs(xmax - xmin) + 1;
-                int height = Math.abs(ymax - ymin) + 1;
-                int width = Math.abs(zmax - zmin) + 1;
-                if (length <= 18 && height <= 18 && width <= 18) {
+            int length = Math.abs(xmax - xmin) + 1;
+            int height = Math.abs(ymax - ymin) + 1;
+            int width = Math.abs(zmax - zmin) + 1;
+            //Check the size before scanning the volume, so that we don't scan boxes that can't form anyways
+            if (length >= 3 && height >= 3 && width >= 3 && length <= 18 && height <= 18 && width <= 18) {
+                int minX = origX + xmin;
+                int maxX = origX + xmax;
+                int minY = origY + ymin;
+                int maxY = origY + ymax;
+                int minZ = origZ + zmin;
+                int maxZ = origZ + zmax;
+                DimensionType dimension = pointer.getWorld().getDimension().getType();
+                StructureLocations locations = new StructureLocations(dimension, minX, minY, minZ, maxX, maxY, maxZ);
+                innerNodes = new StructureLocations(dimension, minX + 1, minY + 1, minZ + 1, maxX - 1, maxY - 1, maxZ - 1);
+                if (scanVolume(locations, minX, maxX, minY, maxY, minZ, maxZ)) {
                     T structure = getNewStructure();
                     structure.locations = locations;
                     structure.volLength = length;
                     structure.volHeight = height;
                     structure.volWidth = width;
                     structure.volume = structure.volLength * structure.volHeight * structure.volWidth;
-                    structure.renderLocation = coord.translate(0, 1, 0);
-                    structure.minLocation = coord.translate(xmin, ymin, zmin);
-                    structure.maxLocation = coord.translate(xmax, ymax, zmax);
-
-                    if (structure.volLength >= 3 && structure.volHeight >= 3 && structure.volWidth >= 3) {
-                        onStructureCreated(structure, origX, origY, origZ, xmin, xmax, ymin, ymax, zmin, zmax);
-                        if (structure.locations.contains(Coord4D.get(pointer)) && isCorrectCorner(coord, minX, minY, minZ)) {
-                            if (canForm(structure)) {
-                                structureFound = structure;
-                                return;
-                            }
+                    structure.renderLocation = new Coord4D(origX, origY + 1, origZ, dimension);
+                    structure.minLocation = new Coord4D(minX, minY, minZ, dimension);
+                    structure.maxLocation = new Coord4D(maxX, maxY, maxZ, dimension);
+
+                    onStructureCreated(structure, origX, origY, origZ, xmin, xmax, ymin, ymax, zmin, zmax);
+                    if (structure.locations.contains(pointer.getPos()) && isCorrectCorner(origX, origY, origZ, minX, minY, minZ)) {
+                        if (canForm(structure)) {
+                            structureFound = structure;
+                            return;
                         }
                     }
                 }
@@ -134,20 +111,46 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
         }
 
         innerNodes.clear();
-        iteratedNodes.add(coord);
+        iteratedNodes.add(pos);
 
         if (iteratedNodes.size() > 2048) {
             return;
         }
 
         for (Direction side : EnumUtils.DIRECTIONS) {
-            Coord4D sideCoord = coord.offset(side);
-            if (isViableNode(sideCoord.getPos())) {
-                if (!iteratedNodes.contains(sideCoord)) {
-                    queue.addLast(sideCoord);
+            long sidePos = BlockPos.offset(pos, side);
+            if (!iteratedNodes.contains(sidePos) && isViableNode(BlockPos.unpackX(sidePos), BlockPos.unpackY(sidePos), BlockPos.unpackZ(sidePos))) {
+                queue.enqueue(sidePos);
+            }
+        }
+    }
+
+    /**
+     * Checks that the shell and the inside of the given box are valid for this multiblock, adding the shell to the given locations and any non air inner nodes to
+     * {@link #innerNodes}.
+     *
+     * @return Whether or not the volume is valid.
+     */
+    private boolean scanVolume(StructureLocations locations, int minX, int maxX, int minY, int maxY, int minZ, int maxZ) {
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    if (x == minX || x == maxX || y == minY || y == maxY || z == minZ || z == maxZ) {
+                        if (!isViableNode(x, y, z) || isFrame(x, y, z, minX, maxX, minY, maxY, minZ, maxZ) && !isValidFrame(x, y, z)) {
+                            //If it is not a valid node or if it is supposed to be a frame but is invalid
+                            // then we are not valid over all
+                            return false;
+                        }
+                        locations.add(x, y, z);
+                    } else if (!isValidInnerNode(x, y, z)) {
+                        return false;
+                    } else if (!isAir(x, y, z)) {
+                        innerNodes.add(x, y, z);
+                    }
                 }
             }
         }
+        return true;
     }
 
     protected boolean canForm(T structure) {
@@ -189,7 +192,9 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
     /**
      * Helper method for reducing duplicate code in loopThrough.
      *
-     * @param orig   Starting position
+     * @param origX  Starting x position
+     * @param origY  Starting y position
+     * @param origZ  Starting z position
      * @param xShift Direction x is being changed, 1 is increasing, 0 means not changing, -1 means decreasing. Only one of xShift, yShift, and zShift should not be 0
      *               during any call. A value of 1 also implies that it is a viable node so we start checking at 1 instead of 0.
      * @param yShift Direction y is being changed, 1 is increasing, 0 means not changing, -1 means decreasing. Only one of xShift, yShift, and zShift should not be 0
@@ -199,11 +204,11 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
      *
      * @return x, y, or z depending on which one is not zero.
      */
-    private int findViableNode(Coord4D orig, int xShift, int yShift, int zShift) {
+    private int findViableNode(int origX, int origY, int origZ, int xShift, int yShift, int zShift) {
         int x = xShift == 1 ? 1 : 0;
         int y = yShift == 1 ? 1 : 0;
         int z = zShift == 1 ? 1 : 0;
-        while (isViableNode(orig.x + x + xShift, orig.y + y + yShift, orig.z + z + zShift)) {
+        while (isViableNode(origX + x + xShift, origY + y + yShift, origZ + z + zShift)) {
             x += xShift;
             y += yShift;
             z += zShift;
@@ -225,12 +230,14 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
      * @return Whether or not the block at the specified location is a viable node for a multiblock structure.
      */
     public boolean isViableNode(int x, int y, int z) {
-        TileEntity tile = MekanismUtils.getTileEntity(pointer.getWorld(), new BlockPos(x, y, z));
-        if (tile instanceof IStructuralMultiblock && ((IStructuralMultiblock) tile).canInterface(pointer)) {
-            return true;
+        long pos = BlockPos.pack(x, y, z);
+        if (viableNodes.containsKey(pos)) {
+            return viableNodes.get(pos);
         }
-        return MultiblockManager.areEqual(tile, pointer);
-
+        TileEntity tile = MekanismUtils.getTileEntity(pointer.getWorld(), new BlockPos(x, y, z));
+        boolean viable = tile instanceof IStructuralMultiblock && ((IStructuralMultiblock) tile).canInterface(pointer) || MultiblockManager.areEqual(tile, pointer);
+        viableNodes.put(pos, viable);
+        return viable;
     }
 
     /**
@@ -243,19 +250,23 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
     }
 
     /**
-     * @param obj  - location to check
+     * @param x    - x coordinate
+     * @param y    - y coordinate
+     * @param z    - z coordinate
      * @param xmin - minimum x value
      * @param ymin - minimum y value
      * @param zmin - minimum z value
      *
      * @return If the block at the specified location is on the minimum of all angles of this multiblock structure, and the one to use for the actual calculation.
      */
-    private boolean isCorrectCorner(Coord4D obj, int xmin, int ymin, int zmin) {
-        return obj.x == xmin && obj.y == ymin && obj.z == zmin;
+    private boolean isCorrectCorner(int x, int y, int z, int xmin, int ymin, int zmin) {
+        return x == xmin && y == ymin && z == zmin;
     }
 
     /**
-     * @param obj  - location to check
+     * @param x    - x coordinate
+     * @param y    - y coordinate
+     * @param z    - z coordinate
      * @param xmin - minimum x value
      * @param xmax - maximum x value
      * @param ymin - minimum y value
@@ -265,10 +276,10 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
      *
      * @return Whether or not the block at the specified location is considered a frame on the multiblock structure.
      */
-    private boolean isFrame(Coord4D obj, int xmin, int xmax, int ymin, int ymax, int zmin, int zmax) {
-        boolean xMatches = obj.x == xmin || obj.x == xmax;
-        boolean yMatches = obj.y == ymin || obj.y == ymax;
-        boolean zMatches = obj.z == zmin || obj.z == zmax;
+    private boolean isFrame(int x, int y, int z, int xmin, int xmax, int ymin, int ymax, int zmin, int zmax) {
+        boolean xMatches = x == xmin || x == xmax;
+        boolean yMatches = y == ymin || y == ymax;
+        boolean zMatches = z == zmin || z == zmax;
         return xMatches && yMatches || xMatches && zMatches || yMatches && zMatches;
     }
 
@@ -318,20 +329,21 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
      * Runs the protocol and updates all nodes that make a part of the multiblock.
      */
     public void doUpdate() {
-        Deque<Coord4D> pathingQueue = new LinkedList<>();
-        pathingQueue.add(Coord4D.get(pointer));
-        while (pathingQueue.peek() != null) {
-            Coord4D next = pathingQueue.removeFirst();
+        LongArrayFIFOQueue pathingQueue = new LongArrayFIFOQueue();
+        pathingQueue.enqueue(pointer.getPos().toLong());
+        while (!pathingQueue.isEmpty()) {
+            long next = pathingQueue.dequeueLong();
             if (!iteratedNodes.contains(next)) {
                 loopThrough(next, pathingQueue);
             }
         }
 
         if (structureFound != null) {
-            for (Coord4D coord : iteratedNodes) {
-                if (!structureFound.locations.contains(coord)) {
-                    for (Coord4D newCoord : iteratedNodes) {
-                        TileEntity tile = MekanismUtils.getTileEntity(pointer.getWorld(), newCoord.getPos());
+            for (LongIterator iter = iteratedNodes.iterator(); iter.hasNext(); ) {
+                long pos = iter.nextLong();
+                if (!structureFound.locations.contains(BlockPos.unpackX(pos), BlockPos.unpackY(pos), BlockPos.unpackZ(pos))) {
+                    for (LongIterator newIter = iteratedNodes.iterator(); newIter.hasNext(); ) {
+                        TileEntity tile = MekanismUtils.getTileEntity(pointer.getWorld(), BlockPos.fromLong(newIter.nextLong()));
                         if (tile instanceof TileEntityMultiblock) {
                             ((TileEntityMultiblock<?>) tile).structure = null;
                         } else if (tile instanceof IStructuralMultiblock) {
@@ -397,11 +409,11 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
             //Remove all structural multiblocks from locations, set controllers
             for (IStructuralMultiblock node : structures) {
                 node.setController(toUse);
-                structureFound.locations.remove(Coord4D.get((TileEntity) node));
+                structureFound.locations.remove(((TileEntity) node).getPos());
             }
         } else {
-            for (Coord4D coord : iteratedNodes) {
-                TileEntity tile = MekanismUtils.getTileEntity(pointer.getWorld(), coord.getPos());
+            for (LongIterator iter = iteratedNodes.iterator(); iter.hasNext(); ) {
+                TileEntity tile = MekanismUtils.getTileEntity(pointer.getWorld(), BlockPos.fromLong(iter.nextLong()));
                 if (tile instanceof TileEntityMultiblock) {
                     TileEntityMultiblock<T> tileEntity = (TileEntityMultiblock<T>) tile;
                     if (tileEntity.structure != null && !tileEntity.structure.destroyed) {
@@ -0,0 +1,124 @@
+package mekanism.common.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.Nullable;
+import mekanism.api.Coord4D;
+import mekanism.api.TileNetworkList;
+import mekanism.common.PacketHandler;
+import net.minecraft.network.PacketBuffer;
+
+/**
+ * The last synced networked data of a tile, split up into the encoded form of each entry of its {@link TileNetworkList}. On the server this is what was last sent to
+ * the players using the tile, and on the client what was last received, so that only the entries that changed have to be sent.
+ */
+public class NetworkedDataSnapshot {
+
+    private List<byte[]> fields = Collections.emptyList();
+    private boolean valid;
+    //Reused between syncs so that comparing unchanged data doesn't allocate anything
+    private final BitSet changed = new BitSet();
+    private final Object[] field = new Object[1];
+    @Nullable
+    private PacketBuffer scratch;
+
+    /**
+     * Makes the next delta that gets created contain all the fields, used when a player starts using the tile and does not have the current snapshot yet.
+     */
+    public void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Compares the given networked data against this snapshot and updates the snapshot to it. The data still has to be encoded every time to be compared, but the
+     * buffer it gets encoded into is reused, so nothing gets allocated unless something changed.
+     *
+     * @param coord The position of the tile.
+     * @param data  The current networked data of the tile.
+     *
+     * @return A packet containing the fields that changed, or null if nothing changed.
+     */
+    @Nullable
+    public PacketTileEntityDelta createDelta(Coord4D coord, TileNetworkList data) {
+        int size = data.size();
+        boolean full = !valid || size != fields.size();
+        if (full) {
+            fields = new ArrayList<>(Collections.nCopies(size, null));
+        }
+        if (scratch == null) {
+            scratch = new PacketBuffer(Unpooled.buffer());
+        }
+        changed.clear();
+        for (int i = 0; i < size; i++) {
+            scratch.clear();
+            field[0] = data.get(i);
+            PacketHandler.encode(field, scratch);
+            byte[] previous = fields.get(i);
+            if (previous == null || !matches(scratch, previous)) {
+                byte[] bytes = new byte[scratch.readableBytes()];
+                scratch.readBytes(bytes);
+                fields.set(i, bytes);
+                changed.set(i);
+            }
+        }
+        field[0] = null;
+        valid = true;
+        if (!full && changed.isEmpty()) {
+            return null;
+        }
+        //Copy the fields as the snapshot keeps changing after the packet got created
+        return new PacketTileEntityDelta(coord, full, new ArrayList<>(fields), (BitSet) changed.clone());
+    }
+
+    /**
+     * Applies the fields of the given delta to this snapshot.
+     *
+     * @param delta The delta to apply.
+     *
+     * @return A buffer containing all the fields of the snapshot in order, or null if the delta could not be applied as this snapshot is out of date.
+     */
+    @Nullable
+    public PacketBuffer apply(PacketTileEntityDelta delta) {
+        byte[][] changed = delta.getChangedFields();
+        if (delta.isFull()) {
+            fields = new ArrayList<>(changed.length);
+            Collections.addAll(fields, changed);
+            valid = true;
+        } else if (!valid || fields.size() != changed.length) {
+            return null;
+        } else {
+            for (int i = 0; i < changed.length; i++) {
+                if (changed[i] != null) {
+                    fields.set(i, changed[i]);
+                }
+            }
+        }
+        int length = 0;
+        for (byte[] bytes : fields) {
+            length += bytes.length;
+        }
+        ByteBuf buffer = Unpooled.buffer(length);
+        for (byte[] bytes : fields) {
+            buffer.writeBytes(bytes);
+        }
+        return new PacketBuffer(buffer);
+    }
+
+    private static boolean matches(ByteBuf buffer, byte[] bytes) {
+        int length = buffer.readableBytes();
+        if (length != bytes.length) {
+            return false;
+        }
+        int start = buffer.readerIndex();
+        for (int i = 0; i < length; i++) {
+            if (buffer.getByte(start + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,103 @@
+package mekanism.common.network;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Supplier;
+import mekanism.api.Coord4D;
+import mekanism.common.Mekanism;
+import mekanism.common.PacketHandler;
+import mekanism.common.tile.base.TileEntityMekanism;
+import mekanism.common.util.MekanismUtils;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraftforge.fml.network.NetworkEvent.Context;
+
+/**
+ * Syncs the networked data of a tile to the players using it, only containing the fields that changed since the last time it was synced. The fields that are included
+ * are marked by a bitmask at the start of the packet, unless all fields are included.
+ */
+public class PacketTileEntityDelta {
+
+    private final Coord4D coord4D;
+    private final boolean full;
+    private List<byte[]> fields;
+    private BitSet changed;
+    private byte[][] changedFields;
+
+    public PacketTileEntityDelta(Coord4D coord, boolean full, List<byte[]> fields, BitSet changed) {
+        this(coord, full);
+        this.fields = fields;
+        this.changed = changed;
+    }
+
+    private PacketTileEntityDelta(Coord4D coord, boolean full) {
+        this.coord4D = coord;
+        this.full = full;
+    }
+
+    public boolean isFull() {
+        return full;
+    }
+
+    /**
+     * @return All the fields of the tile's networked data, with the ones that did not change being null.
+     */
+    public byte[][] getChangedFields() {
+        return changedFields;
+    }
+
+    public static void handle(PacketTileEntityDelta message, Supplier<Context> context) {
+        PlayerEntity player = PacketHandler.getPlayer(context);
+        if (player == null) {
+            return;
+        }
+        context.get().enqueueWork(() -> {
+            TileEntity tile = MekanismUtils.getTileEntity(player.world, message.coord4D.getPos());
+            if (tile instanceof TileEntityMekanism) {
+                PacketBuffer data = ((TileEntityMekanism) tile).getSyncSnapshot().apply(message);
+                if (data == null) {
+                    //We missed the full data, request it again
+                    Mekanism.packetHandler.sendToServer(new PacketDataRequest(message.coord4D));
+                    return;
+                }
+                try {
+                    ((TileEntityMekanism) tile).handlePacketData(data);
+                } catch (Exception e) {
+                    Mekanism.logger.error("FIXME: Packet handling error", e);
+                }
+                data.release();
+            }
+        });
+        context.get().setPacketHandled(true);
+    }
+
+    public static void encode(PacketTileEntityDelta pkt, PacketBuffer buf) {
+        pkt.coord4D.write(buf);
+        buf.writeBoolean(pkt.full);
+        buf.writeVarInt(pkt.fields.size());
+        if (!pkt.full) {
+            buf.writeByteArray(pkt.changed.toByteArray());
+        }
+        for (int i = pkt.changed.nextSetBit(0); i >= 0; i = pkt.changed.nextSetBit(i + 1)) {
+            buf.writeByteArray(pkt.fields.get(i));
+        }
+    }
+
+    public static PacketTileEntityDelta decode(PacketBuffer buf) {
+        PacketTileEntityDelta packet = new PacketTileEntityDelta(Coord4D.read(buf), buf.readBoolean());
+        int size = buf.readVarInt();
+        BitSet changed;
+        if (packet.full) {
+            changed = new BitSet(size);
+            changed.set(0, size);
+        } else {
+            changed = BitSet.valueOf(buf.readByteArray());
+        }
+        packet.changedFields = new byte[size][];
+        for (int i = changed.nextSetBit(0); i >= 0 && i < size; i = changed.nextSetBit(i + 1)) {
+            packet.changedFields[i] = buf.readByteArray();
+        }
+        return packet;
+    }
+}
@@ -0,0 +1,102 @@
+package mekanism.common.network;
+
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import mekanism.common.Mekanism;
+import mekanism.common.PacketHandler;
+import mekanism.common.capabilities.Capabilities;
+import mekanism.common.util.CapabilityUtils;
+import mekanism.common.util.MekanismUtils;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraftforge.fml.network.NetworkEvent.Context;
+
+/**
+ * Changes to the stacks in transit of all the logistical transporters in the chunks a player is tracking, sent once per tick instead of a packet per transporter. The
+ * updates are grouped by chunk, and the positions are written relative to the chunk they are in.
+ */
+public class PacketTransporterBatch {
+
+    private final Long2ObjectMap<List<TransporterUpdate>> chunkUpdates = new Long2ObjectOpenHashMap<>();
+    private List<TransporterUpdate> updates;
+
+    /**
+     * @param chunk   - {@link ChunkPos#asLong(int, int) packed} chunk position
+     * @param updates - the updates of the transporters in the chunk
+     */
+    public void addChunk(long chunk, List<TransporterUpdate> updates) {
+        chunkUpdates.put(chunk, updates);
+    }
+
+    public static void handle(PacketTransporterBatch message, Supplier<Context> context) {
+        PlayerEntity player = PacketHandler.getPlayer(context);
+        if (player == null) {
+            return;
+        }
+        context.get().enqueueWork(() -> {
+            for (TransporterUpdate update : message.updates) {
+                TileEntity tile = MekanismUtils.getTileEntity(player.world, update.pos);
+                CapabilityUtils.getCapability(tile, Capabilities.TILE_NETWORK_CAPABILITY, null).ifPresent(network -> {
+                    try {
+                        network.handlePacketData(new PacketBuffer(Unpooled.wrappedBuffer(update.data)));
+                    } catch (Exception e) {
+                        Mekanism.logger.error("FIXME: Packet handling error", e);
+                    }
+                });
+            }
+        });
+        context.get().setPacketHandled(true);
+    }
+
+    public static void encode(PacketTransporterBatch pkt, PacketBuffer buf) {
+        buf.writeVarInt(pkt.chunkUpdates.size());
+        for (Long2ObjectMap.Entry<List<TransporterUpdate>> entry : pkt.chunkUpdates.long2ObjectEntrySet()) {
+            buf.writeLong(entry.getLongKey());
+            List<TransporterUpdate> updates = entry.getValue();
+            buf.writeVarInt(updates.size());
+            for (TransporterUpdate update : updates) {
+                BlockPos pos = update.pos;
+                buf.writeVarInt(pos.getY() << 8 | (pos.getX() & 15) << 4 | pos.getZ() & 15);
+                buf.writeByteArray(update.data);
+            }
+        }
+    }
+
+    public static PacketTransporterBatch decode(PacketBuffer buf) {
+        PacketTransporterBatch packet = new PacketTransporterBatch();
+        packet.updates = new ArrayList<>();
+        int chunks = buf.readVarInt();
+        for (int i = 0; i < chunks; i++) {
+            ChunkPos chunkPos = new ChunkPos(buf.readLong());
+            int count = buf.readVarInt();
+            for (int j = 0; j < count; j++) {
+                int relativePos = buf.readVarInt();
+                BlockPos pos = new BlockPos(chunkPos.getXStart() + (relativePos >> 4 & 15), relativePos >> 8, chunkPos.getZStart() + (relativePos & 15));
+                packet.updates.add(new TransporterUpdate(pos, buf.readByteArray()));
+            }
+        }
+        return packet;
+    }
+
+    public static class TransporterUpdate {
+
+        private final BlockPos pos;
+        private final byte[] data;
+
+        /**
+         * @param pos  - position of the transporter
+         * @param data - encoded data to pass to the transporter's {@link mekanism.common.base.ITileNetwork#handlePacketData(PacketBuffer)}
+         */
+        public TransporterUpdate(BlockPos pos, byte[] data) {
+            this.pos = pos;
+            this.data = data;
+        }
+    }
+}
@@ -5,10 +5,13 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import mekanism.api.gas.Gas;
+import mekanism.api.gas.GasStack;
 import mekanism.api.inventory.IgnoredIInventory;
 import mekanism.api.recipes.ChemicalInfuserRecipe;
 import mekanism.api.recipes.CombinerRecipe;
@@ -27,10 +30,14 @@ import mekanism.api.recipes.MetallurgicInfuserRecipe;
 import mekanism.api.recipes.PressurizedReactionRecipe;
 import mekanism.api.recipes.RotaryRecipe;
 import mekanism.api.recipes.SawmillRecipe;
+import mekanism.api.recipes.inputs.FluidStackIngredient;
+import mekanism.api.recipes.inputs.GasStackIngredient;
 import mekanism.api.recipes.inputs.ItemStackIngredient;
 import mekanism.common.Mekanism;
 import mekanism.common.recipe.impl.SmeltingIRecipe;
+import net.minecraft.fluid.Fluid;
 import net.minecraft.inventory.IInventory;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.IRecipe;
 import net.minecraft.item.crafting.IRecipeSerializer;
@@ -41,6 +48,7 @@ import net.minecraft.util.NonNullList;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.registry.Registry;
 import net.minecraft.world.World;
+import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.registries.IForgeRegistry;
 
 //TODO: Should this be moved to API package?
@@ -49,45 +57,68 @@ public class MekanismRecipeType<RECIPE_TYPE extends MekanismRecipe> implements I
 
     private static final List<MekanismRecipeType<? extends MekanismRecipe>> types = new ArrayList<>();
 
-    public static final MekanismRecipeType<ItemStackToItemStackRecipe> CRUSHING = create("crushing");
-    public static final MekanismRecipeType<ItemStackToItemStackRecipe> ENRICHING = create("enriching");
-    public static final MekanismRecipeType<ItemStackToItemStackRecipe> SMELTING = create("smelting");
+    public static final MekanismRecipeType<ItemStackToItemStackRecipe> CRUSHING = createItem("crushing", ItemStackToItemStackRecipe::getInput);
+    public static final MekanismRecipeType<ItemStackToItemStackRecipe> ENRICHING = createItem("enriching", ItemStackToItemStackRecipe::getInput);
+    public static final MekanismRecipeType<ItemStackToItemStackRecipe> SMELTING = createItem("smelting", ItemStackToItemStackRecipe::getInput);
 
     public static final MekanismRecipeType<ChemicalInfuserRecipe> CHEMICAL_INFUSING = create("chemical_infusing");
 
-    public static final MekanismRecipeType<CombinerRecipe> COMBINING = create("combining");
+    public static final MekanismRecipeType<CombinerRecipe> COMBINING = createItem("combining", CombinerRecipe::getMainInput)
+          .withSecondaryItemInput(CombinerRecipe::getExtraInput);
 
-    public static final MekanismRecipeType<ElectrolysisRecipe> SEPARATING = create("separating");
+    public static final MekanismRecipeType<ElectrolysisRecipe> SEPARATING = createFluid("separating", ElectrolysisRecipe::getInput);
 
-    public static final MekanismRecipeType<FluidGasToGasRecipe> WASHING = create("washing");
+    public static final MekanismRecipeType<FluidGasToGasRecipe> WASHING = createFluid("washing", FluidGasToGasRecipe::getFluidInput)
+          .withSecondaryGasInput(FluidGasToGasRecipe::getGasInput);
 
-    public static final MekanismRecipeType<FluidToFluidRecipe> EVAPORATING = create("evaporating");
+    public static final MekanismRecipeType<FluidToFluidRecipe> EVAPORATING = createFluid("evaporating", FluidToFluidRecipe::getInput);
 
-    public static final MekanismRecipeType<GasToGasRecipe> ACTIVATING = create("activating");
+    public static final MekanismRecipeType<GasToGasRecipe> ACTIVATING = createGas("activating", GasToGasRecipe::getInput);
 
-    public static final MekanismRecipeType<GasToItemStackRecipe> CRYSTALLIZING = create("crystallizing");
+    public static final MekanismRecipeType<GasToItemStackRecipe> CRYSTALLIZING = createGas("crystallizing", GasToItemStackRecipe::getInput);
 
-    public static final MekanismRecipeType<ItemStackGasToGasRecipe> DISSOLUTION = create("dissolution");
+    public static final MekanismRecipeType<ItemStackGasToGasRecipe> DISSOLUTION = createItem("dissolution", ItemStackGasToGasRecipe::getItemInput)
+          .withSecondaryGasInput(ItemStackGasToGasRecipe::getGasInput);
 
-    public static final MekanismRecipeType<ItemStackGasToItemStackRecipe> COMPRESSING = create("compressing");
-    public static final MekanismRecipeType<ItemStackGasToItemStackRecipe> PURIFYING = create("purifying");
-    public static final MekanismRecipeType<ItemStackGasToItemStackRecipe> INJECTING = create("injecting");
+    public static final MekanismRecipeType<ItemStackGasToItemStackRecipe> COMPRESSING = createItem("compressing", ItemStackGasToItemStackRecipe::getItemInput)
+          .withSecondaryGasInput(ItemStackGasToItemStackRecipe::getGasInput);
+    public static final MekanismRecipeType<ItemStackGasToItemStackRecipe> PURIFYING = createItem("purifying", ItemStackGasToItemStackRecipe::getItemInput)
+          .withSecondaryGasInput(ItemStackGasToItemStackRecipe::getGasInput);
+    public static final MekanismRecipeType<ItemStackGasToItemStackRecipe> INJECTING = createItem("injecting", ItemStackGasToItemStackRecipe::getItemInput)
+          .withSecondaryGasInput(ItemStackGasToItemStackRecipe::getGasInput);
 
-    public static final MekanismRecipeType<ItemStackToGasRecipe> GAS_CONVERSION = create("gas_conversion");
-    public static final MekanismRecipeType<ItemStackToGasRecipe> OXIDIZING = create("oxidizing");
+    public static final MekanismRecipeType<ItemStackToGasRecipe> GAS_CONVERSION = createItem("gas_conversion", ItemStackToGasRecipe::getInput);
+    public static final MekanismRecipeType<ItemStackToGasRecipe> OXIDIZING = createItem("oxidizing", ItemStackToGasRecipe::getInput);
 
-    public static final MekanismRecipeType<ItemStackToInfuseTypeRecipe> INFUSION_CONVERSION = create("infusion_conversion");
+    public static final MekanismRecipeType<ItemStackToInfuseTypeRecipe> INFUSION_CONVERSION = createItem("infusion_conversion", ItemStackToInfuseTypeRecipe::getInput);
 
-    public static final MekanismRecipeType<MetallurgicInfuserRecipe> METALLURGIC_INFUSING = create("metallurgic_infusing");
+    public static final MekanismRecipeType<MetallurgicInfuserRecipe> METALLURGIC_INFUSING = createItem("metallurgic_infusing", MetallurgicInfuserRecipe::getItemInput);
 
-    public static final MekanismRecipeType<PressurizedReactionRecipe> REACTION = create("reaction");
+    public static final MekanismRecipeType<PressurizedReactionRecipe> REACTION = createItem("reaction", PressurizedReactionRecipe::getInputSolid);
 
     public static final MekanismRecipeType<RotaryRecipe> ROTARY = create("rotary");
 
-    public static final MekanismRecipeType<SawmillRecipe> SAWING = create("sawing");
+    public static final MekanismRecipeType<SawmillRecipe> SAWING = createItem("sawing", SawmillRecipe::getInput);
 
     private static <RECIPE_TYPE extends MekanismRecipe> MekanismRecipeType<RECIPE_TYPE> create(String name) {
-        MekanismRecipeType<RECIPE_TYPE> type = new MekanismRecipeType<>(name);
+        return create(name, null, null, null);
+    }
+
+    private static <RECIPE_TYPE extends MekanismRecipe> MekanismRecipeType<RECIPE_TYPE> createItem(String name, Function<RECIPE_TYPE, ItemStackIngredient> inputGetter) {
+        return create(name, RecipeInputIndex.item(inputGetter), null, null);
+    }
+
+    private static <RECIPE_TYPE extends MekanismRecipe> MekanismRecipeType<RECIPE_TYPE> createFluid(String name, Function<RECIPE_TYPE, FluidStackIngredient> inputGetter) {
+        return create(name, null, RecipeInputIndex.fluid(inputGetter), null);
+    }
+
+    private static <RECIPE_TYPE extends MekanismRecipe> MekanismRecipeType<RECIPE_TYPE> createGas(String name, Function<RECIPE_TYPE, GasStackIngredient> inputGetter) {
+        return create(name, null, null, RecipeInputIndex.gas(inputGetter));
+    }
+
+    private static <RECIPE_TYPE extends MekanismRecipe> MekanismRecipeType<RECIPE_TYPE> create(String name, @Nullable RecipeInputIndex<RECIPE_TYPE, ItemStack, Item> itemIndex,
+          @Nullable RecipeInputIndex<RECIPE_TYPE, FluidStack, Fluid> fluidIndex, @Nullable RecipeInputIndex<RECIPE_TYPE, GasStack, Gas> gasIndex) {
+        MekanismRecipeType<RECIPE_TYPE> type = new MekanismRecipeType<>(name, itemIndex, fluidIndex, gasIndex);
         types.add(type);
         return type;
     }
@@ -99,16 +130,60 @@ public class MekanismRecipeType<RECIPE_TYPE extends MekanismRecipe> implements I
 
     public static void clearCache() {
         //TODO: Does this need to also get cleared on disconnect
-        types.forEach(type -> type.cachedRecipes.clear());
+        types.forEach(MekanismRecipeType::clearCachedRecipes);
     }
 
     private List<RECIPE_TYPE> cachedRecipes = Collections.emptyList();
+    private final List<RecipeInputIndex<RECIPE_TYPE, ?, ?>> inputIndices = new ArrayList<>();
     private final ResourceLocation registryName;
     private final String name;
+    /**
+     * Index of the recipes by their main input, at most one of these is present depending on what the main input of the recipe type is.
+     */
+    @Nullable
+    private final RecipeInputIndex<RECIPE_TYPE, ItemStack, Item> itemIndex;
+    @Nullable
+    private final RecipeInputIndex<RECIPE_TYPE, FluidStack, Fluid> fluidIndex;
+    @Nullable
+    private final RecipeInputIndex<RECIPE_TYPE, GasStack, Gas> gasIndex;
+    /**
+     * Index of the recipes by their secondary input, only used for checking if an input is valid.
+     */
+    @Nullable
+    private RecipeInputIndex<RECIPE_TYPE, ItemStack, Item> secondaryItemIndex;
+    @Nullable
+    private RecipeInputIndex<RECIPE_TYPE, GasStack, Gas> secondaryGasIndex;
 
-    private MekanismRecipeType(String name) {
+    private MekanismRecipeType(String name, @Nullable RecipeInputIndex<RECIPE_TYPE, ItemStack, Item> itemIndex,
+          @Nullable RecipeInputIndex<RECIPE_TYPE, FluidStack, Fluid> fluidIndex, @Nullable RecipeInputIndex<RECIPE_TYPE, GasStack, Gas> gasIndex) {
         this.name = name;
         this.registryName = Mekanism.rl(name);
+        this.itemIndex = addIndex(itemIndex);
+        this.fluidIndex = addIndex(fluidIndex);
+        this.gasIndex = addIndex(gasIndex);
+    }
+
+    @Nullable
+    private <INDEX extends RecipeInputIndex<RECIPE_TYPE, ?, ?>> INDEX addIndex(@Nullable INDEX index) {
+        if (index != null) {
+            inputIndices.add(index);
+        }
+        return index;
+    }
+
+    private MekanismRecipeType<RECIPE_TYPE> withSecondaryItemInput(Function<RECIPE_TYPE, ItemStackIngredient> inputGetter) {
+        secondaryItemIndex = addIndex(RecipeInputIndex.item(inputGetter));
+        return this;
+    }
+
+    private MekanismRecipeType<RECIPE_TYPE> withSecondaryGasInput(Function<RECIPE_TYPE, GasStackIngredient> inputGetter) {
+        secondaryGasIndex = addIndex(RecipeInputIndex.gas(inputGetter));
+        return this;
+    }
+
+    private void clearCachedRecipes() {
+        cachedRecipes = Collections.emptyList();
+        inputIndices.forEach(RecipeInputIndex::clear);
     }
 
     @Override
@@ -153,6 +228,10 @@ public class MekanismRecipeType<RECIPE_TYPE extends MekanismRecipe> implements I
                     }
                 }
             }
+            //Build the indices before exposing the recipes so that they are never used while out of date
+            for (RecipeInputIndex<RECIPE_TYPE, ?, ?> index : inputIndices) {
+                index.build(recipes);
+            }
             cachedRecipes = recipes;
         }
         return cachedRecipes;
@@ -167,7 +246,101 @@ public class MekanismRecipeType<RECIPE_TYPE extends MekanismRecipe> implements I
         return stream(world).filter(matchCriteria).findFirst().orElse(null);
     }
 
+    /**
+     * Finds the first recipe that matches the given criteria, only checking the recipes that may accept the given item as their main input.
+     *
+     * @param world         The world to get the recipes for.
+     * @param input         The main input, the match criteria should still check it actually matches.
+     * @param matchCriteria The criteria the recipe has to match.
+     */
+    @Nullable
+    public RECIPE_TYPE findFirst(@Nullable World world, @Nonnull ItemStack input, Predicate<RECIPE_TYPE> matchCriteria) {
+        return findFirst(world, itemIndex, input, matchCriteria);
+    }
+
+    /**
+     * Finds the first recipe that matches the given criteria, only checking the recipes that may accept the given fluid as their main input.
+     *
+     * @param world         The world to get the recipes for.
+     * @param input         The main input, the match criteria should still check it actually matches.
+     * @param matchCriteria The criteria the recipe has to match.
+     */
+    @Nullable
+    public RECIPE_TYPE findFirst(@Nullable World world, @Nonnull FluidStack input, Predicate<RECIPE_TYPE> matchCriteria) {
+        return findFirst(world, fluidIndex, input, matchCriteria);
+    }
+
+    /**
+     * Finds the first recipe that matches the given criteria, only checking the recipes that may accept the given gas as their main input.
+     *
+     * @param world         The world to get the recipes for.
+     * @param input         The main input, the match criteria should still check it actually matches.
+     * @param matchCriteria The criteria the recipe has to match.
+     */
+    @Nullable
+    public RECIPE_TYPE findFirst(@Nullable World world, @Nonnull GasStack input, Predicate<RECIPE_TYPE> matchCriteria) {
+        return findFirst(world, gasIndex, input, matchCriteria);
+    }
+
+    @Nullable
+    private <INPUT> RECIPE_TYPE findFirst(@Nullable World world, @Nullable RecipeInputIndex<RECIPE_TYPE, INPUT, ?> index, @Nonnull INPUT input,
+          Predicate<RECIPE_TYPE> matchCriteria) {
+        List<RECIPE_TYPE> recipes = getRecipes(world);
+        if (index != null && !recipes.isEmpty()) {
+            //Make sure the recipes, and therefore the index, are loaded before using the index
+            recipes = index.getCandidates(input);
+        }
+        for (RECIPE_TYPE recipe : recipes) {
+            if (matchCriteria.test(recipe)) {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
     public boolean contains(@Nullable World world, Predicate<RECIPE_TYPE> matchCriteria) {
         return stream(world).anyMatch(matchCriteria);
     }
+
+    /**
+     * Checks if any recipe accepts the given item as its main input. The result is cached until the recipes are reloaded.
+     */
+    public boolean containsInput(@Nullable World world, @Nonnull ItemStack input) {
+        return !getRecipes(world).isEmpty() && getIndex(itemIndex, "item").containsInput(input);
+    }
+
+    /**
+     * Checks if any recipe accepts the given fluid as its main input. The result is cached until the recipes are reloaded.
+     */
+    public boolean containsInput(@Nullable World world, @Nonnull FluidStack input) {
+        return !getRecipes(world).isEmpty() && getIndex(fluidIndex, "fluid").containsInput(input);
+    }
+
+    /**
+     * Checks if any recipe accepts the given gas as its main input. The result is cached until the recipes are reloaded.
+     */
+    public boolean containsInput(@Nullable World world, @Nonnull Gas input) {
+        return !getRecipes(world).isEmpty() && getIndex(gasIndex, "gas").containsKey(input);
+    }
+
+    /**
+     * Checks if any recipe accepts the given item as its secondary input. The result is cached until the recipes are reloaded.
+     */
+    public boolean containsSecondaryInput(@Nullable World world, @Nonnull ItemStack input) {
+        return !getRecipes(world).isEmpty() && getIndex(secondaryItemIndex, "secondary item").containsInput(input);
+    }
+
+    /**
+     * Checks if any recipe accepts the given gas as its secondary input. The result is cached until the recipes are reloaded.
+     */
+    public boolean containsSecondaryInput(@Nullable World world, @Nonnull Gas input) {
+        return !getRecipes(world).isEmpty() && getIndex(secondaryGasIndex, "secondary gas").containsKey(input);
+    }
+
+    private <INPUT, KEY> RecipeInputIndex<RECIPE_TYPE, INPUT, KEY> getIndex(@Nullable RecipeInputIndex<RECIPE_TYPE, INPUT, KEY> index, String input) {
+        if (index == null) {
+            throw new IllegalStateException("Recipe type '" + name + "' does not have an " + input + " input");
+        }
+        return index;
+    }
 }
\ No newline at end of file
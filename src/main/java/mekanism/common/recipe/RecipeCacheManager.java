@@ -4,6 +4,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import javax.annotation.Nonnull;
 import mekanism.common.Mekanism;
+import mekanism.common.content.assemblicator.CraftingGridCache;
 import mekanism.common.network.PacketClearRecipeCache;
 import net.minecraft.profiler.IProfiler;
 import net.minecraft.resources.IFutureReloadListener;
@@ -18,6 +19,7 @@ public class RecipeCacheManager implements IFutureReloadListener {
         //TODO: Invalidate the cached recipes stored in the machines
         return CompletableFuture.runAsync(() -> {
             MekanismRecipeType.clearCache();
+            CraftingGridCache.clear();
             Mekanism.packetHandler.sendToAll(new PacketClearRecipeCache());
         }, gameExecutor).thenCompose(stage::markCompleteAwaitingOthers);
     }
@@ -0,0 +1,172 @@
+package mekanism.common.recipe;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import mekanism.api.gas.Gas;
+import mekanism.api.gas.GasStack;
+import mekanism.api.recipes.MekanismRecipe;
+import mekanism.api.recipes.inputs.FluidStackIngredient;
+import mekanism.api.recipes.inputs.GasStackIngredient;
+import mekanism.api.recipes.inputs.InputIngredient;
+import mekanism.api.recipes.inputs.ItemStackIngredient;
+import net.minecraft.fluid.Fluid;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+
+/**
+ * Index of the recipes of a {@link MekanismRecipeType} by the type of one of their inputs, so that looking up a recipe only has to check the recipes that can possibly
+ * match instead of all of them.
+ *
+ * Recipes whose input does not have any representations (for example an empty tag or a custom ingredient that does not expose what it matches) can't be
+ * indexed, and instead get added to every candidate list, so that they still get checked. Candidate lists are kept in the same order as the recipes they were built
+ * from, so the first match is the same recipe a full search would find.
+ *
+ * The index also keeps a bounded cache of whether any recipe accepts a given input, both positive and negative results, as that gets checked constantly by slot and
+ * tank validators. Inputs that may contain NBT are not cached, as the ingredients may care about it.
+ *
+ * @param <RECIPE> The type of recipe.
+ * @param <INPUT>  The type of input the recipes are looked up by.
+ * @param <KEY>    The key the inputs are indexed by.
+ */
+public class RecipeInputIndex<RECIPE extends MekanismRecipe, INPUT, KEY> {
+
+    private static final int MAX_CACHED_INPUTS = 1_024;
+
+    public static <RECIPE extends MekanismRecipe> RecipeInputIndex<RECIPE, ItemStack, Item> item(Function<RECIPE, ItemStackIngredient> ingredientGetter) {
+        return new RecipeInputIndex<>(ingredientGetter, ItemStack::getItem, stack -> !stack.hasTag(), null);
+    }
+
+    public static <RECIPE extends MekanismRecipe> RecipeInputIndex<RECIPE, FluidStack, Fluid> fluid(Function<RECIPE, FluidStackIngredient> ingredientGetter) {
+        return new RecipeInputIndex<>(ingredientGetter, FluidStack::getFluid, stack -> !stack.hasTag(), null);
+    }
+
+    public static <RECIPE extends MekanismRecipe> RecipeInputIndex<RECIPE, GasStack, Gas> gas(Function<RECIPE, GasStackIngredient> ingredientGetter) {
+        //Gas ingredients only care about the type
+        return new RecipeInputIndex<>(ingredientGetter, GasStack::getType, stack -> true, gas -> new GasStack(gas, 1));
+    }
+
+    private final Map<KEY, Boolean> containsCache = new ConcurrentHashMap<>();
+    private final Function<RECIPE, ? extends InputIngredient<INPUT>> ingredientGetter;
+    private final Function<INPUT, KEY> keyGetter;
+    private final Predicate<INPUT> cacheable;
+    @Nullable
+    private final Function<KEY, INPUT> keyToInput;
+    private Map<KEY, List<RECIPE>> candidates = Collections.emptyMap();
+    private List<RECIPE> unindexed = Collections.emptyList();
+
+    private RecipeInputIndex(Function<RECIPE, ? extends InputIngredient<INPUT>> ingredientGetter, Function<INPUT, KEY> keyGetter, Predicate<INPUT> cacheable,
+          @Nullable Function<KEY, INPUT> keyToInput) {
+        this.ingredientGetter = ingredientGetter;
+        this.keyGetter = keyGetter;
+        this.cacheable = cacheable;
+        this.keyToInput = keyToInput;
+    }
+
+    public void build(List<RECIPE> recipes) {
+        Map<KEY, List<RECIPE>> candidates = new HashMap<>();
+        List<RECIPE> unindexed = new ArrayList<>();
+        for (RECIPE recipe : recipes) {
+            List<INPUT> representations = ingredientGetter.apply(recipe).getRepresentations();
+            boolean indexed = false;
+            for (INPUT representation : representations) {
+                KEY key = keyGetter.apply(representation);
+                if (key != null) {
+                    //Start new keys off with the unindexed recipes that came before this recipe so that they stay in order
+                    List<RECIPE> keyCandidates = candidates.computeIfAbsent(key, k -> new ArrayList<>(unindexed));
+                    //Representations may contain the same key multiple times, only add the recipe once
+                    if (keyCandidates.isEmpty() || keyCandidates.get(keyCandidates.size() - 1) != recipe) {
+                        keyCandidates.add(recipe);
+                    }
+                    indexed = true;
+                }
+            }
+            if (!indexed) {
+                unindexed.add(recipe);
+                for (List<RECIPE> keyCandidates : candidates.values()) {
+                    keyCandidates.add(recipe);
+                }
+            }
+        }
+        this.unindexed = unindexed;
+        this.candidates = candidates;
+        containsCache.clear();
+    }
+
+    public void clear() {
+        candidates = Collections.emptyMap();
+        unindexed = Collections.emptyList();
+        containsCache.clear();
+    }
+
+    /**
+     * Gets the recipes that may match the given input, it is up to the caller to check the recipes actually do match.
+     *
+     * @param input The input to get the candidates for.
+     *
+     * @return The candidates, in the order the recipes were indexed in.
+     */
+    @Nonnull
+    public List<RECIPE> getCandidates(@Nonnull INPUT input) {
+        return candidates.getOrDefault(keyGetter.apply(input), unindexed);
+    }
+
+    /**
+     * Checks if any of the indexed recipes accept the given input, ignoring the size of the input.
+     *
+     * @param input The input to check.
+     *
+     * @return {@code true} if a recipe accepts the input.
+     */
+    public boolean containsInput(@Nonnull INPUT input) {
+        if (cacheable.test(input)) {
+            return containsInput(keyGetter.apply(input), input);
+        }
+        return anyMatch(input);
+    }
+
+    /**
+     * Checks if any of the indexed recipes accept inputs of the given key, this is only supported for inputs that are fully described by their key.
+     *
+     * @param key The key to check.
+     *
+     * @return {@code true} if a recipe accepts inputs of the given key.
+     */
+    public boolean containsKey(@Nonnull KEY key) {
+        if (keyToInput == null) {
+            throw new IllegalStateException("Inputs of this index can not be looked up by their key");
+        }
+        Boolean contains = containsCache.get(key);
+        return contains == null ? containsInput(key, keyToInput.apply(key)) : contains;
+    }
+
+    private boolean containsInput(KEY key, INPUT input) {
+        Boolean contains = containsCache.get(key);
+        if (contains == null) {
+            contains = anyMatch(input);
+            if (containsCache.size() >= MAX_CACHED_INPUTS) {
+                //Keep the cache bounded, the inputs that are actively being checked will just get added back
+                containsCache.clear();
+            }
+            containsCache.put(key, contains);
+        }
+        return contains;
+    }
+
+    private boolean anyMatch(INPUT input) {
+        for (RECIPE recipe : getCandidates(input)) {
+            if (ingredientGetter.apply(recipe).testType(input)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -84,7 +84,7 @@ public class TileEntityChemicalDissolutionChamber extends TileEntityOperationalM
     protected IInventorySlotHolder getInitialInventory() {
         InventorySlotHelper builder = InventorySlotHelper.forSide(this::getDirection);
         builder.addSlot(gasInputSlot = GasInventorySlot.fillOrConvert(injectTank, this::isValidGas, this::getWorld, this, 6, 65), RelativeSide.BOTTOM);
-        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(recipe -> recipe.getItemInput().testType(item)), this, 26, 36),
+        builder.addSlot(inputSlot = InputInventorySlot.at(this::containsRecipeInput, this, 26, 36),
               RelativeSide.TOP, RelativeSide.LEFT);
         builder.addSlot(outputSlot = GasInventorySlot.drain(outputTank, this, 155, 25), RelativeSide.RIGHT);
         //TODO: Make this be accessible from some side for automation??
@@ -130,7 +130,7 @@ public class TileEntityChemicalDissolutionChamber extends TileEntityOperationalM
         if (gasStack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack, gasStack));
+        return findFirstRecipe(stack, recipe -> recipe.test(stack, gasStack));
     }
 
     @Nullable
@@ -198,7 +198,7 @@ public class TileEntityChemicalDissolutionChamber extends TileEntityOperationalM
     }
 
     private boolean isValidGas(@Nonnull Gas gas) {
-        return containsRecipe(recipe -> recipe.getGasInput().testType(gas));
+        return containsRecipeSecondaryInput(gas);
     }
 
     @Override
@@ -85,8 +85,8 @@ public class TileEntityCombiner extends TileEntityBasicMachine<CombinerRecipe> {
     protected IInventorySlotHolder getInitialInventory() {
         InventorySlotHelper builder = InventorySlotHelper.forSideWithConfig(this::getDirection, this::getConfig);
         //TODO: Should we limit ACTUAL insertion to be based on the other slot's contents?
-        builder.addSlot(mainInputSlot = InputInventorySlot.at(item -> containsRecipe(recipe -> recipe.getMainInput().testType(item)), this, 56, 17));
-        builder.addSlot(extraInputSlot = InputInventorySlot.at(item -> containsRecipe(recipe -> recipe.getExtraInput().testType(item)), this, 56, 53));
+        builder.addSlot(mainInputSlot = InputInventorySlot.at(this::containsRecipeInput, this, 56, 17));
+        builder.addSlot(extraInputSlot = InputInventorySlot.at(this::containsRecipeSecondaryInput, this, 56, 53));
         builder.addSlot(outputSlot = OutputInventorySlot.at(this, 116, 35));
         builder.addSlot(energySlot = EnergyInventorySlot.discharge(this, 31, 35));
         return builder.build();
@@ -126,7 +126,7 @@ public class TileEntityCombiner extends TileEntityBasicMachine<CombinerRecipe> {
         if (extraStack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack, extraStack));
+        return findFirstRecipe(stack, recipe -> recipe.test(stack, extraStack));
     }
 
     @Nullable
@@ -1,7 +1,6 @@
 package mekanism.common.tile;
 
 import java.util.ArrayList;
-import java.util.BitSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -14,7 +13,6 @@ import java.util.stream.IntStream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.Action;
-import mekanism.api.Chunk3D;
 import mekanism.api.Coord4D;
 import mekanism.api.Range4D;
 import mekanism.api.RelativeSide;
@@ -34,8 +32,9 @@ import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.miner.MItemStackFilter;
 import mekanism.common.content.miner.MTagFilter;
 import mekanism.common.content.miner.MinerFilter;
-import mekanism.common.content.miner.ThreadMinerSearch;
-import mekanism.common.content.miner.ThreadMinerSearch.State;
+import mekanism.common.content.miner.MinerSearch;
+import mekanism.common.content.miner.MinerSearch.State;
+import mekanism.common.content.miner.MinerTargetIndex;
 import mekanism.common.content.transporter.InvStack;
 import mekanism.common.content.transporter.TransitRequest;
 import mekanism.common.content.transporter.TransitRequest.TransitResponse;
@@ -76,7 +75,6 @@ import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.Vec3i;
-import net.minecraft.world.Region;
 import net.minecraft.world.server.ServerWorld;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.capabilities.Capability;
@@ -93,10 +91,11 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
 
     private static final int[] INV_SLOTS = IntStream.range(0, 28).toArray();
 
-    public Map<Chunk3D, BitSet> oresToMine = new HashMap<>();
-    public Map<Integer, MinerFilter<?>> replaceMap = new HashMap<>();
+    private final MinerTargetIndex targets = new MinerTargetIndex();
+    //If the targets were loaded with the miner, so it doesn't have to search again
+    private boolean loadedTargets;
     private HashList<MinerFilter<?>> filters = new HashList<>();
-    public ThreadMinerSearch searcher = new ThreadMinerSearch(this);
+    public MinerSearch searcher = new MinerSearch(this);
 
     private int radius;
 
@@ -176,7 +175,8 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
 
         if (!isRemote()) {
             if (!initCalc) {
-                if (searcher.state == State.FINISHED) {
+                //Search again after loading, unless the targets were saved
+                if (searcher.state == State.SEARCHING || (searcher.state == State.FINISHED && !loadedTargets)) {
                     boolean prevRunning = running;
                     reset();
                     start();
@@ -185,80 +185,52 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
                 initCalc = true;
             }
 
+            searcher.drainResults();
             energySlot.discharge(this);
 
-            if (MekanismUtils.canFunction(this) && running && getEnergy() >= getEnergyPerTick() && searcher.state == State.FINISHED && !oresToMine.isEmpty()) {
+            //Start mining the targets that have been found while the search is still running
+            if (MekanismUtils.canFunction(this) && running && getEnergy() >= getEnergyPerTick() && (searcher.state == State.SEARCHING || searcher.state == State.FINISHED)
+                  && !targets.isEmpty()) {
                 setActive(true);
                 if (delay > 0) {
                     delay--;
                 }
                 setEnergy(getEnergy() - getEnergyPerTick());
                 if (delay == 0) {
-                    boolean did = false;
-                    for (Iterator<Chunk3D> it = oresToMine.keySet().iterator(); it.hasNext(); ) {
-                        Chunk3D chunk = it.next();
-                        BitSet set = oresToMine.get(chunk);
-                        int next = 0;
-                        while (!did) {
-                            int index = set.nextSetBit(next);
-                            Coord4D coord = getCoordFromIndex(index);
-                            if (index == -1) {
-                                it.remove();
-                                break;
-                            }
-
-                            BlockPos coordPos = coord.getPos();
-                            if (!world.isBlockLoaded(coordPos)) {
-                                set.clear(index);
-                                if (set.cardinality() == 0) {
-                                    it.remove();
-                                    break;
-                                }
-                                next = index + 1;
-                                continue;
-                            }
-                            if (world.isAirBlock(coordPos)) {
-                                set.clear(index);
-                                if (set.cardinality() == 0) {
-                                    it.remove();
-                                    break;
-                                }
-                                next = index + 1;
-                                continue;
-                            }
+                    while (!targets.isEmpty()) {
+                        BlockPos target = targets.getTarget();
+                        if (!world.isBlockLoaded(target)) {
+                            targets.deferChunk();
+                            continue;
+                        }
+                        if (world.isAirBlock(target)) {
+                            targets.removeTarget();
+                            continue;
+                        }
 
-                            boolean hasFilter = false;
-                            BlockState state = world.getBlockState(coordPos);
-                            for (MinerFilter<?> filter : filters) {
-                                if (filter.canFilter(state)) {
-                                    hasFilter = true;
-                                    break;
-                                }
+                        boolean hasFilter = false;
+                        BlockState state = world.getBlockState(target);
+                        for (MinerFilter<?> filter : filters) {
+                            if (filter.canFilter(state)) {
+                                hasFilter = true;
+                                break;
                             }
+                        }
 
-                            if (inverse == hasFilter || !canMine(coord)) {
-                                set.clear(index);
-                                if (set.cardinality() == 0) {
-                                    it.remove();
-                                    break;
-                                }
-                                next = index + 1;
-                                continue;
-                            }
+                        Coord4D coord = new Coord4D(target, world);
+                        if (inverse == hasFilter || !canMine(coord)) {
+                            targets.removeTarget();
+                            continue;
+                        }
 
-                            List<ItemStack> drops = MinerUtils.getDrops((ServerWorld) world, coord, silkTouch, this.pos);
-                            if (canInsert(drops) && setReplace(coord, index)) {
-                                did = true;
-                                add(drops);
-                                set.clear(index);
-                                if (set.cardinality() == 0) {
-                                    it.remove();
-                                }
-                                world.playEvent(WorldEvents.BREAK_BLOCK_EFFECTS, coordPos, Block.getStateId(state));
-                                missingStack = ItemStack.EMPTY;
-                            }
-                            break;
+                        List<ItemStack> drops = MinerUtils.getDrops((ServerWorld) world, coord, silkTouch, this.pos);
+                        if (canInsert(drops) && setReplace(target, targets.getReplaceFilter())) {
+                            add(drops);
+                            targets.removeTarget();
+                            world.playEvent(WorldEvents.BREAK_BLOCK_EFFECTS, target, Block.getStateId(state));
+                            missingStack = ItemStack.EMPTY;
                         }
+                        break;
                     }
                     delay = getDelay();
                 }
@@ -330,9 +302,8 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
     /*
      * returns false if unsuccessful
      */
-    public boolean setReplace(Coord4D obj, int index) {
-        ItemStack stack = getReplace(index);
-        BlockPos pos = obj.getPos();
+    public boolean setReplace(BlockPos pos, @Nullable MinerFilter<?> filter) {
+        ItemStack stack = getReplace(filter);
         PlayerEntity fakePlayer = Objects.requireNonNull(Mekanism.proxy.getDummyPlayer((ServerWorld) world, this.pos).get());
 
         if (!stack.isEmpty()) {
@@ -345,7 +316,6 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
             }
             return true;
         } else {
-            MinerFilter<?> filter = replaceMap.get(index);
             if (filter == null || filter.replaceStack.isEmpty() || !filter.requireStack) {
                 world.removeBlock(pos, false);
                 return true;
@@ -363,8 +333,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
         return !event.isCanceled();
     }
 
-    public ItemStack getReplace(int index) {
-        MinerFilter<?> filter = replaceMap.get(index);
+    public ItemStack getReplace(@Nullable MinerFilter<?> filter) {
         if (filter == null || filter.replaceStack.isEmpty()) {
             return ItemStack.EMPTY;
         }
@@ -471,8 +440,6 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
             return;
         }
         if (searcher.state == State.IDLE) {
-            BlockPos startingPos = getStartingCoord().getPos();
-            searcher.setChunkCache(new Region(getWorld(), startingPos, startingPos.add(getDiameter(), maxY - minY + 1, getDiameter())), getWorld().getDimension().getType());
             searcher.start();
         }
         running = true;
@@ -481,7 +448,6 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
 
     public void stop() {
         if (searcher.state == State.SEARCHING) {
-            searcher.interrupt();
             reset();
             return;
         } else if (searcher.state == State.FINISHED) {
@@ -491,10 +457,11 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
     }
 
     public void reset() {
-        searcher = new ThreadMinerSearch(this);
+        searcher.cancel();
+        searcher = new MinerSearch(this);
         running = false;
-        oresToMine.clear();
-        replaceMap.clear();
+        targets.clear();
+        loadedTargets = false;
         missingStack = ItemStack.EMPTY;
         setActive(false);
         MekanismUtils.saveChunk(this);
@@ -510,11 +477,11 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
     }
 
     public int getSize() {
-        int size = 0;
-        for (Chunk3D chunk : oresToMine.keySet()) {
-            size += oresToMine.get(chunk).cardinality();
-        }
-        return size;
+        return targets.size();
+    }
+
+    public MinerTargetIndex getTargets() {
+        return targets;
     }
 
     @Override
@@ -525,19 +492,22 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
         numPowering = nbtTags.getInt("numPowering");
         searcher.state = State.values()[nbtTags.getInt("state")];
         setConfigurationData(nbtTags);
+        if (searcher.state == State.FINISHED) {
+            loadedTargets = targets.read(nbtTags, filters);
+        }
     }
 
     @Nonnull
     @Override
     public CompoundNBT write(CompoundNBT nbtTags) {
         super.write(nbtTags);
-        if (searcher.state == State.SEARCHING) {
-            reset();
-        }
         nbtTags.putBoolean("running", running);
         nbtTags.putInt("delay", delay);
         nbtTags.putInt("numPowering", numPowering);
         nbtTags.putInt("state", searcher.state.ordinal());
+        if (searcher.state == State.FINISHED) {
+            targets.write(nbtTags, filters);
+        }
         return getConfigurationData(nbtTags);
     }
 
@@ -731,13 +701,16 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
         return new Coord4D(getPos().getX() - radius, minY, getPos().getZ() - radius, world.getDimension().getType());
     }
 
-    public Coord4D getCoordFromIndex(int index) {
-        int diameter = getDiameter();
-        Coord4D start = getStartingCoord();
-        int x = start.x + index % diameter;
-        int y = start.y + (index / diameter / diameter);
-        int z = start.z + (index / diameter) % diameter;
-        return new Coord4D(x, y, z, world.getDimension().getType());
+    @Override
+    public void remove() {
+        super.remove();
+        searcher.cancel();
+    }
+
+    @Override
+    public void onChunkUnloaded() {
+        super.onChunkUnloaded();
+        searcher.cancel();
     }
 
     @Override
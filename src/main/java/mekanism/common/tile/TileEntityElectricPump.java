@@ -1,10 +1,5 @@
 package mekanism.common.tile;
 
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.IConfigurable;
@@ -20,6 +15,7 @@ import mekanism.common.base.IFluidHandlerWrapper;
 import mekanism.common.base.ITankManager;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.content.fluid.FluidFloodFill;
 import mekanism.common.integration.computer.IComputerIntegration;
 import mekanism.common.inventory.slot.EnergyInventorySlot;
 import mekanism.common.inventory.slot.FluidInventorySlot;
@@ -43,14 +39,12 @@ import net.minecraft.fluid.Fluid;
 import net.minecraft.fluid.Fluids;
 import net.minecraft.fluid.IFluidState;
 import net.minecraft.nbt.CompoundNBT;
-import net.minecraft.nbt.ListNBT;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.ActionResultType;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.common.capabilities.Capability;
-import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.fluids.FluidAttributes;
 import net.minecraftforge.fluids.FluidStack;
@@ -85,7 +79,7 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IFluid
     /**
      * The nodes that have full sources near them or in them
      */
-    private Set<BlockPos> recurringNodes = new HashSet<>();
+    private final FluidFloodFill recurringNodes = new FluidFloodFill();
 
     private FluidInventorySlot inputSlot;
     private OutputInventorySlot outputSlot;
@@ -161,11 +155,10 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IFluid
             }
         }
         //Even though we can add to recurring in the above for loop, we always then exit and don't get to here if we did so
-        List<BlockPos> tempPumpList = Arrays.asList(recurringNodes.toArray(new BlockPos[0]));
-        Collections.shuffle(tempPumpList);
-        //Finally, go over the recurring list of nodes and see if there is a fluid block available to suck - if not, will iterate around the recurring block, attempt to suck,
-        //and then add the adjacent block to the recurring list
-        for (BlockPos tempPumpPos : tempPumpList) {
+        //Finally, go over the recurring nodes in the order they were added and see if there is a fluid block available to suck - if not, will iterate around the recurring
+        //block, attempt to suck, and then add the adjacent block to the recurring nodes
+        while (recurringNodes.hasFrontier()) {
+            BlockPos tempPumpPos = recurringNodes.peek();
             if (suck(tempPumpPos, hasFilter, false)) {
                 return true;
             }
@@ -178,7 +171,7 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IFluid
                     }
                 }
             }
-            recurringNodes.remove(tempPumpPos);
+            recurringNodes.poll();
         }
         return false;
     }
@@ -240,7 +233,7 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IFluid
         //Size doesn't matter, but we do want to take the NBT into account
         activeType = new FluidStack(fluidStack, 1);
         if (addRecurring) {
-            recurringNodes.add(pos);
+            recurringNodes.enqueue(pos);
         }
         fluidTank.fill(fluidStack, FluidAction.EXECUTE);
     }
@@ -294,17 +287,7 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IFluid
         if (!fluidTank.isEmpty()) {
             nbtTags.put("fluidTank", fluidTank.writeToNBT(new CompoundNBT()));
         }
-        ListNBT recurringList = new ListNBT();
-        for (BlockPos nodePos : recurringNodes) {
-            CompoundNBT tagCompound = new CompoundNBT();
-            tagCompound.putInt("x", nodePos.getX());
-            tagCompound.putInt("y", nodePos.getY());
-            tagCompound.putInt("z", nodePos.getZ());
-            recurringList.add(tagCompound);
-        }
-        if (!recurringList.isEmpty()) {
-            nbtTags.put("recurringNodes", recurringList);
-        }
+        recurringNodes.writeFrontier(nbtTags, "recurringNodes");
         return nbtTags;
     }
 
@@ -319,13 +302,7 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IFluid
         if (nbtTags.contains("fluidTank")) {
             fluidTank.readFromNBT(nbtTags.getCompound("fluidTank"));
         }
-        if (nbtTags.contains("recurringNodes")) {
-            ListNBT tagList = nbtTags.getList("recurringNodes", NBT.TAG_COMPOUND);
-            for (int i = 0; i < tagList.size(); i++) {
-                CompoundNBT compound = tagList.getCompound(i);
-                recurringNodes.add(new BlockPos(compound.getInt("x"), compound.getInt("y"), compound.getInt("z")));
-            }
-        }
+        recurringNodes.readFrontier(nbtTags, "recurringNodes");
     }
 
     @Override
@@ -1,12 +1,8 @@
 package mekanism.common.tile;
 
 import java.util.EnumSet;
-import java.util.HashSet;
-import java.util.LinkedHashSet;
-import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import mekanism.api.Coord4D;
 import mekanism.api.IConfigurable;
 import mekanism.api.RelativeSide;
 import mekanism.api.TileNetworkList;
@@ -18,6 +14,8 @@ import mekanism.common.base.FluidHandlerWrapper;
 import mekanism.common.base.IFluidHandlerWrapper;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.content.fluid.FluidFloodFill;
+import mekanism.common.content.fluid.FluidFloodFill.FillTarget;
 import mekanism.common.integration.computer.IComputerIntegration;
 import mekanism.common.inventory.slot.EnergyInventorySlot;
 import mekanism.common.inventory.slot.FluidInventorySlot;
@@ -31,13 +29,11 @@ import mekanism.common.util.PipeUtils;
 import mekanism.common.util.TileUtils;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.nbt.CompoundNBT;
-import net.minecraft.nbt.ListNBT;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.ActionResultType;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.common.capabilities.Capability;
-import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.fluids.FluidAttributes;
 import net.minecraftforge.fluids.FluidStack;
@@ -50,8 +46,28 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
 
     private static final String[] methods = new String[]{"reset"};
     private static EnumSet<Direction> dirs = EnumSet.complementOf(EnumSet.of(Direction.UP));
-    public Set<Coord4D> activeNodes = new LinkedHashSet<>();
-    public Set<Coord4D> usedNodes = new HashSet<>();
+    private final FluidFloodFill nodes = new FluidFloodFill();
+    private final FillTarget fillTarget = new FillTarget() {
+        @Override
+        public boolean isLoaded(BlockPos pos) {
+            return world.isBlockLoaded(pos);
+        }
+
+        @Override
+        public boolean canReplace(BlockPos pos, boolean isPathfinding) {
+            //The flood fill keeps track of the nodes it visited itself
+            return TileEntityFluidicPlenisher.this.canReplace(pos, false, isPathfinding);
+        }
+
+        @Override
+        public void fill(BlockPos pos) {
+            FluidStack fluid = fluidTank.getFluid();
+            if (!fluid.isEmpty()) {
+                world.setBlockState(pos, MekanismUtils.getFlowingBlockState(fluid));
+                fluidTank.drain(FluidAttributes.BUCKET_VOLUME, FluidAction.EXECUTE);
+            }
+        }
+    };
     public boolean finishedCalc;
     public FluidTank fluidTank;
     /**
@@ -107,11 +123,11 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
                     if (!finishedCalc) {
                         doPlenish();
                     } else {
-                        Coord4D below = Coord4D.get(this).offset(Direction.DOWN);
+                        BlockPos below = getPos().down();
 
                         if (canReplace(below, false, false) && fluidTank.getFluidAmount() >= FluidAttributes.BUCKET_VOLUME) {
-                            if (fluidTank.getFluid().getFluid().getAttributes().canBePlacedInWorld(world, below.getPos(), fluidTank.getFluid())) {
-                                world.setBlockState(below.getPos(), MekanismUtils.getFlowingBlockState(fluidTank.getFluid()));
+                            if (fluidTank.getFluid().getFluid().getAttributes().canBePlacedInWorld(world, below, fluidTank.getFluid())) {
+                                world.setBlockState(below, MekanismUtils.getFlowingBlockState(fluidTank.getFluid()));
                                 setEnergy(getEnergy() - getEnergyPerTick());
                                 fluidTank.drain(FluidAttributes.BUCKET_VOLUME, FluidAction.EXECUTE);
                             }
@@ -124,55 +140,31 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
     }
 
     private void doPlenish() {
-        if (usedNodes.size() >= MekanismConfig.general.maxPlenisherNodes.get()) {
+        if (nodes.getVisitedCount() >= MekanismConfig.general.maxPlenisherNodes.get()) {
             finishedCalc = true;
             return;
         }
-        if (activeNodes.isEmpty()) {
-            if (usedNodes.isEmpty()) {
-                Coord4D below = Coord4D.get(this).offset(Direction.DOWN);
+        if (!nodes.hasFrontier()) {
+            if (nodes.getVisitedCount() == 0) {
+                BlockPos below = getPos().down();
                 if (!canReplace(below, true, true)) {
                     finishedCalc = true;
                     return;
                 }
-                activeNodes.add(below);
+                nodes.enqueue(below);
             } else {
                 finishedCalc = true;
                 return;
             }
         }
 
-        Set<Coord4D> toRemove = new HashSet<>();
-        for (Coord4D coord : activeNodes) {
-            BlockPos coordPos = coord.getPos();
-            if (world.isBlockLoaded(coordPos)) {
-                FluidStack fluid = fluidTank.getFluid();
-                if (canReplace(coord, true, false) && !fluid.isEmpty()) {
-                    world.setBlockState(coordPos, MekanismUtils.getFlowingBlockState(fluid));
-                    fluidTank.drain(FluidAttributes.BUCKET_VOLUME, FluidAction.EXECUTE);
-                }
-
-                for (Direction dir : dirs) {
-                    Coord4D sideCoord = coord.offset(dir);
-                    if (world.isBlockLoaded(sideCoord.getPos()) && canReplace(sideCoord, true, true)) {
-                        activeNodes.add(sideCoord);
-                    }
-                }
-                toRemove.add(coord);
-                break;
-            } else {
-                toRemove.add(coord);
-            }
-        }
-        usedNodes.addAll(toRemove);
-        activeNodes.removeAll(toRemove);
+        nodes.fillNext(fillTarget, dirs);
     }
 
-    public boolean canReplace(Coord4D coord, boolean checkNodes, boolean isPathfinding) {
-        if (checkNodes && usedNodes.contains(coord)) {
+    public boolean canReplace(BlockPos pos, boolean checkNodes, boolean isPathfinding) {
+        if (checkNodes && nodes.isVisited(pos)) {
             return false;
         }
-        BlockPos pos = coord.getPos();
         if (world.isAirBlock(pos) || MekanismUtils.isDeadFluid(world, pos)) {
             return true;
         }
@@ -210,23 +202,8 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
             nbtTags.put("fluidTank", fluidTank.writeToNBT(new CompoundNBT()));
         }
 
-        ListNBT activeList = new ListNBT();
-        for (Coord4D wrapper : activeNodes) {
-            CompoundNBT tagCompound = new CompoundNBT();
-            wrapper.write(tagCompound);
-            activeList.add(tagCompound);
-        }
-        if (!activeList.isEmpty()) {
-            nbtTags.put("activeNodes", activeList);
-        }
-
-        ListNBT usedList = new ListNBT();
-        for (Coord4D obj : usedNodes) {
-            activeList.add(obj.write(new CompoundNBT()));
-        }
-        if (!activeList.isEmpty()) {
-            nbtTags.put("usedNodes", usedList);
-        }
+        nodes.writeFrontier(nbtTags, "activeNodes");
+        nodes.writeVisited(nbtTags, "usedNodes");
         return nbtTags;
     }
 
@@ -240,20 +217,8 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
             fluidTank.readFromNBT(nbtTags.getCompound("fluidTank"));
         }
 
-        if (nbtTags.contains("activeNodes")) {
-            ListNBT tagList = nbtTags.getList("activeNodes", NBT.TAG_COMPOUND);
-
-            for (int i = 0; i < tagList.size(); i++) {
-                activeNodes.add(Coord4D.read(tagList.getCompound(i)));
-            }
-        }
-        if (nbtTags.contains("usedNodes")) {
-            ListNBT tagList = nbtTags.getList("usedNodes", NBT.TAG_COMPOUND);
-
-            for (int i = 0; i < tagList.size(); i++) {
-                usedNodes.add(Coord4D.read(tagList.getCompound(i)));
-            }
-        }
+        nodes.readVisited(nbtTags, "usedNodes");
+        nodes.readFrontier(nbtTags, "activeNodes");
     }
 
     @Override
@@ -303,8 +268,7 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
 
     @Override
     public ActionResultType onSneakRightClick(PlayerEntity player, Direction side) {
-        activeNodes.clear();
-        usedNodes.clear();
+        nodes.clear();
         finishedCalc = false;
         player.sendMessage(MekanismLang.LOG_FORMAT.translateColored(EnumColor.DARK_BLUE, MekanismLang.MEKANISM, MekanismLang.PLENISHER_RESET.translateColored(EnumColor.GRAY)));
         return ActionResultType.SUCCESS;
@@ -335,8 +299,7 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
     @Override
     public Object[] invoke(int method, Object[] arguments) throws NoSuchMethodException {
         if (method == 0) {
-            activeNodes.clear();
-            usedNodes.clear();
+            nodes.clear();
             finishedCalc = false;
             return new Object[]{"Plenisher calculation reset."};
         }
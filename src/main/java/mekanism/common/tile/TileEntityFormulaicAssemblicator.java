@@ -15,6 +15,7 @@ import mekanism.api.inventory.slot.IInventorySlot;
 import mekanism.api.transmitters.TransmissionType;
 import mekanism.common.base.ISideConfiguration;
 import mekanism.common.capabilities.Capabilities;
+import mekanism.common.content.assemblicator.CraftingGridCache;
 import mekanism.common.content.assemblicator.RecipeFormula;
 import mekanism.common.inventory.slot.EnergyInventorySlot;
 import mekanism.common.inventory.slot.FormulaInventorySlot;
@@ -38,7 +39,6 @@ import mekanism.common.util.StackUtils;
 import net.minecraft.inventory.CraftingInventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.ICraftingRecipe;
-import net.minecraft.item.crafting.IRecipeType;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.Direction;
@@ -282,7 +282,7 @@ public class TileEntityFormulaicAssemblicator extends TileEntityMekanism impleme
 
                 if (!cachedRecipe.isPresent() || !cachedRecipe.get().matches(dummyInv, world)) {
                     //TODO: Check other places CraftingManager was
-                    cachedRecipe = world.getRecipeManager().getRecipe(IRecipeType.CRAFTING, dummyInv, world);
+                    cachedRecipe = CraftingGridCache.getRecipe(world, dummyInv);
                 }
                 if (cachedRecipe.isPresent()) {
                     lastOutputStack = cachedRecipe.get().getCraftingResult(dummyInv);
@@ -571,7 +571,9 @@ public class TileEntityFormulaicAssemblicator extends TileEntityMekanism impleme
                             inv.set(i, dataStream.readItemStack());
                         }
                     }
-                    formula = new RecipeFormula(getWorld(), inv);
+                    RecipeFormula recipe = new RecipeFormula(getWorld(), inv);
+                    //Same as the server, a formula whose recipe can't be found on this side counts as no formula
+                    formula = recipe.isValidFormula(getWorld()) ? recipe : null;
                 } else {
                     formula = null;
                 }
@@ -39,7 +39,7 @@ public class TileEntityInductionCasing extends TileEntityMultiblock<Synchronized
         super.onUpdate();
         if (!isRemote()) {
             if (structure != null && isRendering) {
-                structure.tick(getWorld());
+                structure.tick();
                 //TODO: FIXME??
                 /*List<IInventorySlot> inventorySlots = getInventorySlots(null);
                 ((EnergyInventorySlot) inventorySlots.get(0)).charge(this);
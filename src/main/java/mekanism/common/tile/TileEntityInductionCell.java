@@ -1,8 +1,10 @@
 package mekanism.common.tile;
 
+import javax.annotation.Nullable;
 import mekanism.api.energy.IStrictEnergyStorage;
 import mekanism.api.providers.IBlockProvider;
 import mekanism.common.block.basic.BlockInductionCell;
+import mekanism.common.content.matrix.SynchronizedMatrixData;
 import mekanism.common.tier.InductionCellTier;
 import mekanism.common.tile.base.TileEntityMekanism;
 import net.minecraft.util.Direction;
@@ -11,6 +13,10 @@ public class TileEntityInductionCell extends TileEntityMekanism implements IStri
 
     public InductionCellTier tier;
 
+    @Nullable
+    private SynchronizedMatrixData matrix;
+    private double matrixOffset;
+
     public TileEntityInductionCell(IBlockProvider blockProvider) {
         super(blockProvider);
     }
@@ -24,6 +30,30 @@ public class TileEntityInductionCell extends TileEntityMekanism implements IStri
     public void onUpdate() {
     }
 
+    /**
+     * Links the cell to the matrix it is part of, while it is linked its energy is its share of the matrix's energy.
+     *
+     * @param matrix - the matrix, or null to unlink the cell
+     * @param offset - the combined capacity of the cells in the matrix before this one
+     */
+    public void setMatrix(@Nullable SynchronizedMatrixData matrix, double offset) {
+        this.matrix = matrix;
+        matrixOffset = offset;
+    }
+
+    @Nullable
+    public SynchronizedMatrixData getMatrix() {
+        return matrix;
+    }
+
+    @Override
+    public double getEnergy() {
+        if (matrix != null && !matrix.destroyed) {
+            return matrix.getCellEnergy(matrixOffset, getMaxEnergy());
+        }
+        return super.getEnergy();
+    }
+
     @Override
     public boolean canReceiveEnergy(Direction side) {
         return false;
@@ -1,5 +1,8 @@
 package mekanism.common.tile;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -23,6 +26,7 @@ import mekanism.common.content.transporter.TTagFilter;
 import mekanism.common.content.transporter.TransitRequest;
 import mekanism.common.content.transporter.TransitRequest.TransitResponse;
 import mekanism.common.content.transporter.TransporterFilter;
+import mekanism.common.content.transporter.TransporterFilterIndex;
 import mekanism.common.integration.computer.IComputerIntegration;
 import mekanism.common.inventory.slot.InternalInventorySlot;
 import mekanism.common.inventory.slot.holder.IInventorySlotHolder;
@@ -49,11 +53,13 @@ import net.minecraft.util.Direction;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.items.IItemHandler;
 
 public class TileEntityLogisticalSorter extends TileEntityMekanism implements ISpecialConfigData, ISustainedData, IComputerIntegration,
       ITileFilterHolder<TransporterFilter<?>> {
 
     private HashList<TransporterFilter<?>> filters = new HashList<>();
+    private final TransporterFilterIndex filterIndex = new TransporterFilterIndex(filters);
     public EnumColor color;
     public boolean autoEject;
     public boolean roundRobin;
@@ -90,38 +96,7 @@ public class TileEntityLogisticalSorter extends TileEntityMekanism implements IS
                 TileEntity front = MekanismUtils.getTileEntity(getWorld(), pos.offset(getDirection()));
                 //If there is no tile to pull from or the push to, skip doing any checks
                 if (InventoryUtils.isItemHandler(back, getDirection()) && front != null) {
-                    boolean sentItems = false;
-                    int min = 0;
-
-                    outer:
-                    for (TransporterFilter<?> filter : filters) {
-                        for (StackSearcher search = new StackSearcher(back, getOppositeDirection()); search.getSlotCount() >= 0; ) {
-                            InvStack invStack = filter.getStackFromInventory(search, singleItem);
-                            if (invStack == null) {
-                                break;
-                            }
-                            ItemStack itemStack = invStack.getStack();
-                            if (filter.canFilter(itemStack, !singleItem)) {
-                                if (!singleItem && filter instanceof TItemStackFilter) {
-                                    TItemStackFilter itemFilter = (TItemStackFilter) filter;
-                                    if (itemFilter.sizeMode) {
-                                        min = itemFilter.min;
-                                    }
-                                }
-
-                                TransitRequest request = TransitRequest.getFromStack(itemStack);
-                                TransitResponse response = emitItemToTransporter(front, request, filter.color, min);
-                                if (!response.isEmpty()) {
-                                    invStack.use(response.getSendingAmount());
-                                    back.markDirty();
-                                    setActive(true);
-                                    sentItems = true;
-                                    break outer;
-                                }
-                            }
-                        }
-                    }
-
+                    boolean sentItems = !filters.isEmpty() && emitFiltered(back, front);
                     if (!sentItems && autoEject) {
                         TransitRequest request = TransitRequest.buildInventoryMap(back, getOppositeDirection(), singleItem ? 1 : 64, new StrictFilterFinder());
                         TransitResponse response = emitItemToTransporter(front, request, color, 0);
@@ -143,6 +118,84 @@ public class TileEntityLogisticalSorter extends TileEntityMekanism implements IS
         }
     }
 
+    /**
+     * Goes through the filters in order and sends the first stack that matches a filter. Rather than searching the inventory for every filter, the inventory gets
+     * scanned once and the filters each stack may match are looked up in the filter index. Item filters in size mode still search the inventory, as they combine stacks
+     * from multiple slots.
+     *
+     * @return {@code true} if a stack was sent.
+     */
+    private boolean emitFiltered(TileEntity back, TileEntity front) {
+        IItemHandler inventory = InventoryUtils.getItemHandler(back, getDirection());
+        int slots = inventory.getSlots();
+        int filterCount = filterIndex.size();
+        ItemStack[] simulated = new ItemStack[slots];
+        //The matching slots of each filter, highest slot first, which is the order a stack searcher goes through them
+        IntList[] matchingSlots = new IntList[filterCount];
+        for (int slot = slots - 1; slot >= 0; slot--) {
+            ItemStack stack = inventory.extractItem(slot, singleItem ? 1 : 64, true);
+            if (stack.isEmpty()) {
+                continue;
+            }
+            simulated[slot] = stack;
+            BitSet candidates = filterIndex.getCandidates(stack);
+            for (int index = candidates.nextSetBit(0); index >= 0; index = candidates.nextSetBit(index + 1)) {
+                if (!isSizeModeFilter(filterIndex.get(index)) && filterIndex.getFinder(index).modifies(stack)) {
+                    if (matchingSlots[index] == null) {
+                        matchingSlots[index] = new IntArrayList();
+                    }
+                    matchingSlots[index].add(slot);
+                }
+            }
+        }
+
+        for (int index = 0; index < filterCount; index++) {
+            TransporterFilter<?> filter = filterIndex.get(index);
+            if (filter == null) {
+                continue;
+            }
+            if (isSizeModeFilter(filter)) {
+                for (StackSearcher search = new StackSearcher(back, getOppositeDirection()); search.getSlotCount() >= 0; ) {
+                    InvStack invStack = filter.getStackFromInventory(search, singleItem);
+                    if (invStack == null) {
+                        break;
+                    }
+                    if (emitFilteredStack(back, front, filter, invStack, ((TItemStackFilter) filter).min)) {
+                        return true;
+                    }
+                }
+            } else if (matchingSlots[index] != null) {
+                IntList filterSlots = matchingSlots[index];
+                for (int i = 0; i < filterSlots.size(); i++) {
+                    int slot = filterSlots.getInt(i);
+                    if (emitFilteredStack(back, front, filter, new InvStack(back, slot, simulated[slot], getDirection()), 0)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isSizeModeFilter(@Nullable TransporterFilter<?> filter) {
+        return !singleItem && filter instanceof TItemStackFilter && ((TItemStackFilter) filter).sizeMode;
+    }
+
+    private boolean emitFilteredStack(TileEntity back, TileEntity front, TransporterFilter<?> filter, InvStack invStack, int min) {
+        ItemStack itemStack = invStack.getStack();
+        if (filter.canFilter(itemStack, !singleItem)) {
+            TransitRequest request = TransitRequest.getFromStack(itemStack);
+            TransitResponse response = emitItemToTransporter(front, request, filter.color, min);
+            if (!response.isEmpty()) {
+                invStack.use(response.getSendingAmount());
+                back.markDirty();
+                setActive(true);
+                return true;
+            }
+        }
+        return false;
+    }
+
     public TransitResponse emitItemToTransporter(TileEntity front, TransitRequest request, EnumColor filterColor, int min) {
         Optional<ILogisticalTransporter> capability = MekanismUtils.toOptional(CapabilityUtils.getCapability(front, Capabilities.LOGISTICAL_TRANSPORTER_CAPABILITY, getOppositeDirection()));
         if (capability.isPresent()) {
@@ -589,12 +642,7 @@ public class TileEntityLogisticalSorter extends TileEntityMekanism implements IS
 
         @Override
         public boolean modifies(ItemStack stack) {
-            for (TransporterFilter<?> filter : filters) {
-                if (filter.canFilter(stack, false) && !filter.allowDefault) {
-                    return false;
-                }
-            }
-            return true;
+            return !filterIndex.anyMatch(stack, filter -> !filter.allowDefault && filter.canFilter(stack, false));
         }
     }
 }
\ No newline at end of file
@@ -108,7 +108,7 @@ public class TileEntityMetallurgicInfuser extends TileEntityOperationalMachine<M
                 return containsRecipe(recipe -> recipe.getInfusionInput().testType(infusionTank.getType()) && recipe.getItemInput().testType(stack));
             }
             //Otherwise just look for items that can be used
-            return containsRecipe(recipe -> recipe.getItemInput().testType(stack));
+            return containsRecipeInput(stack);
         }, this, 51, 43));
         builder.addSlot(outputSlot = OutputInventorySlot.at(this, 109, 43));
         builder.addSlot(energySlot = EnergyInventorySlot.discharge(this, 143, 35));
@@ -150,7 +150,7 @@ public class TileEntityMetallurgicInfuser extends TileEntityOperationalMachine<M
         if (infusionStack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(infusionStack, stack));
+        return findFirstRecipe(stack, recipe -> recipe.test(infusionStack, stack));
     }
 
     @Nullable
@@ -101,6 +101,8 @@ public abstract class TileEntityMultiblock<T extends SynchronizedData<T>> extend
             }
 
             if (prevStructure == (structure == null)) {
+                //The inventory slots we expose depend on if we have a structure
+                invalidateCachedCapabilities();
                 if (structure != null && !structure.hasRenderer) {
                     structure.hasRenderer = true;
                     isRendering = true;
@@ -136,6 +138,15 @@ public abstract class TileEntityMultiblock<T extends SynchronizedData<T>> extend
         }
     }
 
+    @Override
+    public void remove() {
+        super.remove();
+        if (!isRemote()) {
+            //Let the manager know to check if this location is still part of the cached inventory
+            getManager().markDirty(this);
+        }
+    }
+
     @Override
     public void doUpdate() {
         if (!isRemote() && (structure == null || !structure.didTick)) {
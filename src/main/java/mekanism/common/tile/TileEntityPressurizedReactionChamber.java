@@ -135,7 +135,7 @@ public class TileEntityPressurizedReactionChamber extends TileEntityBasicMachine
     @Override
     protected IInventorySlotHolder getInitialInventory() {
         InventorySlotHelper builder = InventorySlotHelper.forSideWithConfig(this::getDirection, this::getConfig);
-        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(recipe -> recipe.getInputSolid().testType(item)), this, 54, 35));
+        builder.addSlot(inputSlot = InputInventorySlot.at(this::containsRecipeInput, this, 54, 35));
         builder.addSlot(outputSlot = OutputInventorySlot.at(this, 116, 35));
         builder.addSlot(energySlot = EnergyInventorySlot.discharge(this, 141, 19));
         return builder.build();
@@ -179,7 +179,7 @@ public class TileEntityPressurizedReactionChamber extends TileEntityBasicMachine
         if (gas.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack, fluid, gas));
+        return findFirstRecipe(stack, recipe -> recipe.test(stack, fluid, gas));
     }
 
     @Nullable
@@ -158,6 +158,7 @@ public class TileEntityQuantumEntangloporter extends TileEntityMekanism implemen
 
             FrequencyManager manager = getManager(frequency);
             Frequency lastFreq = frequency;
+            boolean hadFrequency = hasFrequency();
 
             if (manager != null) {
                 if (frequency != null && !frequency.valid) {
@@ -177,6 +178,10 @@ public class TileEntityQuantumEntangloporter extends TileEntityMekanism implemen
                     markDirty();
                 }
             }
+            if (frequency != lastFreq || hasFrequency() != hadFrequency) {
+                //Our inventory slots come from the frequency, so what we expose may have changed
+                invalidateCachedCapabilities();
+            }
         }
     }
 
@@ -226,6 +231,7 @@ public class TileEntityQuantumEntangloporter extends TileEntityMekanism implemen
             if (freq.name.equals(name)) {
                 frequency = (InventoryFrequency) freq;
                 frequency.activeCoords.add(Coord4D.get(this));
+                invalidateCachedCapabilities();
                 markDirty();
                 return;
             }
@@ -235,6 +241,7 @@ public class TileEntityQuantumEntangloporter extends TileEntityMekanism implemen
         freq.activeCoords.add(Coord4D.get(this));
         manager.addFrequency(freq);
         frequency = (InventoryFrequency) freq;
+        invalidateCachedCapabilities();
         MekanismUtils.saveChunk(this);
         markDirty();
     }
@@ -245,6 +252,7 @@ public class TileEntityQuantumEntangloporter extends TileEntityMekanism implemen
         if (nbtTags.contains("frequency")) {
             frequency = new InventoryFrequency(nbtTags.getCompound("frequency"));
             frequency.valid = false;
+            invalidateCachedCapabilities();
         }
     }
 
@@ -284,11 +292,15 @@ public class TileEntityQuantumEntangloporter extends TileEntityMekanism implemen
         if (isRemote()) {
             lastTransferLoss = dataStream.readDouble();
             lastEnvironmentLoss = dataStream.readDouble();
+            boolean hadFrequency = hasFrequency();
             if (dataStream.readBoolean()) {
                 frequency = new InventoryFrequency(dataStream);
             } else {
                 frequency = null;
             }
+            if (hasFrequency() != hadFrequency) {
+                invalidateCachedCapabilities();
+            }
 
             publicCache.clear();
             privateCache.clear();
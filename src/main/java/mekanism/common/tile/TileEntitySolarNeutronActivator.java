@@ -124,7 +124,7 @@ public class TileEntitySolarNeutronActivator extends TileEntityMekanism implemen
     }
 
     private boolean isValidGas(@Nonnull Gas gas) {
-        return containsRecipe(recipe -> recipe.getInput().testType(gas));
+        return containsRecipeInput(gas);
     }
 
     @Nonnull
@@ -146,7 +146,7 @@ public class TileEntitySolarNeutronActivator extends TileEntityMekanism implemen
         if (gas.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(gas));
+        return findFirstRecipe(gas, recipe -> recipe.test(gas));
     }
 
     private boolean canFunction(BlockPos positionAbove) {
@@ -37,6 +37,7 @@ import mekanism.common.block.interfaces.IUpgradeableBlock;
 import mekanism.common.block.states.IStateActive;
 import mekanism.common.block.states.IStateFacing;
 import mekanism.common.capabilities.Capabilities;
+import mekanism.common.capabilities.CapabilityCache;
 import mekanism.common.capabilities.CapabilityWrapperManager;
 import mekanism.common.capabilities.IToggleableCapability;
 import mekanism.common.capabilities.proxy.ProxyItemHandler;
@@ -48,8 +49,9 @@ import mekanism.common.integration.forgeenergy.ForgeEnergyIntegration;
 import mekanism.common.integration.wrenches.Wrenches;
 import mekanism.common.inventory.slot.UpgradeInventorySlot;
 import mekanism.common.inventory.slot.holder.IInventorySlotHolder;
+import mekanism.common.network.NetworkedDataSnapshot;
 import mekanism.common.network.PacketDataRequest;
-import mekanism.common.network.PacketTileEntity;
+import mekanism.common.network.PacketTileEntityDelta;
 import mekanism.common.security.ISecurityTile;
 import mekanism.common.tile.component.TileComponentSecurity;
 import mekanism.common.tile.component.TileComponentUpgrade;
@@ -118,6 +120,15 @@ public abstract class TileEntityMekanism extends TileEntity implements ITileNetw
 
     private List<ITileComponent> components = new ArrayList<>();
 
+    private final CapabilityCache capabilityCache = new CapabilityCache();
+
+    /**
+     * The networked data that was last synced to or from the players using this tile.
+     */
+    private final NetworkedDataSnapshot syncSnapshot = new NetworkedDataSnapshot();
+    //Reused for syncing to the players using the tile every tick
+    private final TileNetworkList syncData = new TileNetworkList();
+
     protected IBlockProvider blockProvider;
 
     private boolean supportsComparator;
@@ -431,9 +442,13 @@ public abstract class TileEntityMekanism extends TileEntity implements ITileNetw
         onUpdate();
         if (!isRemote()) {
             if (doAutoSync && playersUsing.size() > 0) {
-                PacketTileEntity updateMessage = new PacketTileEntity(this);
-                for (PlayerEntity player : playersUsing) {
-                    Mekanism.packetHandler.sendTo(updateMessage, (ServerPlayerEntity) player);
+                //Only send the data that changed since the last time we synced
+                syncData.clear();
+                PacketTileEntityDelta updateMessage = syncSnapshot.createDelta(Coord4D.get(this), getNetworkedData(syncData));
+                if (updateMessage != null) {
+                    for (PlayerEntity player : playersUsing) {
+                        Mekanism.packetHandler.sendTo(updateMessage, (ServerPlayerEntity) player);
+                    }
                 }
             }
         }
@@ -450,13 +465,20 @@ public abstract class TileEntityMekanism extends TileEntity implements ITileNetw
     }
 
     public void open(PlayerEntity player) {
-        playersUsing.add(player);
+        if (playersUsing.add(player) && !isRemote()) {
+            //The new player does not have any of the data yet
+            syncSnapshot.invalidate();
+        }
     }
 
     public void close(PlayerEntity player) {
         playersUsing.remove(player);
     }
 
+    public NetworkedDataSnapshot getSyncSnapshot() {
+        return syncSnapshot;
+    }
+
     @Override
     public void handlePacketData(PacketBuffer dataStream) {
         if (isRemote()) {
@@ -482,24 +504,29 @@ public abstract class TileEntityMekanism extends TileEntity implements ITileNetw
         //TODO: Should there be a hasComponents?
         for (ITileComponent component : components) {
             component.write(data);
+            //Keep each component separate so that they only get resynced when they change
+            data.endSegment();
         }
         if (supportsRedstone()) {
-            data.add(redstone);
-            data.add(controlType);
+            data.addBoolean(redstone);
+            data.addEnum(controlType);
         }
         if (isElectric()) {
-            data.add(getEnergy());
+            data.addDouble(getEnergy());
             if (supportsUpgrades()) {
-                data.add(getEnergyPerTick());
-                data.add(getMaxEnergy());
+                data.addDouble(getEnergyPerTick());
+                data.addDouble(getMaxEnergy());
             }
         }
+        //End our segment so that the data of subclasses is separate from the data that changes often like energy
+        data.endSegment();
         return data;
     }
 
     @Override
     public void remove() {
         super.remove();
+        invalidateCachedCapabilities();
         for (ITileComponent component : components) {
             component.invalidate();
         }
@@ -508,6 +535,12 @@ public abstract class TileEntityMekanism extends TileEntity implements ITileNetw
         }
     }
 
+    @Override
+    public void onChunkUnloaded() {
+        super.onChunkUnloaded();
+        invalidateCachedCapabilities();
+    }
+
     @Override
     public void validate() {
         super.validate();
@@ -586,39 +619,47 @@ public abstract class TileEntityMekanism extends TileEntity implements ITileNetw
     @Nonnull
     @Override
     public <T> LazyOptional<T> getCapability(@Nonnull Capability<T> capability, @Nullable Direction side) {
-        //TODO: Cache the LazyOptional where possible as recommended in ICapabilityProvider
         if (isCapabilityDisabled(capability, side)) {
+            //Let anything still holding onto the capability know that it is gone
+            capabilityCache.invalidate(capability, side);
             return LazyOptional.empty();
         }
-        if (hasInventory()) {
-            if (capability == CapabilityItemHandler.ITEM_HANDLER_CAPABILITY) {
-                List<IInventorySlot> inventorySlots = getInventorySlots(side);
-                //Don't return an item handler if we don't actually even have any slots for that side
-                //TODO: Should we actually return the item handler regardless??? And then just everything fails?
-                LazyOptional<IItemHandler> lazyItemHandler = inventorySlots.isEmpty() ? LazyOptional.empty() : LazyOptional.of(() -> getItemHandler(side));
-                return CapabilityItemHandler.ITEM_HANDLER_CAPABILITY.orEmpty(capability, lazyItemHandler);
+        LazyOptional<?> cachedCapability = capabilityCache.get(capability, side);
+        if (cachedCapability != null) {
+            return cachedCapability.cast();
+        }
+        LazyOptional<?> lazyCapability = null;
+        if (hasInventory() && capability == CapabilityItemHandler.ITEM_HANDLER_CAPABILITY) {
+            //Don't return an item handler if we don't actually even have any slots for that side
+            //TODO: Should we actually return the item handler regardless??? And then just everything fails?
+            if (getInventorySlots(side).isEmpty()) {
+                //Remember that there are no slots, so this doesn't get checked again until the sides change
+                return capabilityCache.putEmpty(capability, side).cast();
             }
-        }
-        if (capability == Capabilities.TILE_NETWORK_CAPABILITY) {
-            return Capabilities.TILE_NETWORK_CAPABILITY.orEmpty(capability, LazyOptional.of(() -> this));
-        }
-        if (isElectric()) {
-            if (capability == Capabilities.ENERGY_STORAGE_CAPABILITY) {
-                return Capabilities.ENERGY_STORAGE_CAPABILITY.orEmpty(capability, LazyOptional.of(() -> this));
-            }
-            if (capability == Capabilities.ENERGY_ACCEPTOR_CAPABILITY) {
-                return Capabilities.ENERGY_ACCEPTOR_CAPABILITY.orEmpty(capability, LazyOptional.of(() -> this));
-            }
-            if (capability == Capabilities.ENERGY_OUTPUTTER_CAPABILITY) {
-                return Capabilities.ENERGY_OUTPUTTER_CAPABILITY.orEmpty(capability, LazyOptional.of(() -> this));
-            }
-            if (capability == CapabilityEnergy.ENERGY) {
-                return CapabilityEnergy.ENERGY.orEmpty(capability, LazyOptional.of(() -> forgeEnergyManager.getWrapper(this, side)));
+            lazyCapability = LazyOptional.of(() -> getItemHandler(side));
+        } else if (capability == Capabilities.TILE_NETWORK_CAPABILITY) {
+            lazyCapability = LazyOptional.of(() -> this);
+        } else if (isElectric()) {
+            if (isStrictEnergy(capability)) {
+                lazyCapability = LazyOptional.of(() -> this);
+            } else if (capability == CapabilityEnergy.ENERGY) {
+                lazyCapability = LazyOptional.of(() -> forgeEnergyManager.getWrapper(this, side));
             }
         }
+        if (lazyCapability != null) {
+            return capabilityCache.put(capability, side, lazyCapability).cast();
+        }
         return super.getCapability(capability, side);
     }
 
+    /**
+     * Invalidates the capabilities that have been handed out, so that anything holding onto them looks them up again. Called when the tile is removed and when what it
+     * exposes on its sides may have changed, such as when its side configuration or facing changes.
+     */
+    public void invalidateCachedCapabilities() {
+        capabilityCache.invalidateAll();
+    }
+
     //TODO: Go through and re-evaluate all the capabilities, as there are cases when we should have the item handler cap disabled where it is not in the future
     // As other ones are being handled this is becoming less of a problem, as things like multiblocks are returning no slots accessible for when they are not formed
     @Override
@@ -704,6 +745,8 @@ public abstract class TileEntityMekanism extends TileEntity implements ITileNetw
                 if (world != null) {
                     world.setBlockState(pos, state);
                 }
+                //Configured sides are relative to the facing
+                invalidateCachedCapabilities();
             }
         }
     }
@@ -48,6 +48,7 @@ public class TileComponentConfig implements ITileComponent {
 
     public void readFrom(TileComponentConfig config) {
         configInfo = config.configInfo;
+        tile.invalidateCachedCapabilities();
     }
 
     public List<TransmissionType> getTransmissions() {
@@ -57,7 +58,7 @@ public class TileComponentConfig implements ITileComponent {
     public void addSupported(TransmissionType type) {
         if (!configInfo.containsKey(type)) {
             //TODO: ISideConfiguration#getOrientation?
-            configInfo.put(type, new ConfigInfo(() -> tile.getDirection()));
+            configInfo.put(type, new ConfigInfo(() -> tile.getDirection(), tile::invalidateCachedCapabilities));
             transmissionTypes.add(type);
         }
     }
@@ -148,7 +149,7 @@ public class TileComponentConfig implements ITileComponent {
             if (info == null) {
                 //TODO: log some error?
                 //TODO: ISideConfiguration#getOrientation?
-                info = new ConfigInfo(() -> tile.getDirection());
+                info = new ConfigInfo(() -> tile.getDirection(), tile::invalidateCachedCapabilities);
                 configInfo.put(type, info);
             }
             info.setEjecting(dataStream.readBoolean());
@@ -177,14 +178,14 @@ public class TileComponentConfig implements ITileComponent {
 
     @Override
     public void write(TileNetworkList data) {
-        data.add(configInfo.size());
+        data.addInt(configInfo.size());
         for (Entry<TransmissionType, ConfigInfo> entry : configInfo.entrySet()) {
             TransmissionType type = entry.getKey();
             ConfigInfo info = entry.getValue();
-            data.add(type);
-            data.add(info.isEjecting());
+            data.addEnum(type);
+            data.addBoolean(info.isEjecting());
             for (RelativeSide side : EnumUtils.SIDES) {
-                data.add(info.getDataType(side));
+                data.addEnum(info.getDataType(side));
             }
         }
     }
@@ -242,10 +242,10 @@ public class TileComponentEjector implements ITileComponent {
 
     @Override
     public void write(TileNetworkList data) {
-        data.add(strictInput);
-        data.add(getColorIndex(outputColor));
+        data.addBoolean(strictInput);
+        data.addInt(getColorIndex(outputColor));
         for (int i = 0; i < 6; i++) {
-            data.add(getColorIndex(inputColors[i]));
+            data.addInt(getColorIndex(inputColors[i]));
         }
     }
 
@@ -163,21 +163,21 @@ public class TileComponentSecurity implements ITileComponent {
 
     @Override
     public void write(TileNetworkList data) {
-        data.add(securityMode);
+        data.addEnum(securityMode);
 
         if (ownerUUID != null) {
-            data.add(true);
-            data.add(ownerUUID);
-            data.add(MekanismUtils.getLastKnownUsername(ownerUUID));
+            data.addBoolean(true);
+            data.addUniqueId(ownerUUID);
+            data.addString(MekanismUtils.getLastKnownUsername(ownerUUID));
         } else {
-            data.add(false);
+            data.addBoolean(false);
         }
 
         if (frequency != null) {
-            data.add(true);
+            data.addBoolean(true);
             frequency.write(data);
         } else {
-            data.add(false);
+            data.addBoolean(false);
         }
     }
 
@@ -148,12 +148,12 @@ public class TileComponentUpgrade implements ITileComponent {
 
     @Override
     public void write(TileNetworkList data) {
-        data.add(upgrades.size());
+        data.addInt(upgrades.size());
         for (Entry<Upgrade, Integer> entry : upgrades.entrySet()) {
-            data.add(entry.getKey());
-            data.add(entry.getValue());
+            data.addEnum(entry.getKey());
+            data.addInt(entry.getValue());
         }
-        data.add(upgradeTicks);
+        data.addInt(upgradeTicks);
     }
 
     @Override
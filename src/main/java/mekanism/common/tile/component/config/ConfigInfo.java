@@ -19,6 +19,8 @@ public class ConfigInfo {
     //TODO: The old side config was an observable but was never used, do we want to reimplement that
 
     private final Supplier<Direction> facingSupplier;
+    //Called whenever the data type of a side changes
+    private final Runnable sideChangeListener;
     //TODO: Ejecting/can eject, how do we want to use these
     //TODO: When can eject is false don't even show the auto eject button
     private boolean canEject;
@@ -26,8 +28,9 @@ public class ConfigInfo {
     private Map<RelativeSide, DataType> sideConfig;
     private Map<DataType, ISlotInfo> slotInfo;
 
-    public ConfigInfo(@Nonnull Supplier<Direction> facingSupplier) {
+    public ConfigInfo(@Nonnull Supplier<Direction> facingSupplier, @Nonnull Runnable sideChangeListener) {
         this.facingSupplier = facingSupplier;
+        this.sideChangeListener = sideChangeListener;
         canEject = true;
         ejecting = false;
         sideConfig = new EnumMap<>(RelativeSide.class);
@@ -63,7 +66,9 @@ public class ConfigInfo {
     }
 
     public void setDataType(@Nonnull RelativeSide side, @Nonnull DataType dataType) {
-        sideConfig.put(side, dataType);
+        if (sideConfig.put(side, dataType) != dataType) {
+            sideChangeListener.run();
+        }
     }
 
     @Nonnull
@@ -106,7 +111,7 @@ public class ConfigInfo {
     public DataType incrementDataType(@Nonnull RelativeSide relativeSide) {
         Set<DataType> supportedDataTypes = getSupportedDataTypes();
         DataType newType = getDataType(relativeSide).getNext(supportedDataTypes::contains);
-        sideConfig.put(relativeSide, newType);
+        setDataType(relativeSide, newType);
         return newType;
     }
 
@@ -117,7 +122,7 @@ public class ConfigInfo {
     public DataType decrementDataType(@Nonnull RelativeSide relativeSide) {
         Set<DataType> supportedDataTypes = getSupportedDataTypes();
         DataType newType = getDataType(relativeSide).getPrevious(supportedDataTypes::contains);
-        sideConfig.put(relativeSide, newType);
+        setDataType(relativeSide, newType);
         return newType;
     }
 }
\ No newline at end of file
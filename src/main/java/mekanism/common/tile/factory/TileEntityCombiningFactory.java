@@ -34,12 +34,12 @@ public class TileEntityCombiningFactory extends TileEntityItemToItemFactory<Comb
     @Override
     protected void addSlots(InventorySlotHelper builder) {
         super.addSlots(builder);
-        builder.addSlot(extraSlot = InputInventorySlot.at(stack -> containsRecipe(recipe -> recipe.getExtraInput().testType(stack)), this, 7, 57));
+        builder.addSlot(extraSlot = InputInventorySlot.at(this::containsRecipeSecondaryInput, this, 7, 57));
     }
 
     @Override
     public boolean isValidInputItem(@Nonnull ItemStack stack) {
-        return containsRecipe(recipe -> recipe.getMainInput().testType(stack));
+        return containsRecipeInput(stack);
     }
 
     @Override
@@ -62,7 +62,7 @@ public class TileEntityCombiningFactory extends TileEntityItemToItemFactory<Comb
         // and if something does have extra checking to check the input as long as it checks for invalid ones this should still work
         ItemStack extra = extraSlot.getStack();
         ItemStack output = outputSlot.getStack();
-        CombinerRecipe foundRecipe = findFirstRecipe(recipe -> {
+        CombinerRecipe foundRecipe = findFirstRecipe(fallbackInput, recipe -> {
             if (recipe.getMainInput().testType(fallbackInput)) {
                 if (extra.isEmpty() || recipe.getExtraInput().testType(extra)) {
                     return ItemHandlerHelper.canItemStacksStack(recipe.getOutput(fallbackInput, extra), output);
@@ -104,7 +104,7 @@ public class TileEntityCombiningFactory extends TileEntityItemToItemFactory<Comb
         if (extra.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack, extra));
+        return findFirstRecipe(stack, recipe -> recipe.test(stack, extra));
     }
 
     @Override
@@ -479,17 +479,13 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
     public TileNetworkList getNetworkedData(TileNetworkList data) {
         super.getNetworkedData(data);
 
-        data.add(recipeTicks);
-        data.add(sorting);
-        data.add(upgraded);
-        data.add(lastUsage);
-
-        //TODO: Do this better
-        int[] progressToSync = new int[progress.length];
+        data.addInt(recipeTicks);
+        data.addBoolean(sorting);
+        data.addBoolean(upgraded);
+        data.addDouble(lastUsage);
         for (int i = 0; i < progress.length; i++) {
-            progressToSync[i] = getProgress(i);
+            data.addInt(getProgress(i));
         }
-        data.add(progressToSync);
         TileUtils.addTankData(data, infusionTank);
         TileUtils.addTankData(data, gasTank);
         upgraded = false;
@@ -24,7 +24,7 @@ public class TileEntityItemStackToItemStackFactory extends TileEntityItemToItemF
 
     @Override
     public boolean isValidInputItem(@Nonnull ItemStack stack) {
-        return containsRecipe(recipe -> recipe.getInput().testType(stack));
+        return containsRecipeInput(stack);
     }
 
     @Override
@@ -43,7 +43,7 @@ public class TileEntityItemStackToItemStackFactory extends TileEntityItemToItemF
         // Here we are using it as if it is not assuming it, but that is in part because it currently does not care about the value passed
         // and if something does have extra checking to check the input as long as it checks for invalid ones this should still work
         ItemStack output = outputSlot.getStack();
-        ItemStackToItemStackRecipe foundRecipe = findFirstRecipe(
+        ItemStackToItemStackRecipe foundRecipe = findFirstRecipe(fallbackInput,
               recipe -> recipe.getInput().testType(fallbackInput) && ItemHandlerHelper.canItemStacksStack(recipe.getOutput(fallbackInput), output));
         if (foundRecipe == null) {
             //We could not find any valid recipe for the given item that matches the items in the current output slots
@@ -84,7 +84,7 @@ public class TileEntityItemStackToItemStackFactory extends TileEntityItemToItemF
         if (stack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack));
+        return findFirstRecipe(stack, recipe -> recipe.test(stack));
     }
 
     @Override
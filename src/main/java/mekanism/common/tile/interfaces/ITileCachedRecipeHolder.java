@@ -3,11 +3,15 @@ package mekanism.common.tile.interfaces;
 import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import mekanism.api.gas.Gas;
+import mekanism.api.gas.GasStack;
 import mekanism.api.recipes.MekanismRecipe;
 import mekanism.api.recipes.cache.ICachedRecipeHolder;
 import mekanism.common.recipe.MekanismRecipeType;
+import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.world.World;
+import net.minecraftforge.fluids.FluidStack;
 
 public interface ITileCachedRecipeHolder<RECIPE extends MekanismRecipe> extends ICachedRecipeHolder<RECIPE> {
 
@@ -29,8 +33,43 @@ public interface ITileCachedRecipeHolder<RECIPE extends MekanismRecipe> extends
         return getRecipeType().contains(getTileWorld(), matchCriteria);
     }
 
+    default boolean containsRecipeInput(@Nonnull ItemStack input) {
+        return getRecipeType().containsInput(getTileWorld(), input);
+    }
+
+    default boolean containsRecipeInput(@Nonnull FluidStack input) {
+        return getRecipeType().containsInput(getTileWorld(), input);
+    }
+
+    default boolean containsRecipeInput(@Nonnull Gas input) {
+        return getRecipeType().containsInput(getTileWorld(), input);
+    }
+
+    default boolean containsRecipeSecondaryInput(@Nonnull ItemStack input) {
+        return getRecipeType().containsSecondaryInput(getTileWorld(), input);
+    }
+
+    default boolean containsRecipeSecondaryInput(@Nonnull Gas input) {
+        return getRecipeType().containsSecondaryInput(getTileWorld(), input);
+    }
+
     @Nullable
     default RECIPE findFirstRecipe(@Nonnull Predicate<RECIPE> matchCriteria) {
         return getRecipeType().findFirst(getTileWorld(), matchCriteria);
     }
+
+    @Nullable
+    default RECIPE findFirstRecipe(@Nonnull ItemStack input, @Nonnull Predicate<RECIPE> matchCriteria) {
+        return getRecipeType().findFirst(getTileWorld(), input, matchCriteria);
+    }
+
+    @Nullable
+    default RECIPE findFirstRecipe(@Nonnull FluidStack input, @Nonnull Predicate<RECIPE> matchCriteria) {
+        return getRecipeType().findFirst(getTileWorld(), input, matchCriteria);
+    }
+
+    @Nullable
+    default RECIPE findFirstRecipe(@Nonnull GasStack input, @Nonnull Predicate<RECIPE> matchCriteria) {
+        return getRecipeType().findFirst(getTileWorld(), input, matchCriteria);
+    }
 }
\ No newline at end of file
@@ -68,23 +68,15 @@ public class TileEntityDiversionTransporter extends TileEntityLogisticalTranspor
         return addModes(data);
     }
 
-    @Override
-    public TileNetworkList makeSyncPacket(int stackId, TransporterStack stack) {
-        return addModes(super.makeSyncPacket(stackId, stack));
-    }
-
     @Override
     public TileNetworkList makeBatchPacket(Map<Integer, TransporterStack> updates, Set<Integer> deletes) {
         return addModes(super.makeBatchPacket(updates, deletes));
     }
 
     private TileNetworkList addModes(TileNetworkList data) {
-        data.add(modes[0]);
-        data.add(modes[1]);
-        data.add(modes[2]);
-        data.add(modes[3]);
-        data.add(modes[4]);
-        data.add(modes[5]);
+        for (int mode : modes) {
+            data.addInt(mode);
+        }
         return data;
     }
 
@@ -51,7 +51,6 @@ import net.minecraftforge.fml.loading.FMLEnvironment;
 
 public class TileEntityLogisticalTransporter extends TileEntityTransmitter<TileEntity, InventoryNetwork, Void> {
 
-    private final int SYNC_PACKET = 1;
     private final int BATCH_PACKET = 2;
 
     public final TransporterTier tier;
@@ -122,6 +121,11 @@ public class TileEntityLogisticalTransporter extends TileEntityTransmitter<TileE
         getTransmitter().update();
     }
 
+    @Override
+    public boolean needsTicks() {
+        return super.needsTicks() || hasConnections(ConnectionType.PULL) || !getTransmitter().getTransit().isEmpty();
+    }
+
     public void pullItems() {
         // If a delay has been imposed, wait a bit
         if (delay > 0) {
@@ -161,7 +165,9 @@ public class TileEntityLogisticalTransporter extends TileEntityTransmitter<TileE
     @Override
     public void onWorldJoin() {
         super.onWorldJoin();
-        PathfinderCache.onChanged(new Coord4D(getPos(), getWorld()));
+        if (!isRemote()) {
+            PathfinderCache.onChanged(new Coord4D(getPos(), getWorld()));
+        }
     }
 
     @Override
@@ -195,8 +201,6 @@ public class TileEntityLogisticalTransporter extends TileEntityTransmitter<TileE
                     MekanismUtils.updateBlock(getWorld(), pos);
                 }
                 getTransmitter().readFromPacket(dataStream);
-            } else if (type == SYNC_PACKET) {
-                readStack(dataStream);
             } else if (type == BATCH_PACKET) {
                 int updates = dataStream.readInt();
                 for (int i = 0; i < updates; i++) {
@@ -212,12 +216,12 @@ public class TileEntityLogisticalTransporter extends TileEntityTransmitter<TileE
 
     @Override
     public TileNetworkList getNetworkedData(TileNetworkList data) {
-        data.add(0);
+        data.addInt(0);
         super.getNetworkedData(data);
         if (getTransmitter().getColor() == null) {
-            data.add(-1);
+            data.addInt(-1);
         } else {
-            data.add(TransporterUtils.colors.indexOf(getTransmitter().getColor()));
+            data.addInt(TransporterUtils.colors.indexOf(getTransmitter().getColor()));
         }
 
         // Serialize all the in-flight stacks (this includes their ID)
@@ -225,24 +229,18 @@ public class TileEntityLogisticalTransporter extends TileEntityTransmitter<TileE
         return data;
     }
 
-    public TileNetworkList makeSyncPacket(int stackId, TransporterStack stack) {
-        TileNetworkList data = new TileNetworkList();
-        data.add(SYNC_PACKET);
-        data.add(stackId);
-        stack.write(getTransmitter(), data);
-        return data;
-    }
-
     public TileNetworkList makeBatchPacket(Map<Integer, TransporterStack> updates, Set<Integer> deletes) {
         TileNetworkList data = new TileNetworkList();
-        data.add(BATCH_PACKET);
-        data.add(updates.size());
+        data.addInt(BATCH_PACKET);
+        data.addInt(updates.size());
         for (Entry<Integer, TransporterStack> entry : updates.entrySet()) {
-            data.add(entry.getKey());
+            data.addInt(entry.getKey());
             entry.getValue().write(getTransmitter(), data);
         }
-        data.add(deletes.size());
-        data.addAll(deletes);
+        data.addInt(deletes.size());
+        for (int delete : deletes) {
+            data.addInt(delete);
+        }
         return data;
     }
 
@@ -332,7 +330,7 @@ public class TileEntityLogisticalTransporter extends TileEntityTransmitter<TileE
     }
 
     @Override
-    public void updateShare() {
+    protected void calculateShare() {
     }
 
     @Nonnull
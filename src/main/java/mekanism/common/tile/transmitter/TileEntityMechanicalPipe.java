@@ -57,7 +57,6 @@ public class TileEntityMechanicalPipe extends TileEntityTransmitter<IFluidHandle
     @Override
     public void tick() {
         if (!isRemote()) {
-            updateShare();
             List<Direction> connections = getConnections(ConnectionType.PULL);
             if (!connections.isEmpty()) {
                 IFluidHandler[] connectedAcceptors = PipeUtils.getConnectedAcceptors(getPos(), getWorld());
@@ -88,14 +87,15 @@ public class TileEntityMechanicalPipe extends TileEntityTransmitter<IFluidHandle
     }
 
     @Override
-    public void updateShare() {
+    public boolean needsTicks() {
+        //Shares are saved when the network changes, so only pulling needs ticks
+        return super.needsTicks() || hasConnections(ConnectionType.PULL);
+    }
+
+    @Override
+    protected void calculateShare() {
         if (getTransmitter().hasTransmitterNetwork() && getTransmitter().getTransmitterNetworkSize() > 0) {
-            FluidStack last = getSaveShare();
-            if ((!last.isEmpty() && !(!lastWrite.isEmpty() && lastWrite.getAmount() == last.getAmount() && lastWrite.getFluid() == last.getFluid())) ||
-                (last.isEmpty() && !lastWrite.isEmpty())) {
-                lastWrite = last;
-                markDirty();
-            }
+            lastWrite = getSaveShare();
         }
     }
 
@@ -115,6 +115,9 @@ public class TileEntityMechanicalPipe extends TileEntityTransmitter<IFluidHandle
 
     @Override
     public void onChunkUnloaded() {
+        if (!isRemote()) {
+            validateShare();
+        }
         if (!isRemote() && getTransmitter().hasTransmitterNetwork() && !lastWrite.isEmpty()) {
             FluidStack buffer = getTransmitter().getTransmitterNetwork().buffer;
             if (!buffer.isEmpty()) {
@@ -143,6 +146,7 @@ public class TileEntityMechanicalPipe extends TileEntityTransmitter<IFluidHandle
     @Override
     public CompoundNBT write(CompoundNBT nbtTags) {
         super.write(nbtTags);
+        validateShare();
         if (lastWrite.getAmount() > 0) {
             nbtTags.put("cacheFluid", lastWrite.writeToNBT(new CompoundNBT()));
         } else {
@@ -218,6 +222,7 @@ public class TileEntityMechanicalPipe extends TileEntityTransmitter<IFluidHandle
 
     @Override
     public void takeShare() {
+        validateShare();
         if (getTransmitter().hasTransmitterNetwork()) {
             FluidNetwork network = getTransmitter().getTransmitterNetwork();
             if (!network.buffer.isEmpty() && !lastWrite.isEmpty()) {
@@ -84,7 +84,6 @@ public class TileEntityPressurizedTube extends TileEntityTransmitter<IGasHandler
     @Override
     public void tick() {
         if (!isRemote()) {
-            updateShare();
             List<Direction> connections = getConnections(ConnectionType.PULL);
             if (!connections.isEmpty()) {
                 IGasHandler[] connectedAcceptors = GasUtils.getConnectedAcceptors(getPos(), getWorld());
@@ -107,6 +106,12 @@ public class TileEntityPressurizedTube extends TileEntityTransmitter<IGasHandler
         super.tick();
     }
 
+    @Override
+    public boolean needsTicks() {
+        //Shares are saved when the network changes, so only pulling needs ticks
+        return super.needsTicks() || hasConnections(ConnectionType.PULL);
+    }
+
     public int getAvailablePull() {
         if (getTransmitter().hasTransmitterNetwork()) {
             return Math.min(tier.getTubePullAmount(), getTransmitter().getTransmitterNetwork().getGasNeeded());
@@ -115,14 +120,9 @@ public class TileEntityPressurizedTube extends TileEntityTransmitter<IGasHandler
     }
 
     @Override
-    public void updateShare() {
+    protected void calculateShare() {
         if (getTransmitter().hasTransmitterNetwork() && getTransmitter().getTransmitterNetworkSize() > 0) {
-            GasStack last = getSaveShare();
-            //TODO: Look to see if this can be cleaned up further
-            if ((!last.isEmpty() && (lastWrite.isEmpty() || !lastWrite.isStackIdentical(last))) || (last.isEmpty() && !lastWrite.isEmpty())) {
-                lastWrite = last;
-                markDirty();
-            }
+            lastWrite = getSaveShare();
         }
     }
 
@@ -144,6 +144,9 @@ public class TileEntityPressurizedTube extends TileEntityTransmitter<IGasHandler
 
     @Override
     public void onChunkUnloaded() {
+        if (!isRemote()) {
+            validateShare();
+        }
         if (!isRemote() && getTransmitter().hasTransmitterNetwork()) {
             GasNetwork transmitterNetwork = getTransmitter().getTransmitterNetwork();
             if (!transmitterNetwork.buffer.isEmpty() && !lastWrite.isEmpty()) {
@@ -170,6 +173,7 @@ public class TileEntityPressurizedTube extends TileEntityTransmitter<IGasHandler
     @Override
     public CompoundNBT write(CompoundNBT nbtTags) {
         super.write(nbtTags);
+        validateShare();
         if (!lastWrite.isEmpty()) {
             nbtTags.put("cacheGas", lastWrite.write(new CompoundNBT()));
         } else {
@@ -245,6 +249,7 @@ public class TileEntityPressurizedTube extends TileEntityTransmitter<IGasHandler
 
     @Override
     public void takeShare() {
+        validateShare();
         if (getTransmitter().hasTransmitterNetwork()) {
             GasNetwork transmitterNetwork = getTransmitter().getTransmitterNetwork();
             if (!transmitterNetwork.buffer.isEmpty() && !lastWrite.isEmpty()) {
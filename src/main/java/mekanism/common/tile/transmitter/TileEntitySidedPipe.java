@@ -1,7 +1,6 @@
 package mekanism.common.tile.transmitter;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
@@ -27,6 +26,7 @@ import mekanism.common.block.states.TransmitterType.Size;
 import mekanism.common.block.transmitter.BlockLargeTransmitter;
 import mekanism.common.block.transmitter.BlockSmallTransmitter;
 import mekanism.common.capabilities.Capabilities;
+import mekanism.common.transmitters.TransmitterTickManager;
 import mekanism.common.util.CapabilityUtils;
 import mekanism.common.util.EnumUtils;
 import mekanism.common.util.MekanismUtils;
@@ -36,7 +36,6 @@ import mekanism.common.util.text.BooleanStateDisplay.OnOff;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.network.PacketBuffer;
-import net.minecraft.tileentity.ITickableTileEntity;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.tileentity.TileEntityType;
 import net.minecraft.util.ActionResultType;
@@ -50,7 +49,7 @@ import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.fml.common.thread.EffectiveSide;
 import org.apache.commons.lang3.tuple.Pair;
 
-public abstract class TileEntitySidedPipe extends TileEntity implements ITileNetwork, IBlockableConnection, IConfigurable, ITransmitter, ITickableTileEntity {
+public abstract class TileEntitySidedPipe extends TileEntity implements ITileNetwork, IBlockableConnection, IConfigurable, ITransmitter {
 
     public int delayTicks;
 
@@ -112,7 +111,10 @@ public abstract class TileEntitySidedPipe extends TileEntity implements ITileNet
         }
     }
 
-    @Override
+    /**
+     * Called by the {@link TransmitterTickManager} while this transmitter is registered for ticks, transmitters are not ticking tiles so that ones that are idle don't
+     * get ticked.
+     */
     public void tick() {
         if (isRemote()) {
             if (delayTicks == 5) {
@@ -133,6 +135,21 @@ public abstract class TileEntitySidedPipe extends TileEntity implements ITileNet
         }
     }
 
+    /**
+     * @return {@code true} if this transmitter still has work to do and needs to keep getting ticked.
+     */
+    public boolean needsTicks() {
+        return forceUpdate || sendDesc;
+    }
+
+    /**
+     * Makes sure this transmitter gets ticked until {@link #needsTicks()} returns false, should be called whenever something changes that the transmitter has to react
+     * to in its tick.
+     */
+    public void requestTicks() {
+        TransmitterTickManager.add(this);
+    }
+
     public boolean handlesRedstone() {
         return true;
     }
@@ -201,6 +218,7 @@ public abstract class TileEntitySidedPipe extends TileEntity implements ITileNet
                 BlockPos offset = getPos().offset(side);
                 if (!isRemote() && !getWorld().isBlockLoaded(offset)) {
                     forceUpdate = true;
+                    requestTicks();
                     continue;
                 }
 
@@ -295,9 +313,11 @@ public abstract class TileEntitySidedPipe extends TileEntity implements ITileNet
 
     @Override
     public TileNetworkList getNetworkedData(TileNetworkList data) {
-        data.add(currentTransmitterConnections);
-        data.add(currentAcceptorConnections);
-        data.addAll(Arrays.asList(connectionTypes).subList(0, 6));
+        data.addByte(currentTransmitterConnections);
+        data.addByte(currentAcceptorConnections);
+        for (int i = 0; i < 6; i++) {
+            data.addEnum(connectionTypes[i]);
+        }
         return data;
     }
 
@@ -350,6 +370,7 @@ public abstract class TileEntitySidedPipe extends TileEntity implements ITileNet
 
             if ((possibleTransmitters | possibleAcceptors) != getAllCurrentConnections()) {
                 sendDesc = true;
+                requestTicks();
                 if (possibleTransmitters != currentTransmitterConnections) {
                     //If they don't match get the difference
                     newlyEnabledTransmitters = (byte) (possibleTransmitters ^ currentTransmitterConnections);
@@ -377,6 +398,7 @@ public abstract class TileEntitySidedPipe extends TileEntity implements ITileNet
 
             if ((possibleTransmitter || possibleAcceptor) != connectionMapContainsSide(getAllCurrentConnections(), side)) {
                 sendDesc = true;
+                requestTicks();
                 if (possibleTransmitter != connectionMapContainsSide(currentTransmitterConnections, side)) {
                     //If it doesn't match check if it is now enabled, as we don't care about it changing to disabled
                     transmitterChanged = possibleTransmitter;
@@ -439,6 +461,7 @@ public abstract class TileEntitySidedPipe extends TileEntity implements ITileNet
 
     @Override
     public void remove() {
+        TransmitterTickManager.remove(this);
         onWorldSeparate();
         super.remove();
     }
@@ -451,6 +474,7 @@ public abstract class TileEntitySidedPipe extends TileEntity implements ITileNet
 
     @Override
     public void onChunkUnloaded() {
+        TransmitterTickManager.remove(this);
         onWorldSeparate();
         super.onChunkUnloaded();
     }
@@ -470,6 +494,7 @@ public abstract class TileEntitySidedPipe extends TileEntity implements ITileNet
             refreshConnections();
         }//*/
         super.onLoad();
+        requestTicks();
     }
 
     public void onNeighborTileChange(Direction side) {
@@ -495,6 +520,18 @@ public abstract class TileEntitySidedPipe extends TileEntity implements ITileNet
         return sides;
     }
 
+    /**
+     * Same as checking if {@link #getConnections(ConnectionType)} is not empty, without creating the list.
+     */
+    protected boolean hasConnections(ConnectionType type) {
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            if (getConnectionType(side) == type) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public ActionResultType onSneakRightClick(PlayerEntity player, Direction side) {
         if (!isRemote()) {
@@ -515,6 +552,7 @@ public abstract class TileEntitySidedPipe extends TileEntity implements ITileNet
                 }
                 connectionTypes[hitSide.ordinal()] = connectionTypes[hitSide.ordinal()].getNext();
                 sendDesc = true;
+                requestTicks();
                 onModeChange(Direction.byIndex(hitSide.ordinal()));
 
                 refreshConnections();
@@ -71,7 +71,7 @@ public class TileEntityThermodynamicConductor extends TileEntityTransmitter<IHea
     }
 
     @Override
-    public void updateShare() {
+    protected void calculateShare() {
     }
 
     @Override
@@ -120,7 +120,7 @@ public class TileEntityThermodynamicConductor extends TileEntityTransmitter<IHea
     @Override
     public TileNetworkList getNetworkedData(TileNetworkList data) {
         super.getNetworkedData(data);
-        data.add(temperature);
+        data.addDouble(temperature);
         return data;
     }
 
@@ -155,13 +155,20 @@ public class TileEntityThermodynamicConductor extends TileEntityTransmitter<IHea
 
     @Override
     public double applyTemperatureChange() {
-        temperature += tier.getInverseHeatCapacity() * heatToAbsorb;
+        setTemperature(temperature + tier.getInverseHeatCapacity() * heatToAbsorb);
         heatToAbsorb = 0;
+        return temperature;
+    }
+
+    /**
+     * Sets the temperature of this conductor, and syncs it to the client if it changed enough since the last sync.
+     */
+    public void setTemperature(double temperature) {
+        this.temperature = temperature;
         if (Math.abs(temperature - clientTemperature) > (temperature / 20)) {
             clientTemperature = temperature;
             sendTemp();
         }
-        return temperature;
     }
 
     @Nullable
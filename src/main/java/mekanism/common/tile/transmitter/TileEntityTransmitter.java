@@ -40,6 +40,8 @@ public abstract class TileEntityTransmitter<A, N extends DynamicNetwork<A, N, BU
     public boolean delayedRefresh = false;
 
     private N lastClientNetwork = null;
+    //Share version of the network the share of this transmitter was last worked out for
+    private int shareVersion = -1;
 
     public TileEntityTransmitter(TileEntityType<? extends TileEntityTransmitter> type) {
         super(type);
@@ -83,6 +85,11 @@ public abstract class TileEntityTransmitter<A, N extends DynamicNetwork<A, N, BU
         }
     }
 
+    @Override
+    public boolean needsTicks() {
+        return super.needsTicks() || delayedRefresh;
+    }
+
     @Override
     public void onChunkUnloaded() {
         if (!isRemote()) {
@@ -323,7 +330,27 @@ public abstract class TileEntityTransmitter<A, N extends DynamicNetwork<A, N, BU
 
     public abstract void takeShare();
 
-    public abstract void updateShare();
+    /**
+     * Works out the share of the network's buffer this transmitter saves and takes with it when it leaves the network.
+     */
+    public final void updateShare() {
+        if (getTransmitter().hasTransmitterNetwork()) {
+            shareVersion = getTransmitter().getTransmitterNetwork().getShareVersion();
+        }
+        calculateShare();
+    }
+
+    /**
+     * Works out the share of this transmitter again if the network's buffer or size changed since it was last worked out, should be called before the share gets saved or
+     * taken from the network.
+     */
+    protected void validateShare() {
+        if (getTransmitter().hasTransmitterNetwork() && getTransmitter().getTransmitterNetwork().getShareVersion() != shareVersion) {
+            updateShare();
+        }
+    }
+
+    protected abstract void calculateShare();
 
     @Nonnull
     @Override
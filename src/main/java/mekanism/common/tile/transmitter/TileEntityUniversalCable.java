@@ -7,6 +7,7 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.block.IHasTileEntity;
 import mekanism.api.energy.EnergyStack;
+import mekanism.api.energy.FixedEnergy;
 import mekanism.api.energy.IStrictEnergyAcceptor;
 import mekanism.api.energy.IStrictEnergyStorage;
 import mekanism.api.providers.IBlockProvider;
@@ -44,7 +45,7 @@ public class TileEntityUniversalCable extends TileEntityTransmitter<EnergyAccept
     public final CableTier tier;
 
     public double currentPower = 0;
-    public double lastWrite = 0;
+    private final FixedEnergy lastWrite = new FixedEnergy();
 
     public EnergyStack buffer = new EnergyStack(0);
     private CapabilityWrapperManager<TileEntityUniversalCable, ForgeEnergyCableIntegration> forgeEnergyManager =
@@ -63,7 +64,6 @@ public class TileEntityUniversalCable extends TileEntityTransmitter<EnergyAccept
                 currentPower = (9 * currentPower + targetPower) / 10;
             }
         } else {
-            updateShare();
             List<Direction> connections = getConnections(ConnectionType.PULL);
             if (!connections.isEmpty()) {
                 TileEntity[] connectedOutputters = CableUtils.getConnectedOutputters(this, getPos(), getWorld());
@@ -93,6 +93,12 @@ public class TileEntityUniversalCable extends TileEntityTransmitter<EnergyAccept
         super.tick();
     }
 
+    @Override
+    public boolean needsTicks() {
+        //Shares are saved when the network changes, so only pulling needs ticks
+        return super.needsTicks() || hasConnections(ConnectionType.PULL);
+    }
+
     /**
      * Takes a certain amount of energy and returns how much was actually taken
      *
@@ -108,23 +114,14 @@ public class TileEntityUniversalCable extends TileEntityTransmitter<EnergyAccept
     }
 
     @Override
-    public void updateShare() {
+    protected void calculateShare() {
         if (getTransmitter().hasTransmitterNetwork() && getTransmitter().getTransmitterNetworkSize() > 0) {
-            double last = getSaveShare();
-            if (last != lastWrite) {
-                lastWrite = last;
-                markDirty();
-            }
+            //Split exactly, so that the shares saved by the cables never add up to more than the network has
+            EnergyNetwork network = getTransmitter().getTransmitterNetwork();
+            lastWrite.setDivided(network.buffer.amount, network.transmittersSize());
         }
     }
 
-    private double getSaveShare() {
-        if (getTransmitter().hasTransmitterNetwork()) {
-            return EnergyNetwork.round(getTransmitter().getTransmitterNetwork().buffer.amount * (1F / getTransmitter().getTransmitterNetwork().transmittersSize()));
-        }
-        return buffer.amount;
-    }
-
     @Override
     public TransmitterType getTransmitterType() {
         return TransmitterType.UNIVERSAL_CABLE;
@@ -133,17 +130,15 @@ public class TileEntityUniversalCable extends TileEntityTransmitter<EnergyAccept
     @Override
     public void read(CompoundNBT nbtTags) {
         super.read(nbtTags);
-        buffer.amount = nbtTags.getDouble("cacheEnergy");
-        if (buffer.amount < 0) {
-            buffer.amount = 0;
-        }
+        buffer.amount.set(Math.max(0, nbtTags.getDouble("cacheEnergy")));
     }
 
     @Nonnull
     @Override
     public CompoundNBT write(CompoundNBT nbtTags) {
         super.write(nbtTags);
-        nbtTags.putDouble("cacheEnergy", lastWrite);
+        validateShare();
+        nbtTags.putDouble("cacheEnergy", lastWrite.toDouble());
         return nbtTags;
     }
 
@@ -178,7 +173,7 @@ public class TileEntityUniversalCable extends TileEntityTransmitter<EnergyAccept
     public EnergyStack getBufferWithFallback() {
         EnergyStack buffer = getBuffer();
         //If we don't have a buffer try falling back to the network's buffer
-        if (buffer.amount == 0 && getTransmitter().hasTransmitterNetwork()) {
+        if (buffer.amount.isZero() && getTransmitter().hasTransmitterNetwork()) {
             return getTransmitter().getTransmitterNetwork().getBuffer();
         }
         return buffer;
@@ -186,9 +181,10 @@ public class TileEntityUniversalCable extends TileEntityTransmitter<EnergyAccept
 
     @Override
     public void takeShare() {
+        validateShare();
         if (getTransmitter().hasTransmitterNetwork()) {
-            getTransmitter().getTransmitterNetwork().buffer.amount -= lastWrite;
-            buffer.amount = lastWrite;
+            getTransmitter().getTransmitterNetwork().buffer.amount.subtract(lastWrite);
+            buffer.amount.set(lastWrite);
         }
     }
 
@@ -228,17 +224,17 @@ public class TileEntityUniversalCable extends TileEntityTransmitter<EnergyAccept
     @Override
     public double getEnergy() {
         if (getTransmitter().hasTransmitterNetwork()) {
-            return getTransmitter().getTransmitterNetwork().buffer.amount;
+            return getTransmitter().getTransmitterNetwork().buffer.amount.toDouble();
         }
-        return buffer.amount;
+        return buffer.amount.toDouble();
     }
 
     @Override
     public void setEnergy(double energy) {
         if (getTransmitter().hasTransmitterNetwork()) {
-            getTransmitter().getTransmitterNetwork().buffer.amount = energy;
+            getTransmitter().getTransmitterNetwork().buffer.amount.set(energy);
         } else {
-            buffer.amount = energy;
+            buffer.amount.set(energy);
         }
     }
 
@@ -250,9 +246,9 @@ public class TileEntityUniversalCable extends TileEntityTransmitter<EnergyAccept
         if (getTransmitter().hasTransmitterNetwork()) {
             return getTransmitter().getTransmitterNetwork().emit(energy, doEmit);
         }
-        double used = Math.min(getCapacity() - buffer.amount, energy);
+        double used = Math.min(getCapacity() - buffer.amount.toDouble(), energy);
         if (doEmit) {
-            buffer.amount += used;
+            buffer.amount.add(used);
         }
         return energy - used;
     }
@@ -286,7 +282,7 @@ public class TileEntityUniversalCable extends TileEntityTransmitter<EnergyAccept
     @Nullable
     @Override
     protected UniversalCableUpgradeData getUpgradeData() {
-        return new UniversalCableUpgradeData(redstoneReactive, connectionTypes, buffer.amount);
+        return new UniversalCableUpgradeData(redstoneReactive, connectionTypes, buffer.amount.toDouble());
     }
 
     @Override
@@ -295,7 +291,7 @@ public class TileEntityUniversalCable extends TileEntityTransmitter<EnergyAccept
             UniversalCableUpgradeData data = (UniversalCableUpgradeData) upgradeData;
             redstoneReactive = data.redstoneReactive;
             connectionTypes = data.connectionTypes;
-            buffer.amount = data.buffer;
+            buffer.amount.set(data.buffer);
         } else {
             super.parseUpgradeData(upgradeData);
         }
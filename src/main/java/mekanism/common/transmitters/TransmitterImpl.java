@@ -65,6 +65,7 @@ public class TransmitterImpl<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEPTOR,
     @Override
     public void connectionFailed() {
         containingTile.delayedRefresh = true;
+        containingTile.requestTicks();
     }
 
     @Override
@@ -88,12 +89,19 @@ public class TransmitterImpl<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEPTOR,
 
     @Override
     public NETWORK getExternalNetwork(Coord4D from) {
+        IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter = getExternalTransmitter(from);
+        return transmitter == null ? null : transmitter.getTransmitterNetwork();
+    }
+
+    @Nullable
+    @Override
+    public IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> getExternalTransmitter(Coord4D from) {
         Optional<IGridTransmitter<?, ?, ?>> gridTransmitter = MekanismUtils.toOptional(CapabilityUtils.getCapability(MekanismUtils.getTileEntity(world(), from.getPos()),
               Capabilities.GRID_TRANSMITTER_CAPABILITY, null));
         if (gridTransmitter.isPresent()) {
             IGridTransmitter<?, ?, ?> transmitter = gridTransmitter.get();
             if (TransmissionType.checkTransmissionType(transmitter, getTransmissionType())) {
-                return ((IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>) transmitter).getTransmitterNetwork();
+                return (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>) transmitter;
             }
         }
         return null;
@@ -134,6 +142,7 @@ public class TransmitterImpl<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEPTOR,
     @Override
     public void setRequestsUpdate() {
         containingTile.sendDesc = true;
+        containingTile.requestTicks();
     }
 
     public TileEntityTransmitter<ACCEPTOR, NETWORK, BUFFER> getTileEntity() {
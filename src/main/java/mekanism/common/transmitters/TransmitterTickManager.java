@@ -0,0 +1,150 @@
+package mekanism.common.transmitters;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.tile.transmitter.TileEntitySidedPipe;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.World;
+import net.minecraft.world.dimension.DimensionType;
+
+/**
+ * Ticks transmitters instead of them being ticking tiles, so that transmitters that have nothing to do don't get ticked at all. Transmitters get added when they load
+ * and whenever something changes that they have to react to, and on the server get removed again once {@link TileEntitySidedPipe#needsTicks()} returns false, unless
+ * lazy ticking is disabled in the config. When lazy ticking gets disabled while the game is running, all loaded transmitters get added again. Client side transmitters
+ * keep ticking while they are loaded, as they animate the contents of their networks.
+ */
+public class TransmitterTickManager {
+
+    private static final Map<DimensionType, TickingTransmitters> serverTransmitters = new HashMap<>();
+    private static final TickingTransmitters clientTransmitters = new TickingTransmitters();
+
+    public static void reset() {
+        serverTransmitters.clear();
+    }
+
+    /**
+     * Drops the transmitters of the given world, so that the tiles of a world that got unloaded are not kept around.
+     */
+    public static void onWorldUnload(IWorld world) {
+        if (world.isRemote()) {
+            clientTransmitters.clear();
+        } else {
+            serverTransmitters.remove(world.getDimension().getType());
+        }
+    }
+
+    /**
+     * Makes sure the given transmitter gets ticked, until it no longer needs ticks.
+     *
+     * @param transmitter - transmitter to tick
+     */
+    public static void add(TileEntitySidedPipe transmitter) {
+        World world = transmitter.getWorld();
+        if (world == null) {
+            //Gets added when it is loaded
+            return;
+        }
+        if (world.isRemote()) {
+            clientTransmitters.add(transmitter);
+        } else {
+            serverTransmitters.computeIfAbsent(world.getDimension().getType(), dimension -> new TickingTransmitters()).add(transmitter);
+        }
+    }
+
+    public static void remove(TileEntitySidedPipe transmitter) {
+        World world = transmitter.getWorld();
+        if (world == null) {
+            return;
+        }
+        if (world.isRemote()) {
+            clientTransmitters.remove(transmitter);
+        } else {
+            TickingTransmitters transmitters = serverTransmitters.get(world.getDimension().getType());
+            if (transmitters != null) {
+                transmitters.remove(transmitter);
+            }
+        }
+    }
+
+    public static void tick(World world) {
+        TickingTransmitters transmitters = serverTransmitters.get(world.getDimension().getType());
+        if (transmitters != null) {
+            boolean lazy = MekanismConfig.general.lazyTransmitterTicking.get();
+            if (transmitters.lazy && !lazy) {
+                //Transmitters that were dropped while ticking lazily have to tick again
+                for (TileEntity tile : world.loadedTileEntityList) {
+                    if (tile instanceof TileEntitySidedPipe && !tile.isRemoved()) {
+                        transmitters.add((TileEntitySidedPipe) tile);
+                    }
+                }
+            }
+            transmitters.lazy = lazy;
+            transmitters.tick(world, lazy);
+        }
+    }
+
+    public static void tickClient(World world) {
+        clientTransmitters.tick(world, false);
+    }
+
+    private static class TickingTransmitters {
+
+        private final Set<TileEntitySidedPipe> ticking = new LinkedHashSet<>();
+        //Changes made while ticking, as transmitters may cause other transmitters to need ticks
+        private final Set<TileEntitySidedPipe> added = new LinkedHashSet<>();
+        private final Set<TileEntitySidedPipe> removed = new HashSet<>();
+        private boolean isTicking;
+        //If the last tick was lazy
+        private boolean lazy = true;
+
+        private void clear() {
+            ticking.clear();
+            added.clear();
+            removed.clear();
+        }
+
+        private void add(TileEntitySidedPipe transmitter) {
+            if (isTicking) {
+                removed.remove(transmitter);
+                added.add(transmitter);
+            } else {
+                ticking.add(transmitter);
+            }
+        }
+
+        private void remove(TileEntitySidedPipe transmitter) {
+            if (isTicking) {
+                added.remove(transmitter);
+                removed.add(transmitter);
+            } else {
+                ticking.remove(transmitter);
+            }
+        }
+
+        private void tick(World world, boolean lazy) {
+            isTicking = true;
+            for (Iterator<TileEntitySidedPipe> iter = ticking.iterator(); iter.hasNext(); ) {
+                TileEntitySidedPipe transmitter = iter.next();
+                if (transmitter.isRemoved() || transmitter.getWorld() != world || removed.contains(transmitter)) {
+                    iter.remove();
+                } else if (world.isBlockLoaded(transmitter.getPos())) {
+                    transmitter.tick();
+                    if (lazy && !transmitter.needsTicks()) {
+                        iter.remove();
+                    }
+                }
+            }
+            isTicking = false;
+            ticking.removeAll(removed);
+            removed.clear();
+            ticking.addAll(added);
+            added.clear();
+        }
+    }
+}
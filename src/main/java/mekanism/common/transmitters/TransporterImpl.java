@@ -11,7 +11,6 @@ import javax.annotation.Nonnull;
 import mekanism.api.Coord4D;
 import mekanism.api.TileNetworkList;
 import mekanism.api.text.EnumColor;
-import mekanism.common.Mekanism;
 import mekanism.common.base.ILogisticalTransporter;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.content.transporter.TransitRequest;
@@ -19,7 +18,7 @@ import mekanism.common.content.transporter.TransitRequest.TransitResponse;
 import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.content.transporter.TransporterStack;
 import mekanism.common.content.transporter.TransporterStack.Path;
-import mekanism.common.network.PacketTileEntity;
+import mekanism.common.content.transporter.TransporterSyncManager;
 import mekanism.common.tile.TileEntityLogisticalSorter;
 import mekanism.common.tile.transmitter.TileEntityLogisticalTransporter;
 import mekanism.common.tile.transmitter.TileEntitySidedPipe.ConnectionType;
@@ -46,6 +45,8 @@ public class TransporterImpl extends TransmitterImpl<TileEntity, InventoryNetwor
 
     private Map<Integer, TransporterStack> needsSync = new HashMap<>();
 
+    private Set<Integer> pendingDeletes = new HashSet<>();
+
     public TransporterImpl(TileEntityLogisticalTransporter multiPart) {
         super(multiPart);
     }
@@ -62,10 +63,20 @@ public class TransporterImpl extends TransmitterImpl<TileEntity, InventoryNetwor
         transit.put(id, s);
     }
 
+    /**
+     * Creates the data for syncing the stacks that changed or got deleted since the last sync to clients, and clears them.
+     */
+    public TileNetworkList makeSyncData() {
+        TileNetworkList data = getTileEntity().makeBatchPacket(needsSync, pendingDeletes);
+        needsSync.clear();
+        pendingDeletes.clear();
+        return data;
+    }
+
     public void writeToPacket(TileNetworkList data) {
-        data.add(transit.size());
+        data.addInt(transit.size());
         for (Entry<Integer, TransporterStack> entry : transit.entrySet()) {
-            data.add(entry.getKey());
+            data.addInt(entry.getKey());
             entry.getValue().write(this, data);
         }
     }
@@ -90,6 +101,7 @@ public class TransporterImpl extends TransmitterImpl<TileEntity, InventoryNetwor
                 TransporterStack stack = TransporterStack.readFromNBT(tagList.getCompound(i));
                 transit.put(nextId++, stack);
             }
+            getTileEntity().requestTicks();
         }
     }
 
@@ -101,7 +113,6 @@ public class TransporterImpl extends TransmitterImpl<TileEntity, InventoryNetwor
         } else if (getTransmitterNetwork() != null) {
             Set<Integer> deletes = new HashSet<>();
             getTileEntity().pullItems();
-            Coord4D coord = coord();
             for (Entry<Integer, TransporterStack> entry : transit.entrySet()) {
                 int stackId = entry.getKey();
                 TransporterStack stack = entry.getValue();
@@ -116,13 +127,12 @@ public class TransporterImpl extends TransmitterImpl<TileEntity, InventoryNetwor
                 if (stack.progress >= 100) {
                     Coord4D prevSet = null;
                     if (stack.hasPath()) {
-                        int currentIndex = stack.getPath().indexOf(coord);
-                        if (currentIndex == 0) { //Necessary for transition reasons, not sure why
+                        if (stack.getPathIndex(this) == 0) { //Necessary for transition reasons, not sure why
                             deletes.add(stackId);
                             continue;
                         }
 
-                        Coord4D next = stack.getPath().get(currentIndex - 1);
+                        Coord4D next = stack.getNext(this);
                         //TODO: Can next ever even be null? We moved this check out given theoretically both branches could maybe have it be null
                         // if it can even be null. I did not bother looking into if the null check that already existed was valid or unneeded
                         if (next != null) {
@@ -176,18 +186,16 @@ public class TransporterImpl extends TransmitterImpl<TileEntity, InventoryNetwor
                 }
             }
 
-            if (deletes.size() > 0 || needsSync.size() > 0) {
-                PacketTileEntity msg = new PacketTileEntity(coord, getTileEntity().makeBatchPacket(needsSync, deletes));
+            if (!deletes.isEmpty()) {
                 // Now remove any entries from transit that have been deleted
                 deletes.forEach(id -> transit.remove(id));
-
-                // Clear the pending sync packets
-                needsSync.clear();
-
-                // Finally, notify clients and mark chunk for save
-                //TODO: Check
-                Mekanism.packetHandler.sendToAllTracking(msg, getTileEntity().getWorld(), coord.getPos());
-                MekanismUtils.saveChunk(getTileEntity());
+                // Deleted stacks don't need their changes synced, only the deletion
+                needsSync.keySet().removeAll(deletes);
+                pendingDeletes.addAll(deletes);
+            }
+            if (!pendingDeletes.isEmpty() || !needsSync.isEmpty()) {
+                // Notify clients and mark chunk for save at the end of the tick, together with all other transporters
+                TransporterSyncManager.markForSync(getTileEntity());
             }
         }
     }
@@ -241,11 +249,9 @@ public class TransporterImpl extends TransmitterImpl<TileEntity, InventoryNetwor
             if (doEmit) {
                 int stackId = nextId++;
                 transit.put(stackId, stack);
-                Coord4D coord = coord();
-                TileEntityLogisticalTransporter tile = getTileEntity();
-                //TODO: Check
-                Mekanism.packetHandler.sendToAllTracking(new PacketTileEntity(coord, tile.makeSyncPacket(stackId, stack)), tile.getWorld(), coord.getPos());
-                MekanismUtils.saveChunk(tile);
+                needsSync.put(stackId, stack);
+                TransporterSyncManager.markForSync(getTileEntity());
+                getTileEntity().requestTicks();
             }
             return response;
         }
@@ -278,6 +284,7 @@ public class TransporterImpl extends TransmitterImpl<TileEntity, InventoryNetwor
         stack.progress = progress;
         transit.put(stackId, stack);
         needsSync.put(stackId, stack);
+        getTileEntity().requestTicks();
 
         // N.B. We are not marking the chunk as dirty here! I don't believe it's needed, since
         // the next tick will generate the necessary save and if we crash before the next tick,
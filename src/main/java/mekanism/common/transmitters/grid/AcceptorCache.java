@@ -0,0 +1,199 @@
+package mekanism.common.transmitters.grid;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import mekanism.api.Coord4D;
+import mekanism.api.transmitters.DynamicNetwork;
+import mekanism.common.base.target.Target;
+import mekanism.common.util.MekanismUtils;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.Direction;
+import net.minecraft.world.World;
+import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.common.util.NonNullConsumer;
+
+/**
+ * Keeps track of the resolved handlers of all the acceptors of a network, so that emitting does not have to look up tiles and capabilities every tick. The cache gets
+ * rebuilt lazily the next time it is used after it has been marked dirty, either by the network when its acceptors change or by one of the capabilities that were used
+ * getting invalidated.
+ *
+ * @param <HANDLER> The handler of the acceptors.
+ * @param <EXTRA>   Any extra information the targets need to keep track of.
+ * @param <TARGET>  The emitter target.
+ */
+public class AcceptorCache<HANDLER, EXTRA, TARGET extends Target<HANDLER, ?, EXTRA>> {
+
+    private final List<CachedAcceptor> acceptors = new ArrayList<>();
+    private final List<TARGET> targets = new ArrayList<>();
+    /**
+     * Single listener instance so that registering it multiple times on the same {@link LazyOptional} does not keep adding listeners.
+     */
+    private final InvalidationListener invalidationListener = new InvalidationListener(this);
+    private final DynamicNetwork<?, ?, ?> network;
+    private final IAcceptorResolver<HANDLER> resolver;
+    private final Supplier<TARGET> targetFactory;
+    private int totalHandlers;
+    private boolean dirty = true;
+
+    public AcceptorCache(DynamicNetwork<?, ?, ?> network, IAcceptorResolver<HANDLER> resolver, Supplier<TARGET> targetFactory) {
+        this.network = network;
+        this.resolver = resolver;
+        this.targetFactory = targetFactory;
+    }
+
+    public void markDirty() {
+        dirty = true;
+    }
+
+    /**
+     * Registers this cache as a listener of the given capability so that it gets rebuilt if the capability is invalidated.
+     *
+     * @param capability The capability to listen to.
+     *
+     * @return The given capability.
+     */
+    @Nonnull
+    public <T> LazyOptional<T> track(@Nonnull LazyOptional<T> capability) {
+        if (capability.isPresent()) {
+            capability.addListener((NonNullConsumer<LazyOptional<T>>) (NonNullConsumer<?>) invalidationListener);
+        }
+        return capability;
+    }
+
+    private void rebuild() {
+        dirty = false;
+        acceptors.clear();
+        World world = network.getWorld();
+        Map<Coord4D, EnumSet<Direction>> acceptorDirections = network.getAcceptorDirections();
+        for (Coord4D coord : network.getPossibleAcceptors()) {
+            EnumSet<Direction> sides = acceptorDirections.get(coord);
+            if (sides == null || sides.isEmpty()) {
+                continue;
+            }
+            TileEntity tile = MekanismUtils.getTileEntity(world, coord.getPos());
+            if (tile == null) {
+                continue;
+            }
+            CachedAcceptor acceptor = null;
+            for (Direction side : sides) {
+                HANDLER handler = resolver.resolve(this, tile, side);
+                if (handler != null) {
+                    if (acceptor == null) {
+                        acceptor = new CachedAcceptor(tile);
+                    }
+                    acceptor.handlers.put(side, handler);
+                }
+            }
+            if (acceptor != null) {
+                acceptors.add(acceptor);
+            }
+        }
+    }
+
+    /**
+     * Resets the targets and adds all the cached handlers that pass the given filter to them.
+     *
+     * @param extra  The extra information to give to the targets.
+     * @param filter Filter for which handlers should be targeted.
+     *
+     * @return The targets that have at least one handler, this list gets reused the next time this method is called.
+     */
+    public List<TARGET> getTargets(EXTRA extra, IHandlerFilter<HANDLER, EXTRA> filter) {
+        if (dirty) {
+            rebuild();
+        }
+        targets.clear();
+        totalHandlers = 0;
+        for (CachedAcceptor acceptor : acceptors) {
+            TileEntity tile = acceptor.tile;
+            if (tile.isRemoved() || !tile.getWorld().isBlockLoaded(tile.getPos())) {
+                //Skip it and rebuild the cache the next time we are used
+                markDirty();
+                continue;
+            }
+            TARGET target = acceptor.target;
+            target.reset(extra);
+            for (Entry<Direction, HANDLER> entry : acceptor.handlers.entrySet()) {
+                if (filter.canTarget(entry.getValue(), entry.getKey(), extra)) {
+                    target.addHandler(entry.getKey(), entry.getValue());
+                }
+            }
+            int curHandlers = target.getHandlers().size();
+            if (curHandlers > 0) {
+                targets.add(target);
+                totalHandlers += curHandlers;
+            }
+        }
+        return targets;
+    }
+
+    /**
+     * @return The total number of handlers in the targets from the last call to {@link #getTargets(Object, IHandlerFilter)}.
+     */
+    public int getTotalHandlers() {
+        return totalHandlers;
+    }
+
+    private class CachedAcceptor {
+
+        private final Map<Direction, HANDLER> handlers = new EnumMap<>(Direction.class);
+        private final TileEntity tile;
+        private final TARGET target;
+
+        private CachedAcceptor(TileEntity tile) {
+            this.tile = tile;
+            this.target = targetFactory.get();
+        }
+    }
+
+    /**
+     * Listener that only weakly references its cache. Listeners can't be removed from a {@link LazyOptional}, and the capabilities of acceptors often outlive the
+     * networks using them, so a strong reference would keep every network that ever looked up an acceptor loaded until the acceptor's capability is invalidated.
+     */
+    private static class InvalidationListener implements NonNullConsumer<LazyOptional<?>> {
+
+        private final WeakReference<AcceptorCache<?, ?, ?>> cache;
+
+        private InvalidationListener(AcceptorCache<?, ?, ?> cache) {
+            this.cache = new WeakReference<>(cache);
+        }
+
+        @Override
+        public void accept(@Nonnull LazyOptional<?> optional) {
+            AcceptorCache<?, ?, ?> acceptorCache = cache.get();
+            if (acceptorCache != null) {
+                acceptorCache.markDirty();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface IAcceptorResolver<HANDLER> {
+
+        /**
+         * Resolves the handler of a tile on the given side. Any capabilities that get looked up should be passed to {@link AcceptorCache#track(LazyOptional)}.
+         *
+         * @param cache The cache the handler is being resolved for.
+         * @param tile  The tile to get the handler from.
+         * @param side  The side of the tile to get the handler of.
+         *
+         * @return The handler, or null if there is none.
+         */
+        @Nullable
+        HANDLER resolve(AcceptorCache<HANDLER, ?, ?> cache, TileEntity tile, Direction side);
+    }
+
+    @FunctionalInterface
+    public interface IHandlerFilter<HANDLER, EXTRA> {
+
+        boolean canTarget(HANDLER handler, Direction side, EXTRA extra);
+    }
+}
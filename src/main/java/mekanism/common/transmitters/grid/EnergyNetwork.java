@@ -1,33 +1,36 @@
 package mekanism.common.transmitters.grid;
 
 import java.util.Collection;
-import java.util.EnumSet;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.List;
 import javax.annotation.Nonnull;
-import mekanism.api.Coord4D;
 import mekanism.api.energy.EnergyStack;
+import mekanism.api.energy.FixedEnergy;
 import mekanism.api.transmitters.DynamicNetwork;
 import mekanism.api.transmitters.IGridTransmitter;
 import mekanism.common.MekanismLang;
 import mekanism.common.base.EnergyAcceptorWrapper;
 import mekanism.common.base.target.EnergyAcceptorTarget;
+import mekanism.common.transmitters.grid.AcceptorCache.IHandlerFilter;
 import mekanism.common.util.EmitUtils;
-import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.text.EnergyDisplay;
-import net.minecraft.tileentity.TileEntity;
-import net.minecraft.util.Direction;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.eventbus.api.Event;
 
 public class EnergyNetwork extends DynamicNetwork<EnergyAcceptorWrapper, EnergyNetwork, EnergyStack> {
 
+    private static final IHandlerFilter<EnergyAcceptorWrapper, Double> ENERGY_FILTER = (acceptor, side, extra) -> acceptor.canReceiveEnergy(side) && acceptor.needsEnergy(side);
+
+    private final AcceptorCache<EnergyAcceptorWrapper, Double, EnergyAcceptorTarget> acceptorCache = new AcceptorCache<>(this,
+          (cache, tile, side) -> EnergyAcceptorWrapper.get(tile, side, cache), EnergyAcceptorTarget::new);
+
     public double clientEnergyScale = 0;
     public EnergyStack buffer = new EnergyStack(0);
     private double lastPowerScale = 0;
     private double joulesTransmitted = 0;
     private double jouleBufferLastTick = 0;
+    //Scratch amount for getEnergyNeeded so checking how much a cable can take doesn't allocate
+    private final FixedEnergy energyNeeded = new FixedEnergy();
 
     public EnergyNetwork() {
     }
@@ -50,14 +53,10 @@ public class EnergyNetwork extends DynamicNetwork<EnergyAcceptorWrapper, EnergyN
             joulesTransmitted = net.joulesTransmitted;
             lastPowerScale = net.lastPowerScale;
         }
-        buffer.amount += net.buffer.amount;
+        buffer.amount.add(net.buffer.amount);
         super.adoptTransmittersAndAcceptorsFrom(net);
     }
 
-    public static double round(double d) {
-        return Math.round(d * 10000) / 10000;
-    }
-
     @Nonnull
     @Override
     public EnergyStack getBuffer() {
@@ -67,61 +66,48 @@ public class EnergyNetwork extends DynamicNetwork<EnergyAcceptorWrapper, EnergyN
     @Override
     public void absorbBuffer(IGridTransmitter<EnergyAcceptorWrapper, EnergyNetwork, EnergyStack> transmitter) {
         EnergyStack energy = transmitter.getBuffer();
-        buffer.amount += energy.amount;
-        energy.amount = 0;
+        buffer.amount.add(energy.amount);
+        energy.amount.set(0);
     }
 
     @Override
     public void clampBuffer() {
-        if (buffer.amount > getCapacityAsDouble()) {
-            buffer.amount = getCapacityAsDouble();
-        }
-        if (buffer.amount < 0) {
-            buffer.amount = 0;
-        }
+        buffer.amount.clamp(getCapacityAsDouble());
     }
 
     public double getEnergyNeeded() {
         if (isRemote()) {
             return 0;
         }
-        return getCapacityAsDouble() - buffer.amount;
+        return energyNeeded.set(getCapacityAsDouble()).subtract(buffer.amount).toDouble();
     }
 
-    private double tickEmit(double energyToSend) {
-        Set<EnergyAcceptorTarget> targets = new HashSet<>();
-        int totalHandlers = 0;
-        for (Coord4D coord : possibleAcceptors) {
-            EnumSet<Direction> sides = acceptorDirections.get(coord);
-            if (sides == null || sides.isEmpty()) {
-                continue;
-            }
-            TileEntity tile = MekanismUtils.getTileEntity(getWorld(), coord.getPos());
-            if (tile == null) {
-                continue;
-            }
-            EnergyAcceptorTarget target = new EnergyAcceptorTarget();
-            for (Direction side : sides) {
-                EnergyAcceptorWrapper acceptor = EnergyAcceptorWrapper.get(tile, side);
-                if (acceptor != null && acceptor.canReceiveEnergy(side) && acceptor.needsEnergy(side)) {
-                    target.addHandler(side, acceptor);
-                }
-            }
-            int curHandlers = target.getHandlers().size();
-            if (curHandlers > 0) {
-                targets.add(target);
-                totalHandlers += curHandlers;
-            }
-        }
-        return EmitUtils.sendToAcceptors(targets, totalHandlers, energyToSend);
+    private FixedEnergy tickEmit(FixedEnergy energyToSend) {
+        List<EnergyAcceptorTarget> targets = acceptorCache.getTargets(null, ENERGY_FILTER);
+        return EmitUtils.sendToAcceptors(targets, acceptorCache.getTotalHandlers(), energyToSend);
+    }
+
+    @Override
+    protected void markAcceptorsDirty() {
+        acceptorCache.markDirty();
     }
 
     public double emit(double energyToSend, boolean doEmit) {
-        double toUse = Math.min(getEnergyNeeded(), energyToSend);
+        double needed = getEnergyNeeded();
+        if (needed <= 0) {
+            //Full, or a client network which never needs anything
+            return energyToSend;
+        } else if (energyToSend < needed) {
+            if (doEmit) {
+                buffer.amount.add(energyToSend);
+            }
+            return 0;
+        }
         if (doEmit) {
-            buffer.amount += toUse;
+            //Fill up exactly rather than adding the rounded difference back on
+            buffer.amount.set(getCapacityAsDouble());
         }
-        return energyToSend - toUse;
+        return energyToSend - needed;
     }
 
     @Override
@@ -144,19 +130,21 @@ public class EnergyNetwork extends DynamicNetwork<EnergyAcceptorWrapper, EnergyN
                 lastPowerScale = currentPowerScale;
                 needsUpdate = false;
             }
-            if (buffer.amount > 0) {
-                joulesTransmitted = tickEmit(buffer.amount);
-                buffer.amount -= joulesTransmitted;
+            if (buffer.amount.isPositive()) {
+                FixedEnergy sent = tickEmit(buffer.amount);
+                buffer.amount.subtract(sent);
+                joulesTransmitted = sent.toDouble();
             }
+            updateShares(buffer.amount.toDouble());
         }
     }
 
     public double getPowerScale() {
-        return Math.max(jouleBufferLastTick == 0 ? 0 : Math.min(Math.ceil(Math.log10(getPower()) * 2) / 10, 1), getCapacityAsDouble() == 0 ? 0 : buffer.amount / getCapacityAsDouble());
+        return Math.max(jouleBufferLastTick == 0 ? 0 : Math.min(Math.ceil(Math.log10(getPower()) * 2) / 10, 1), getCapacityAsDouble() == 0 ? 0 : buffer.amount.toDouble() / getCapacityAsDouble());
     }
 
     public void clearJoulesTransmitted() {
-        jouleBufferLastTick = buffer.amount;
+        jouleBufferLastTick = buffer.amount.toDouble();
         joulesTransmitted = 0;
     }
 
@@ -171,7 +159,7 @@ public class EnergyNetwork extends DynamicNetwork<EnergyAcceptorWrapper, EnergyN
 
     @Override
     public ITextComponent getStoredInfo() {
-        return EnergyDisplay.of(buffer.amount).getTextComponent();
+        return EnergyDisplay.of(buffer.amount.toDouble()).getTextComponent();
     }
 
     @Override
@@ -1,21 +1,17 @@
 package mekanism.common.transmitters.grid;
 
 import java.util.Collection;
-import java.util.EnumSet;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.List;
 import javax.annotation.Nonnull;
-import mekanism.api.Coord4D;
 import mekanism.api.transmitters.DynamicNetwork;
 import mekanism.api.transmitters.IGridTransmitter;
 import mekanism.common.MekanismLang;
 import mekanism.common.base.target.FluidHandlerTarget;
+import mekanism.common.transmitters.grid.AcceptorCache.IHandlerFilter;
 import mekanism.common.util.CapabilityUtils;
 import mekanism.common.util.EmitUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.PipeUtils;
-import net.minecraft.tileentity.TileEntity;
-import net.minecraft.util.Direction;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.eventbus.api.Event;
@@ -26,6 +22,12 @@ import net.minecraftforge.fluids.capability.IFluidHandler.FluidAction;
 
 public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork, FluidStack> {
 
+    private static final IHandlerFilter<IFluidHandler, FluidStack> FLUID_FILTER = (acceptor, side, fluidToSend) -> PipeUtils.canFill(acceptor, fluidToSend);
+
+    private final AcceptorCache<IFluidHandler, FluidStack, FluidHandlerTarget> acceptorCache = new AcceptorCache<>(this,
+          (cache, tile, side) -> MekanismUtils.toOptional(cache.track(CapabilityUtils.getCapability(tile, CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, side))).orElse(null),
+          () -> new FluidHandlerTarget(FluidStack.EMPTY));
+
     public int transferDelay = 0;
 
     public boolean didTransfer;
@@ -105,32 +107,13 @@ public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork, Fl
     }
 
     private int tickEmit(@Nonnull FluidStack fluidToSend) {
-        Set<FluidHandlerTarget> availableAcceptors = new HashSet<>();
-        int totalHandlers = 0;
-        for (Coord4D coord : possibleAcceptors) {
-            EnumSet<Direction> sides = acceptorDirections.get(coord);
-            if (sides == null || sides.isEmpty()) {
-                continue;
-            }
-            TileEntity tile = MekanismUtils.getTileEntity(getWorld(), coord.getPos());
-            if (tile == null) {
-                continue;
-            }
-            FluidHandlerTarget target = new FluidHandlerTarget(fluidToSend);
-            for (Direction side : sides) {
-                CapabilityUtils.getCapability(tile, CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, side).ifPresent(acceptor -> {
-                    if (PipeUtils.canFill(acceptor, fluidToSend)) {
-                        target.addHandler(side, acceptor);
-                    }
-                });
-            }
-            int curHandlers = target.getHandlers().size();
-            if (curHandlers > 0) {
-                availableAcceptors.add(target);
-                totalHandlers += curHandlers;
-            }
-        }
-        return EmitUtils.sendToAcceptors(availableAcceptors, totalHandlers, fluidToSend.getAmount(), fluidToSend);
+        List<FluidHandlerTarget> availableAcceptors = acceptorCache.getTargets(fluidToSend, FLUID_FILTER);
+        return EmitUtils.sendToAcceptors(availableAcceptors, acceptorCache.getTotalHandlers(), fluidToSend.getAmount(), fluidToSend);
+    }
+
+    @Override
+    protected void markAcceptorsDirty() {
+        acceptorCache.markDirty();
     }
 
     public int emit(@Nonnull FluidStack fluidToSend, FluidAction fluidAction) {
@@ -182,6 +165,7 @@ public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork, Fl
                     }
                 }
             }
+            updateShares(buffer.getAmount());
         }
     }
 
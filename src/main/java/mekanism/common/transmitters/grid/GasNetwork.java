@@ -1,13 +1,9 @@
 package mekanism.common.transmitters.grid;
 
 import java.util.Collection;
-import java.util.EnumSet;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.List;
 import javax.annotation.Nonnull;
 import mekanism.api.Action;
-import mekanism.api.Coord4D;
-import mekanism.api.gas.Gas;
 import mekanism.api.gas.GasStack;
 import mekanism.api.gas.IGasHandler;
 import mekanism.api.transmitters.DynamicNetwork;
@@ -15,12 +11,11 @@ import mekanism.api.transmitters.IGridTransmitter;
 import mekanism.common.MekanismLang;
 import mekanism.common.base.target.GasHandlerTarget;
 import mekanism.common.capabilities.Capabilities;
+import mekanism.common.transmitters.grid.AcceptorCache.IHandlerFilter;
 import mekanism.common.util.CapabilityUtils;
 import mekanism.common.util.EmitUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.text.TextComponentUtil;
-import net.minecraft.tileentity.TileEntity;
-import net.minecraft.util.Direction;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.eventbus.api.Event;
@@ -34,6 +29,12 @@ import net.minecraftforge.eventbus.api.Event;
 //TODO: Should GasStack have @NonNull in the params
 public class GasNetwork extends DynamicNetwork<IGasHandler, GasNetwork, GasStack> {
 
+    private static final IHandlerFilter<IGasHandler, GasStack> GAS_FILTER = (acceptor, side, stack) -> acceptor.canReceiveGas(side, stack.getType());
+
+    private final AcceptorCache<IGasHandler, GasStack, GasHandlerTarget> acceptorCache = new AcceptorCache<>(this,
+          (cache, tile, side) -> MekanismUtils.toOptional(cache.track(CapabilityUtils.getCapability(tile, Capabilities.GAS_HANDLER_CAPABILITY, side))).orElse(null),
+          () -> new GasHandlerTarget(GasStack.EMPTY));
+
     public int transferDelay = 0;
 
     public boolean didTransfer;
@@ -122,33 +123,13 @@ public class GasNetwork extends DynamicNetwork<IGasHandler, GasNetwork, GasStack
     }
 
     private int tickEmit(@Nonnull GasStack stack) {
-        Set<GasHandlerTarget> availableAcceptors = new HashSet<>();
-        int totalHandlers = 0;
-        Gas type = stack.getType();
-        for (Coord4D coord : possibleAcceptors) {
-            EnumSet<Direction> sides = acceptorDirections.get(coord);
-            if (sides == null || sides.isEmpty()) {
-                continue;
-            }
-            TileEntity tile = MekanismUtils.getTileEntity(getWorld(), coord.getPos());
-            if (tile == null) {
-                continue;
-            }
-            GasHandlerTarget target = new GasHandlerTarget(stack);
-            for (Direction side : sides) {
-                CapabilityUtils.getCapability(tile, Capabilities.GAS_HANDLER_CAPABILITY, side).ifPresent(acceptor -> {
-                    if (acceptor.canReceiveGas(side, type)) {
-                        target.addHandler(side, acceptor);
-                    }
-                });
-            }
-            int curHandlers = target.getHandlers().size();
-            if (curHandlers > 0) {
-                availableAcceptors.add(target);
-                totalHandlers += curHandlers;
-            }
-        }
-        return EmitUtils.sendToAcceptors(availableAcceptors, totalHandlers, stack.getAmount(), stack);
+        List<GasHandlerTarget> availableAcceptors = acceptorCache.getTargets(stack, GAS_FILTER);
+        return EmitUtils.sendToAcceptors(availableAcceptors, acceptorCache.getTotalHandlers(), stack.getAmount(), stack);
+    }
+
+    @Override
+    protected void markAcceptorsDirty() {
+        acceptorCache.markDirty();
     }
 
     public int emit(@Nonnull GasStack stack, Action action) {
@@ -198,6 +179,7 @@ public class GasNetwork extends DynamicNetwork<IGasHandler, GasNetwork, GasStack
                 }
                 buffer.shrink(prevTransferAmount);
             }
+            updateShares(buffer.getAmount());
         }
     }
 
@@ -1,14 +1,10 @@
 package mekanism.common.transmitters.grid;
 
 import java.util.Collection;
-import java.util.Optional;
 import mekanism.api.IHeatTransfer;
 import mekanism.api.transmitters.DynamicNetwork;
 import mekanism.api.transmitters.IGridTransmitter;
 import mekanism.common.MekanismLang;
-import mekanism.common.capabilities.Capabilities;
-import mekanism.common.transmitters.TransmitterImpl;
-import mekanism.common.util.CapabilityUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.UnitDisplayUtils.TemperatureUnit;
 import net.minecraft.util.text.ITextComponent;
@@ -20,6 +16,8 @@ public class HeatNetwork extends DynamicNetwork<IHeatTransfer, HeatNetwork, Void
     public double heatLost = 0;
     public double heatTransferred = 0;
 
+    private final HeatSolver solver = new HeatSolver(this);
+
     public HeatNetwork() {
     }
 
@@ -51,6 +49,11 @@ public class HeatNetwork extends DynamicNetwork<IHeatTransfer, HeatNetwork, Void
                                                : MekanismLang.HEAT_NETWORK_FLOW_EFFICIENCY.translate(transferred, lost, heatTransferred / (heatTransferred + heatLost) * 100);
     }
 
+    @Override
+    protected void markAcceptorsDirty() {
+        solver.invalidate();
+    }
+
     @Override
     public void absorbBuffer(IGridTransmitter<IHeatTransfer, HeatNetwork, Void> transmitter) {
     }
@@ -73,19 +76,10 @@ public class HeatNetwork extends DynamicNetwork<IHeatTransfer, HeatNetwork, Void
         double newHeatTransferred = 0;
 
         if (!isRemote()) {
-            for (IGridTransmitter<IHeatTransfer, HeatNetwork, Void> transmitter : transmitters) {
-                if (transmitter instanceof TransmitterImpl) {
-                    Optional<IHeatTransfer> capability = MekanismUtils.toOptional(CapabilityUtils.getCapability(((TransmitterImpl<?, ?, ?>) transmitter).getTileEntity(),
-                          Capabilities.HEAT_TRANSFER_CAPABILITY, null));
-                    if (capability.isPresent()) {
-                        IHeatTransfer heatTransmitter = capability.get();
-                        double[] d = heatTransmitter.simulateHeat();
-                        newHeatTransferred += d[0];
-                        newHeatLost += d[1];
-                        newSumTemp += heatTransmitter.applyTemperatureChange();
-                    }
-                }
-            }
+            solver.tick();
+            newHeatTransferred = solver.getHeatTransferred();
+            newHeatLost = solver.getHeatLost();
+            newSumTemp = solver.getTemperatureSum();
         }
         heatLost = newHeatLost;
         heatTransferred = newHeatTransferred;
@@ -0,0 +1,262 @@
+package mekanism.common.transmitters.grid;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import mekanism.api.IHeatTransfer;
+import mekanism.api.transmitters.IGridTransmitter;
+import mekanism.common.capabilities.Capabilities;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.tile.transmitter.TileEntitySidedPipe;
+import mekanism.common.tile.transmitter.TileEntityThermodynamicConductor;
+import mekanism.common.transmitters.TransmitterImpl;
+import mekanism.common.util.CapabilityUtils;
+import mekanism.common.util.EnumUtils;
+import mekanism.common.util.MekanismUtils;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+/**
+ * Simulates the heat of the conductors in a {@link HeatNetwork}. The conduction coefficients and the adjacency of the conductors are kept in primitive arrays, which only
+ * get rebuilt when the network or the connections of its conductors change.
+ *
+ * Every tick the new temperatures are calculated from the temperatures at the start of the tick and written to a second buffer, so the result does not depend on the
+ * order the conductors are processed in. Conductors are ordered by position, so heat given to acceptors and the stats of the network are also deterministic. As the
+ * exchange between conductors only reads the first buffer, large networks can have it split across the common fork join pool.
+ */
+public class HeatSolver {
+
+    private static final int MIN_SPLIT_SIZE = 1_024;
+
+    private final HeatNetwork network;
+    private int transmitterCount = -1;
+    private TileEntityThermodynamicConductor[] conductors = new TileEntityThermodynamicConductor[0];
+    private byte[] connections = new byte[0];
+    private double[] temperature = new double[0];
+    private double[] nextTemperature = new double[0];
+    private double[] absorbed = new double[0];
+    private double[] inverseConduction = new double[0];
+    private double[] inverseHeatCapacity = new double[0];
+    private double[] airConduction = new double[0];
+    //Conductors adjacent to conductor i are neighbours[neighbourStart[i]] until neighbours[neighbourStart[i + 1]]
+    private int[] neighbourStart = new int[1];
+    private int[] neighbours = new int[0];
+    private double[] neighbourConduction = new double[0];
+    //Same layout for the acceptors adjacent to the conductors
+    private int[] acceptorStart = new int[1];
+    private TileEntity[] acceptorTiles = new TileEntity[0];
+    private IHeatTransfer[] acceptors = new IHeatTransfer[0];
+    private boolean[] acceptorIsTransmitter = new boolean[0];
+
+    private double heatTransferred;
+    private double heatLost;
+    private double temperatureSum;
+
+    public HeatSolver(HeatNetwork network) {
+        this.network = network;
+    }
+
+    /**
+     * Makes the solver get rebuilt on the next tick, for when the acceptors of the network may have changed.
+     */
+    public void invalidate() {
+        transmitterCount = -1;
+    }
+
+    public double getHeatTransferred() {
+        return heatTransferred;
+    }
+
+    public double getHeatLost() {
+        return heatLost;
+    }
+
+    public double getTemperatureSum() {
+        return temperatureSum;
+    }
+
+    public void tick() {
+        if (!isValid()) {
+            rebuild();
+        }
+        int size = conductors.length;
+        for (int i = 0; i < size; i++) {
+            TileEntityThermodynamicConductor conductor = conductors[i];
+            temperature[i] = conductor.temperature;
+            absorbed[i] = conductor.heatToAbsorb;
+            conductor.heatToAbsorb = 0;
+        }
+
+        //Heat given to acceptors and lost to the air, this calls into other tiles so is always done in order on the current thread
+        heatTransferred = 0;
+        heatLost = 0;
+        for (int i = 0; i < size; i++) {
+            double temp = temperature[i];
+            double lost = temp * airConduction[i];
+            heatLost += lost;
+            absorbed[i] -= lost;
+            for (int e = acceptorStart[i]; e < acceptorStart[i + 1]; e++) {
+                IHeatTransfer acceptor = acceptors[e];
+                double heatToTransfer = temp / (acceptor.getInverseConductionCoefficient() + inverseConduction[i]);
+                acceptor.transferHeatTo(heatToTransfer);
+                absorbed[i] -= heatToTransfer;
+                if (!acceptorIsTransmitter[e]) {
+                    heatTransferred += heatToTransfer;
+                }
+            }
+        }
+
+        int threshold = MekanismConfig.general.heatSolverParallelThreshold.get();
+        if (threshold > 0 && size >= threshold) {
+            ForkJoinPool.commonPool().invoke(new ConductionTask(0, size));
+        } else {
+            conduct(0, size);
+        }
+
+        temperatureSum = 0;
+        for (int i = 0; i < size; i++) {
+            conductors[i].setTemperature(nextTemperature[i]);
+            temperatureSum += nextTemperature[i];
+        }
+    }
+
+    /**
+     * Exchanges heat between the conductors in the given range, only reads from the start of tick buffer and only writes the given range of the next buffer.
+     */
+    private void conduct(int from, int to) {
+        for (int i = from; i < to; i++) {
+            double temp = temperature[i];
+            double heat = absorbed[i];
+            for (int e = neighbourStart[i]; e < neighbourStart[i + 1]; e++) {
+                heat += (temperature[neighbours[e]] - temp) * neighbourConduction[e];
+            }
+            nextTemperature[i] = temp + inverseHeatCapacity[i] * heat;
+        }
+    }
+
+    private boolean isValid() {
+        if (transmitterCount != network.transmittersSize()) {
+            return false;
+        }
+        for (int i = 0; i < conductors.length; i++) {
+            TileEntityThermodynamicConductor conductor = conductors[i];
+            if (conductor.isRemoved() || conductor.getTransmitter().getTransmitterNetwork() != network || conductor.getAllCurrentConnections() != connections[i]) {
+                return false;
+            }
+        }
+        World world = network.getWorld();
+        for (TileEntity tile : acceptorTiles) {
+            //Tiles don't get marked as removed when the chunk they are in unloads
+            if (tile.isRemoved() || !world.isBlockLoaded(tile.getPos())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void rebuild() {
+        transmitterCount = network.transmittersSize();
+        List<TileEntityThermodynamicConductor> found = new ArrayList<>();
+        for (IGridTransmitter<IHeatTransfer, HeatNetwork, Void> transmitter : network.getTransmitters()) {
+            if (transmitter instanceof TransmitterImpl) {
+                TileEntity tile = ((TransmitterImpl<?, ?, ?>) transmitter).getTileEntity();
+                if (tile instanceof TileEntityThermodynamicConductor) {
+                    found.add((TileEntityThermodynamicConductor) tile);
+                }
+            }
+        }
+        found.sort(Comparator.comparingLong(conductor -> conductor.getPos().toLong()));
+        int size = found.size();
+        conductors = found.toArray(new TileEntityThermodynamicConductor[0]);
+        connections = new byte[size];
+        temperature = new double[size];
+        nextTemperature = new double[size];
+        absorbed = new double[size];
+        inverseConduction = new double[size];
+        inverseHeatCapacity = new double[size];
+        airConduction = new double[size];
+        neighbourStart = new int[size + 1];
+        acceptorStart = new int[size + 1];
+
+        Long2IntMap indices = new Long2IntOpenHashMap(size);
+        indices.defaultReturnValue(-1);
+        for (int i = 0; i < size; i++) {
+            TileEntityThermodynamicConductor conductor = conductors[i];
+            indices.put(conductor.getPos().toLong(), i);
+            connections[i] = conductor.getAllCurrentConnections();
+            inverseConduction[i] = conductor.getInverseConductionCoefficient();
+            inverseHeatCapacity[i] = conductor.tier.getInverseHeatCapacity();
+        }
+
+        List<Integer> neighbourList = new ArrayList<>();
+        List<Double> neighbourConductionList = new ArrayList<>();
+        List<TileEntity> acceptorTileList = new ArrayList<>();
+        List<IHeatTransfer> acceptorList = new ArrayList<>();
+        List<Boolean> acceptorIsTransmitterList = new ArrayList<>();
+        World world = network.getWorld();
+        for (int i = 0; i < size; i++) {
+            TileEntityThermodynamicConductor conductor = conductors[i];
+            BlockPos pos = conductor.getPos();
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                if (TileEntitySidedPipe.connectionMapContainsSide(connections[i], side)) {
+                    BlockPos offset = pos.offset(side);
+                    int neighbour = indices.get(offset.toLong());
+                    if (neighbour != -1) {
+                        neighbourList.add(neighbour);
+                        neighbourConductionList.add(1 / (inverseConduction[i] + inverseConduction[neighbour]));
+                        continue;
+                    }
+                    TileEntity tile = MekanismUtils.getTileEntity(world, offset);
+                    Optional<IHeatTransfer> capability = MekanismUtils.toOptional(CapabilityUtils.getCapability(tile, Capabilities.HEAT_TRANSFER_CAPABILITY,
+                          side.getOpposite()));
+                    if (capability.isPresent()) {
+                        acceptorTileList.add(tile);
+                        acceptorList.add(capability.get());
+                        acceptorIsTransmitterList.add(CapabilityUtils.getCapability(tile, Capabilities.GRID_TRANSMITTER_CAPABILITY, side.getOpposite()).isPresent());
+                        continue;
+                    }
+                }
+                //Transfer to air otherwise
+                airConduction[i] += 1 / (IHeatTransfer.AIR_INVERSE_COEFFICIENT + conductor.getInsulationCoefficient(side) + inverseConduction[i]);
+            }
+            neighbourStart[i + 1] = neighbourList.size();
+            acceptorStart[i + 1] = acceptorList.size();
+        }
+        neighbours = neighbourList.stream().mapToInt(Integer::intValue).toArray();
+        neighbourConduction = neighbourConductionList.stream().mapToDouble(Double::doubleValue).toArray();
+        acceptorTiles = acceptorTileList.toArray(new TileEntity[0]);
+        acceptors = acceptorList.toArray(new IHeatTransfer[0]);
+        acceptorIsTransmitter = new boolean[acceptorIsTransmitterList.size()];
+        for (int e = 0; e < acceptorIsTransmitter.length; e++) {
+            acceptorIsTransmitter[e] = acceptorIsTransmitterList.get(e);
+        }
+    }
+
+    private class ConductionTask extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+
+        private ConductionTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= MIN_SPLIT_SIZE) {
+                conduct(from, to);
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ConductionTask(from, middle), new ConductionTask(middle, to));
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package mekanism.common.util;
+
+import it.unimi.dsi.fastutil.objects.Reference2BooleanMap;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanOpenHashMap;
+import java.util.function.Predicate;
+import javax.annotation.Nullable;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.palette.IPalette;
+import net.minecraft.util.palette.IdentityPalette;
+import net.minecraft.world.IWorldReader;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.IChunk;
+
+/**
+ * Finds the blocks in a volume that match a predicate by reading the block states straight out of the chunk sections, instead of looking up every position in the
+ * world. The predicate is checked once per block state, and a section only gets iterated if one of the states in its palette matches, so sections that are empty or
+ * don't have any matching states in their palette are skipped as a whole. Sections that have outgrown their local palette and use the global one always get iterated.
+ *
+ * Scanners never change the world. The predicate results are cached for the lifetime of the scanner, so it must not depend on anything but the state.
+ */
+public class ChunkSectionScanner {
+
+    private static final BlockState AIR = Blocks.AIR.getDefaultState();
+
+    private final Predicate<BlockState> predicate;
+    private final Reference2BooleanMap<BlockState> matches = new Reference2BooleanOpenHashMap<>();
+    private final BlockPos.Mutable cursor = new BlockPos.Mutable();
+
+    public ChunkSectionScanner(Predicate<BlockState> predicate) {
+        this.predicate = predicate;
+    }
+
+    public boolean matches(BlockState state) {
+        if (matches.containsKey(state)) {
+            return matches.getBoolean(state);
+        }
+        boolean match = predicate.test(state);
+        matches.put(state, match);
+        return match;
+    }
+
+    /**
+     * Checks the states in the palette of the given section, without looking at the blocks themselves. Palettes only ever grow, so this may return {@code true} for a
+     * state that is no longer in the section, but never returns {@code false} for a section that has a matching block.
+     *
+     * @return {@code true} if any block in the given section may match.
+     */
+    public boolean canMatch(@Nullable ChunkSection section) {
+        if (ChunkSection.isEmpty(section)) {
+            return matches(AIR);
+        }
+        IPalette<BlockState> palette = section.getData().palette;
+        if (palette instanceof IdentityPalette) {
+            //The global palette has every state in it, so it doesn't tell us anything about this section
+            return true;
+        }
+        //Local palettes hand out their ids in order, starting at zero
+        for (int id = 0; ; id++) {
+            BlockState state = palette.get(id);
+            if (state == null) {
+                return false;
+            } else if (matches(state)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Visits the matching blocks of a single section, in y, z, x order.
+     *
+     * @param section - the section, or null if the chunk has no section at that height
+     * @param minX    - inclusive lower x bound, in world coordinates and inside the section
+     * @param minY    - inclusive lower y bound, in world coordinates and inside the section
+     * @param minZ    - inclusive lower z bound, in world coordinates and inside the section
+     * @param maxX    - inclusive upper x bound, in world coordinates and inside the section
+     * @param maxY    - inclusive upper y bound, in world coordinates and inside the section
+     * @param maxZ    - inclusive upper z bound, in world coordinates and inside the section
+     * @param visitor - the visitor to pass the matching blocks to
+     *
+     * @return {@code false} if the visitor stopped the scan.
+     */
+    public boolean scanSection(@Nullable ChunkSection section, int minX, int minY, int minZ, int maxX, int maxY, int maxZ, BlockVisitor visitor) {
+        if (!canMatch(section)) {
+            return true;
+        }
+        boolean empty = ChunkSection.isEmpty(section);
+        for (int y = minY; y <= maxY; y++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                for (int x = minX; x <= maxX; x++) {
+                    BlockState state = empty ? AIR : section.getBlockState(x & 15, y & 15, z & 15);
+                    if (matches(state) && !visitor.visit(cursor.setPos(x, y, z), state)) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Visits the matching blocks in the given volume, one section at a time. Chunks that aren't loaded get loaded, and positions outside of the world are skipped.
+     *
+     * @return {@code false} if the visitor stopped the scan.
+     */
+    public boolean scan(IWorldReader world, int minX, int minY, int minZ, int maxX, int maxY, int maxZ, BlockVisitor visitor) {
+        minY = Math.max(minY, 0);
+        maxY = Math.min(maxY, world.getHeight() - 1);
+        for (int sectionY = minY >> 4; sectionY <= maxY >> 4; sectionY++) {
+            for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+                for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++) {
+                    IChunk chunk = world.getChunk(chunkX, chunkZ);
+                    if (!scanSection(chunk.getSections()[sectionY], Math.max(minX, chunkX << 4), Math.max(minY, sectionY << 4), Math.max(minZ, chunkZ << 4),
+                          Math.min(maxX, (chunkX << 4) + 15), Math.min(maxY, (sectionY << 4) + 15), Math.min(maxZ, (chunkZ << 4) + 15), visitor)) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    @FunctionalInterface
+    public interface BlockVisitor {
+
+        /**
+         * @param pos   - position of the block, this is the scanner's cursor so it must be copied to be kept
+         * @param state - state of the block
+         *
+         * @return {@code false} to stop the scan.
+         */
+        boolean visit(BlockPos pos, BlockState state);
+    }
+}
@@ -1,7 +1,8 @@
 package mekanism.common.util;
 
-import java.util.Set;
+import java.util.Collection;
 import java.util.function.BiConsumer;
+import mekanism.api.energy.FixedEnergy;
 import mekanism.common.base.SplitInfo;
 import mekanism.common.base.SplitInfo.DoubleSplitInfo;
 import mekanism.common.base.SplitInfo.IntegerSplitInfo;
@@ -27,7 +28,7 @@ public class EmitUtils {
      * @return The amount that actually got sent.
      */
     private static <HANDLER, TYPE extends Number & Comparable<TYPE>, EXTRA, TARGET extends Target<HANDLER, TYPE, EXTRA>> TYPE sendToAcceptors(
-          Set<TARGET> availableTargets, int totalTargets, SplitInfo<TYPE> splitInfo, EXTRA toSend) {
+          Collection<TARGET> availableTargets, int totalTargets, SplitInfo<TYPE> splitInfo, EXTRA toSend) {
         if (availableTargets.isEmpty() || totalTargets == 0) {
             return splitInfo.getTotalSent();
         }
@@ -61,7 +62,7 @@ public class EmitUtils {
      *
      * @return The amount that actually got sent.
      */
-    public static <HANDLER, EXTRA, TARGET extends Target<HANDLER, Integer, EXTRA>> int sendToAcceptors(Set<TARGET> availableTargets, int totalTargets, int amountToSplit, EXTRA toSend) {
+    public static <HANDLER, EXTRA, TARGET extends Target<HANDLER, Integer, EXTRA>> int sendToAcceptors(Collection<TARGET> availableTargets, int totalTargets, int amountToSplit, EXTRA toSend) {
         return sendToAcceptors(availableTargets, totalTargets, new IntegerSplitInfo(amountToSplit, totalTargets), toSend);
     }
 
@@ -72,8 +73,21 @@ public class EmitUtils {
      *
      * @return The amount that actually got sent
      */
-    public static double sendToAcceptors(Set<EnergyAcceptorTarget> availableTargets, int totalTargets, double amountToSplit) {
-        return sendToAcceptors(availableTargets, totalTargets, new DoubleSplitInfo(amountToSplit, totalTargets), amountToSplit);
+    public static double sendToAcceptors(Collection<EnergyAcceptorTarget> availableTargets, int totalTargets, double amountToSplit) {
+        return sendToAcceptors(availableTargets, totalTargets, FixedEnergy.of(amountToSplit)).toDouble();
+    }
+
+    /**
+     * @param availableTargets The EnergyAcceptorWrapper targets to send energy fairly to.
+     * @param totalTargets     The total number of targets. Note: this number is bigger than availableTargets.size if any targets have more than one acceptor.
+     * @param amountToSplit    The amount of energy to attempt to send, this is not changed
+     *
+     * @return The exact amount that actually got sent
+     */
+    public static FixedEnergy sendToAcceptors(Collection<EnergyAcceptorTarget> availableTargets, int totalTargets, FixedEnergy amountToSplit) {
+        DoubleSplitInfo splitInfo = new DoubleSplitInfo(amountToSplit, totalTargets);
+        sendToAcceptors(availableTargets, totalTargets, splitInfo, amountToSplit.toDouble());
+        return splitInfo.getSentEnergy();
     }
 
     /**
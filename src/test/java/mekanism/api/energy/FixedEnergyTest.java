@@ -0,0 +1,88 @@
+package mekanism.api.energy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import mekanism.common.Benchmarks;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+class FixedEnergyTest {
+
+    @Test
+    void doubleOperationsMatchConvertedAmounts() {
+        double[] values = {0, 0.00004, 0.00005, 0.1, 0.99996, 1, 1.5, 12_345.6789, -0.1, -2.75, 1E15};
+        for (double a : values) {
+            for (double b : values) {
+                assertEquals(FixedEnergy.of(a).add(FixedEnergy.of(b)), FixedEnergy.of(a).add(b), a + " + " + b);
+                assertEquals(FixedEnergy.of(a).subtract(FixedEnergy.of(b)), FixedEnergy.of(a).subtract(b), a + " - " + b);
+                assertEquals(Integer.signum(FixedEnergy.of(a).compareTo(FixedEnergy.of(b))), Integer.signum(FixedEnergy.of(a).compareTo(b)), a + " <=> " + b);
+            }
+        }
+        assertEquals(FixedEnergy.of(Long.MAX_VALUE), new FixedEnergy().add(Double.MAX_VALUE));
+        assertTrue(new FixedEnergy().compareTo(Double.POSITIVE_INFINITY) < 0);
+    }
+
+    @Test
+    void repeatedSmallAdditionsAreExact() {
+        FixedEnergy energy = FixedEnergy.of(1E12);
+        for (int i = 0; i < 10_000; i++) {
+            energy.add(0.1);
+        }
+        assertEquals(FixedEnergy.of(1E12 + 1_000), energy);
+    }
+
+    @Test
+    void splitPartsAddUpToTotal() {
+        FixedEnergy total = FixedEnergy.of(10);
+        FixedEnergy part = new FixedEnergy().setDivided(total, 3);
+        assertEquals(total.divide(3), part);
+        FixedEnergy remainder = total.copy().subtract(part).subtract(part).subtract(part);
+        assertEquals(FixedEnergy.of(0.0001), remainder);
+        //Dividing into itself
+        assertEquals(FixedEnergy.of(-0.5), FixedEnergy.of(-1).setDivided(FixedEnergy.of(-1), 2));
+    }
+
+    @Test
+    void clampKeepsAmountInRange() {
+        assertEquals(FixedEnergy.of(5), FixedEnergy.of(7.5).clamp(5));
+        assertEquals(FixedEnergy.of(2.5), FixedEnergy.of(2.5).clamp(5));
+        assertEquals(new FixedEnergy(), FixedEnergy.of(-1).clamp(5));
+    }
+
+    @Test
+    void addAndSubtractSaturate() {
+        assertEquals(FixedEnergy.of(Long.MAX_VALUE), FixedEnergy.of(Long.MAX_VALUE).add(FixedEnergy.of(1)));
+        assertEquals(FixedEnergy.of(Long.MAX_VALUE), FixedEnergy.of(Long.MAX_VALUE).add(FixedEnergy.of(Long.MAX_VALUE)));
+        assertEquals(FixedEnergy.of(Long.MIN_VALUE), FixedEnergy.of(Long.MIN_VALUE).subtract(0.5));
+        assertEquals(FixedEnergy.of(Long.MIN_VALUE), FixedEnergy.of(-2).subtract(FixedEnergy.of(Long.MAX_VALUE)));
+        assertEquals(FixedEnergy.of(Long.MAX_VALUE), FixedEnergy.of(1).subtract(FixedEnergy.of(Long.MIN_VALUE)));
+        //Amounts in range still carry and borrow exactly
+        assertEquals(FixedEnergy.of(Long.MAX_VALUE), FixedEnergy.of(Long.MAX_VALUE).subtract(1).add(0.5).add(0.5));
+    }
+
+    @Test
+    @Tag("benchmark")
+    void doubleOperationsBenchmark() {
+        double[] doubleEnergy = new double[1];
+        int[] comparisons = new int[1];
+        Benchmarks.time("double add/subtract/compare (baseline)", () -> {
+            doubleEnergy[0] += 12.3456;
+            doubleEnergy[0] -= 2.5;
+            comparisons[0] += Double.compare(doubleEnergy[0], 1_000.25);
+        });
+        FixedEnergy energy = new FixedEnergy();
+        Benchmarks.time("FixedEnergy add/subtract/compareTo double", () -> {
+            energy.add(12.3456);
+            energy.subtract(2.5);
+            comparisons[0] += energy.compareTo(1_000.25);
+        });
+        Benchmarks.time("FixedEnergy add/subtract/compareTo converted amount", () -> {
+            energy.add(FixedEnergy.of(12.3456));
+            energy.subtract(FixedEnergy.of(2.5));
+            comparisons[0] += energy.compareTo(FixedEnergy.of(1_000.25));
+        });
+        //Use the results so that the operations don't get optimized away
+        assertTrue(doubleEnergy[0] > 0 && energy.isPositive() && comparisons[0] != 0);
+    }
+}
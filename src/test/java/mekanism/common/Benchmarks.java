@@ -0,0 +1,30 @@
+package mekanism.common;
+
+import java.util.Locale;
+
+/**
+ * Minimal timing helper for the tests tagged as benchmarks, run with the benchmark gradle task. Results are only printed, as timings depend on the machine.
+ */
+public class Benchmarks {
+
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int ITERATIONS = 200_000;
+
+    /**
+     * Runs the given operation enough times for the JIT to have compiled it, then times it and prints the average time per run.
+     *
+     * @return The average time per run in nanoseconds.
+     */
+    public static double time(String name, Runnable operation) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            operation.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            operation.run();
+        }
+        double nanosPerRun = (System.nanoTime() - start) / (double) ITERATIONS;
+        System.out.println(String.format(Locale.ROOT, "%s: %.1f ns/op", name, nanosPerRun));
+        return nanosPerRun;
+    }
+}
@@ -0,0 +1,102 @@
+package mekanism.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import mekanism.common.content.miner.MItemStackFilter;
+import mekanism.common.content.miner.MMaterialFilter;
+import mekanism.common.content.miner.MModIDFilter;
+import mekanism.common.content.miner.MTagFilter;
+import mekanism.common.content.miner.MinerFilter;
+import mekanism.common.content.transporter.TItemStackFilter;
+import mekanism.common.content.transporter.TMaterialFilter;
+import mekanism.common.content.transporter.TModIDFilter;
+import mekanism.common.content.transporter.TTagFilter;
+import mekanism.common.content.transporter.TransporterFilter;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.util.registry.Bootstrap;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Filters get edited and deleted by looking up a copy that was sent over the network, so a deserialized copy of each kind of filter must be found in the list.
+ */
+class HashListFilterTest {
+
+    @BeforeAll
+    static void bootstrap() {
+        Bootstrap.register();
+    }
+
+    private static TransporterFilter<?> copy(TransporterFilter<?> filter) {
+        CompoundNBT nbtTags = new CompoundNBT();
+        filter.write(nbtTags);
+        return TransporterFilter.readFromNBT(nbtTags);
+    }
+
+    private static MinerFilter<?> copy(MinerFilter<?> filter) {
+        return MinerFilter.readFromNBT(filter.write(new CompoundNBT()));
+    }
+
+    private static <FILTER> void assertFound(HashList<FILTER> filters, FILTER copy) {
+        assertTrue(filters.contains(copy), () -> "Copy of " + copy + " not found");
+        int index = filters.indexOf(copy);
+        int size = filters.size();
+        filters.remove(copy);
+        assertEquals(size - 1, filters.size());
+        filters.add(index, copy);
+        assertTrue(filters.contains(copy));
+    }
+
+    @Test
+    void transporterFiltersFoundByCopy() {
+        TItemStackFilter itemFilter = new TItemStackFilter();
+        itemFilter.setItemStack(new ItemStack(Items.DIAMOND));
+        TMaterialFilter materialFilter = new TMaterialFilter();
+        materialFilter.setMaterialItem(new ItemStack(Items.STONE));
+        TTagFilter tagFilter = new TTagFilter();
+        tagFilter.setTagName("forge:ingots/iron");
+        TModIDFilter modIDFilter = new TModIDFilter();
+        modIDFilter.setModID("minecraft");
+
+        HashList<TransporterFilter<?>> filters = new HashList<>();
+        filters.add(itemFilter);
+        filters.add(materialFilter);
+        filters.add(tagFilter);
+        filters.add(modIDFilter);
+        for (TransporterFilter<?> filter : filters.clone()) {
+            TransporterFilter<?> copy = copy(filter);
+            assertEquals(filter.hashCode(), copy.hashCode());
+            assertFound(filters, copy);
+        }
+        //Copies of filters that are already in the list must not be added again
+        filters.add(copy(itemFilter));
+        assertEquals(4, filters.size());
+    }
+
+    @Test
+    void minerFiltersFoundByCopy() {
+        MItemStackFilter itemFilter = new MItemStackFilter(new ItemStack(Items.DIAMOND_ORE));
+        MMaterialFilter materialFilter = new MMaterialFilter();
+        materialFilter.setMaterialItem(new ItemStack(Items.STONE));
+        MTagFilter tagFilter = new MTagFilter();
+        tagFilter.setTagName("forge:ores");
+        MModIDFilter modIDFilter = new MModIDFilter();
+        modIDFilter.setModID("minecraft");
+
+        HashList<MinerFilter<?>> filters = new HashList<>();
+        filters.add(itemFilter);
+        filters.add(materialFilter);
+        filters.add(tagFilter);
+        filters.add(modIDFilter);
+        for (MinerFilter<?> filter : filters.clone()) {
+            MinerFilter<?> copy = copy(filter);
+            assertEquals(filter.hashCode(), copy.hashCode());
+            assertFound(filters, copy);
+        }
+        filters.add(copy(itemFilter));
+        assertEquals(4, filters.size());
+    }
+}
@@ -0,0 +1,151 @@
+package mekanism.common;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.netty.buffer.Unpooled;
+import mekanism.api.TileNetworkList;
+import mekanism.api.transmitters.TransmissionType;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.registry.Bootstrap;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+class TileNetworkListTest {
+
+    private static final CompoundNBT EMPTY_TAG = new CompoundNBT();
+
+    @BeforeAll
+    static void bootstrap() {
+        Bootstrap.register();
+    }
+
+    private static byte[] encode(TileNetworkList data) {
+        PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
+        PacketHandler.encode(data.toArray(), buffer);
+        byte[] bytes = new byte[buffer.readableBytes()];
+        buffer.readBytes(bytes);
+        return bytes;
+    }
+
+    private static void writeTyped(TileNetworkList data, double energy) {
+        data.addBoolean(true);
+        data.addEnum(TransmissionType.ENERGY);
+        data.addDouble(energy);
+        data.add("boxed");
+        data.addInt(3);
+        data.addLong(5L);
+    }
+
+    private static void writeBoxed(TileNetworkList data, double energy) {
+        data.add(true);
+        data.add(TransmissionType.ENERGY);
+        data.add(energy);
+        data.add("boxed");
+        data.add(3);
+        data.add(5L);
+    }
+
+    @Test
+    void typedWritesMatchBoxedValues() {
+        TileNetworkList typed = new TileNetworkList();
+        writeTyped(typed, 1_000);
+        TileNetworkList boxed = new TileNetworkList();
+        writeBoxed(boxed, 1_000);
+        //Two segments split by the boxed string
+        assertEquals(3, typed.size());
+        assertArrayEquals(encode(boxed), encode(typed));
+    }
+
+    @Test
+    void clearedListReusesSegments() {
+        TileNetworkList data = new TileNetworkList();
+        writeTyped(data, 1_000);
+        Object segment = data.get(0);
+        data.clear();
+        writeTyped(data, 2_000);
+        assertSame(segment, data.get(0));
+        TileNetworkList boxed = new TileNetworkList();
+        writeBoxed(boxed, 2_000);
+        assertArrayEquals(encode(boxed), encode(data));
+    }
+
+    /**
+     * Writes the values that {@link mekanism.common.tile.factory.TileEntityFactory#getNetworkedData(TileNetworkList)} and its super method write for an elite factory
+     * with empty tanks, the way they write them. The tile components are left out. The tile itself can't be created without the mod's registries.
+     */
+    private static void writeFactoryTyped(TileNetworkList data, int[] progress) {
+        //TileEntityMekanism
+        data.addBoolean(false);
+        //Stands in for the redstone control mode, which can't be loaded without the mod, enums get written the same way
+        data.addEnum(TransmissionType.ENERGY);
+        data.addDouble(12_345.5);
+        data.addDouble(200);
+        data.addDouble(80_000);
+        data.endSegment();
+        //TileEntityFactory
+        data.addInt(2);
+        data.addBoolean(true);
+        data.addBoolean(false);
+        data.addDouble(150.25);
+        for (int value : progress) {
+            data.addInt(value);
+        }
+        data.add(EMPTY_TAG);
+        data.add(EMPTY_TAG);
+    }
+
+    /**
+     * Writes the same values as {@link #writeFactoryTyped(TileNetworkList, int[])} the way they were written before the typed writes, boxing everything.
+     */
+    private static void writeFactoryBoxed(TileNetworkList data, int[] progress) {
+        data.add(false);
+        data.add(TransmissionType.ENERGY);
+        data.add(12_345.5);
+        data.add(200D);
+        data.add(80_000D);
+        data.endSegment();
+        data.add(2);
+        data.add(true);
+        data.add(false);
+        data.add(150.25);
+        data.add(progress.clone());
+        data.add(EMPTY_TAG);
+        data.add(EMPTY_TAG);
+    }
+
+    @Test
+    void factoryTypedWritesMatchBoxedValues() {
+        int[] progress = {0, 10, 20, 30, 40, 50, 60};
+        TileNetworkList typed = new TileNetworkList();
+        writeFactoryTyped(typed, progress);
+        TileNetworkList boxed = new TileNetworkList();
+        writeFactoryBoxed(boxed, progress);
+        assertArrayEquals(encode(boxed), encode(typed));
+    }
+
+    @Test
+    @Tag("benchmark")
+    void writeBenchmark() {
+        int[] progress = {0, 10, 20, 30, 40, 50, 60};
+        PacketBuffer output = new PacketBuffer(Unpooled.buffer());
+        //Both paths reuse their list, the same way TileEntityMekanism reuses its sync list, so only the way the values get written differs
+        TileNetworkList typed = new TileNetworkList();
+        Benchmarks.time("Elite factory sync data, typed writes", () -> {
+            typed.clear();
+            writeFactoryTyped(typed, progress);
+            output.clear();
+            PacketHandler.encode(typed.toArray(), output);
+        });
+        TileNetworkList boxed = new TileNetworkList();
+        Benchmarks.time("Elite factory sync data, boxed values", () -> {
+            boxed.clear();
+            writeFactoryBoxed(boxed, progress);
+            output.clear();
+            PacketHandler.encode(boxed.toArray(), output);
+        });
+    }
+}
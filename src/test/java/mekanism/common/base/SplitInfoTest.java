@@ -0,0 +1,107 @@
+package mekanism.common.base;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import mekanism.api.energy.FixedEnergy;
+import mekanism.common.Benchmarks;
+import mekanism.common.base.SplitInfo.DoubleSplitInfo;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+class SplitInfoTest {
+
+    @Test
+    void evenSplitNeverSendsMoreThanTheTotal() {
+        DoubleSplitInfo splitInfo = new DoubleSplitInfo(FixedEnergy.of(10), 3);
+        for (int i = 0; i < 3; i++) {
+            splitInfo.send(splitInfo.getAmountPerTarget());
+        }
+        assertFalse(splitInfo.amountPerChanged);
+        assertEquals(FixedEnergy.of(9.9999), splitInfo.getSentEnergy());
+    }
+
+    @Test
+    void partialAcceptSplitsTheRestExactly() {
+        DoubleSplitInfo splitInfo = new DoubleSplitInfo(FixedEnergy.of(10), 3);
+        splitInfo.send(0.1);
+        assertTrue(splitInfo.amountPerChanged);
+        assertEquals(4.95, splitInfo.getAmountPerTarget());
+        splitInfo.send(splitInfo.getAmountPerTarget());
+        splitInfo.send(splitInfo.getAmountPerTarget());
+        assertEquals(FixedEnergy.of(10), splitInfo.getSentEnergy());
+    }
+
+    @Test
+    void amountToSplitIsNotChanged() {
+        FixedEnergy amount = FixedEnergy.of(10);
+        DoubleSplitInfo splitInfo = new DoubleSplitInfo(amount, 2);
+        splitInfo.send(splitInfo.getAmountPerTarget());
+        assertEquals(FixedEnergy.of(10), amount);
+    }
+
+    @Test
+    @Tag("benchmark")
+    void splitBenchmark() {
+        double[] sent = new double[1];
+        Benchmarks.time("double split 6 targets, one accepting less (baseline)", () -> {
+            PlainDoubleSplitInfo splitInfo = new PlainDoubleSplitInfo(1_000_000.5, 6);
+            splitInfo.send(12.5);
+            for (int i = 0; i < 5; i++) {
+                splitInfo.send(splitInfo.getAmountPerTarget());
+            }
+            sent[0] += splitInfo.getTotalSent();
+        });
+        FixedEnergy amount = FixedEnergy.of(1_000_000.5);
+        Benchmarks.time("DoubleSplitInfo 6 targets, one accepting less", () -> {
+            DoubleSplitInfo splitInfo = new DoubleSplitInfo(amount, 6);
+            splitInfo.send(12.5);
+            for (int i = 0; i < 5; i++) {
+                splitInfo.send(splitInfo.getAmountPerTarget());
+            }
+            sent[0] += splitInfo.getTotalSent();
+        });
+        //Use the results so that the splits don't get optimized away
+        assertTrue(sent[0] > 0);
+    }
+
+    /**
+     * The double based split that {@link DoubleSplitInfo} replaced, kept as the baseline for the benchmark.
+     */
+    private static class PlainDoubleSplitInfo {
+
+        private double amountToSplit;
+        private Double amountPerTarget;
+        private double sentSoFar;
+        private int toSplitAmong;
+        private boolean amountPerChanged;
+
+        private PlainDoubleSplitInfo(double amountToSplit, int totalTargets) {
+            this.amountToSplit = amountToSplit;
+            toSplitAmong = totalTargets;
+            amountPerTarget = toSplitAmong == 0 ? 0 : amountToSplit / toSplitAmong;
+        }
+
+        private void send(Double amountNeeded) {
+            amountToSplit -= amountNeeded;
+            sentSoFar += amountNeeded;
+            toSplitAmong--;
+            if (!amountNeeded.equals(amountPerTarget) && toSplitAmong != 0) {
+                double amountPerLast = amountPerTarget;
+                amountPerTarget = amountToSplit / toSplitAmong;
+                if (!amountPerChanged && amountPerTarget != amountPerLast) {
+                    amountPerChanged = true;
+                }
+            }
+        }
+
+        private Double getAmountPerTarget() {
+            return amountPerTarget;
+        }
+
+        private Double getTotalSent() {
+            return sentSoFar;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package mekanism.common.content.fluid;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+import mekanism.common.content.fluid.FluidFloodFill.FillTarget;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import org.junit.jupiter.api.Test;
+
+class FluidFloodFillTest {
+
+    //Same directions as the Fluidic Plenisher fills in
+    private static final Set<Direction> DIRECTIONS = EnumSet.complementOf(EnumSet.of(Direction.UP));
+
+    /**
+     * Basin of empty positions surrounded by solid blocks, that can be filled until it runs out of fluid.
+     */
+    private static class Basin implements FillTarget {
+
+        private final Set<BlockPos> empty = new HashSet<>();
+        private final Set<BlockPos> filled = new HashSet<>();
+        private final Set<BlockPos> unloaded = new HashSet<>();
+        private int buckets;
+
+        private Basin(int size, int depth, int buckets) {
+            for (int x = 0; x < size; x++) {
+                for (int y = 0; y < depth; y++) {
+                    for (int z = 0; z < size; z++) {
+                        empty.add(new BlockPos(x, -y, z));
+                    }
+                }
+            }
+            this.buckets = buckets;
+        }
+
+        @Override
+        public boolean isLoaded(BlockPos pos) {
+            return !unloaded.contains(pos);
+        }
+
+        @Override
+        public boolean canReplace(BlockPos pos, boolean isPathfinding) {
+            if (filled.contains(pos)) {
+                return isPathfinding;
+            }
+            return empty.contains(pos);
+        }
+
+        @Override
+        public void fill(BlockPos pos) {
+            if (buckets > 0) {
+                buckets--;
+                empty.remove(pos);
+                filled.add(pos);
+            }
+        }
+    }
+
+    private static void fill(FluidFloodFill nodes, Basin basin, BlockPos start) {
+        nodes.enqueue(start);
+        int steps = 0;
+        while (nodes.fillNext(basin, DIRECTIONS)) {
+            assertTrue(++steps <= 1_000, "Flood fill did not finish");
+        }
+    }
+
+    @Test
+    void fillsBasin() {
+        Basin basin = new Basin(3, 2, Integer.MAX_VALUE);
+        FluidFloodFill nodes = new FluidFloodFill();
+        fill(nodes, basin, new BlockPos(1, 0, 1));
+        assertTrue(basin.empty.isEmpty());
+        assertEquals(18, basin.filled.size());
+        assertEquals(18, nodes.getVisitedCount());
+    }
+
+    @Test
+    void stopsFillingWhenOutOfFluid() {
+        Basin basin = new Basin(3, 1, 4);
+        fill(new FluidFloodFill(), basin, new BlockPos(1, 0, 1));
+        assertEquals(4, basin.filled.size());
+        assertEquals(5, basin.empty.size());
+    }
+
+    @Test
+    void skipsUnloadedPositions() {
+        Basin basin = new Basin(3, 1, Integer.MAX_VALUE);
+        BlockPos unloaded = new BlockPos(2, 0, 2);
+        basin.unloaded.add(unloaded);
+        FluidFloodFill nodes = new FluidFloodFill();
+        fill(nodes, basin, new BlockPos(0, 0, 0));
+        assertEquals(8, basin.filled.size());
+        assertFalse(basin.filled.contains(unloaded));
+    }
+}
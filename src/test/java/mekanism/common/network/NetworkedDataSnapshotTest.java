@@ -0,0 +1,112 @@
+package mekanism.common.network;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.netty.buffer.Unpooled;
+import mekanism.api.Coord4D;
+import mekanism.api.TileNetworkList;
+import mekanism.common.Benchmarks;
+import mekanism.common.PacketHandler;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.registry.Bootstrap;
+import net.minecraft.world.dimension.DimensionType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+class NetworkedDataSnapshotTest {
+
+    private static Coord4D coord;
+
+    @BeforeAll
+    static void bootstrap() {
+        Bootstrap.register();
+        coord = new Coord4D(0, 0, 0, DimensionType.OVERWORLD);
+    }
+
+    private static TileNetworkList data(double energy, boolean redstone) {
+        TileNetworkList data = new TileNetworkList();
+        data.addInt(7);
+        data.endSegment();
+        data.addDouble(energy);
+        data.addBoolean(redstone);
+        data.add("name");
+        return data;
+    }
+
+    private static byte[] encode(TileNetworkList data) {
+        PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
+        PacketHandler.encode(data.toArray(), buffer);
+        byte[] bytes = new byte[buffer.readableBytes()];
+        buffer.readBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * Sends the delta over a buffer like the network would and applies it to the client's snapshot.
+     */
+    private static byte[] sync(PacketTileEntityDelta delta, NetworkedDataSnapshot client) {
+        PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
+        PacketTileEntityDelta.encode(delta, buffer);
+        PacketBuffer data = client.apply(PacketTileEntityDelta.decode(buffer));
+        assertNotNull(data);
+        byte[] bytes = new byte[data.readableBytes()];
+        data.readBytes(bytes);
+        return bytes;
+    }
+
+    @Test
+    void onlyChangedDataIsSynced() {
+        NetworkedDataSnapshot server = new NetworkedDataSnapshot();
+        NetworkedDataSnapshot client = new NetworkedDataSnapshot();
+        PacketTileEntityDelta full = server.createDelta(coord, data(100, false));
+        assertNotNull(full);
+        assertTrue(full.isFull());
+        assertArrayEquals(encode(data(100, false)), sync(full, client));
+
+        assertNull(server.createDelta(coord, data(100, false)));
+
+        PacketTileEntityDelta delta = server.createDelta(coord, data(50, false));
+        assertNotNull(delta);
+        assertFalse(delta.isFull());
+        assertArrayEquals(encode(data(50, false)), sync(delta, client));
+    }
+
+    @Test
+    void invalidatedSnapshotSendsEverything() {
+        NetworkedDataSnapshot server = new NetworkedDataSnapshot();
+        server.createDelta(coord, data(100, false));
+        server.invalidate();
+        PacketTileEntityDelta full = server.createDelta(coord, data(100, false));
+        assertNotNull(full);
+        assertTrue(full.isFull());
+        assertArrayEquals(encode(data(100, false)), sync(full, new NetworkedDataSnapshot()));
+    }
+
+    @Test
+    void outdatedClientSnapshotIsRejected() {
+        NetworkedDataSnapshot server = new NetworkedDataSnapshot();
+        server.createDelta(coord, data(100, false));
+        PacketTileEntityDelta delta = server.createDelta(coord, data(100, true));
+        assertNotNull(delta);
+        PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
+        PacketTileEntityDelta.encode(delta, buffer);
+        assertNull(new NetworkedDataSnapshot().apply(PacketTileEntityDelta.decode(buffer)));
+    }
+
+    /**
+     * Cost of checking the data of a tile that didn't change, which is what happens every tick for most tiles while a player is using them.
+     */
+    @Test
+    @Tag("benchmark")
+    void unchangedDataBenchmark() {
+        NetworkedDataSnapshot server = new NetworkedDataSnapshot();
+        TileNetworkList data = data(100, false);
+        server.createDelta(coord, data);
+        Benchmarks.time("NetworkedDataSnapshot#createDelta unchanged", () -> server.createDelta(coord, data));
+    }
+}
@@ -0,0 +1,35 @@
+package mekanism.common.transmitters.grid;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.ref.WeakReference;
+import mekanism.common.base.EnergyAcceptorWrapper;
+import mekanism.common.base.target.EnergyAcceptorTarget;
+import net.minecraftforge.common.util.LazyOptional;
+import org.junit.jupiter.api.Test;
+
+class AcceptorCacheTest {
+
+    private static WeakReference<EnergyNetwork> trackWithDiscardedNetwork(LazyOptional<?> capability) {
+        EnergyNetwork network = new EnergyNetwork();
+        AcceptorCache<EnergyAcceptorWrapper, Double, EnergyAcceptorTarget> cache = new AcceptorCache<>(network, (c, tile, side) -> null, EnergyAcceptorTarget::new);
+        cache.track(capability);
+        return new WeakReference<>(network);
+    }
+
+    @Test
+    void trackedCapabilityDoesNotKeepNetworkLoaded() throws InterruptedException {
+        //Stands in for the long lived capability of an acceptor, that never gets invalidated while the network is around
+        LazyOptional<String> capability = LazyOptional.of(() -> "acceptor");
+        WeakReference<EnergyNetwork> network = trackWithDiscardedNetwork(capability);
+        for (int i = 0; i < 50 && network.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(network.get());
+        assertTrue(capability.isPresent());
+        //Invalidating the capability after the network is gone must not fail
+        capability.invalidate();
+    }
+}